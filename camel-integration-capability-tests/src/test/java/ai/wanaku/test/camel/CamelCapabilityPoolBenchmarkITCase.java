@@ -0,0 +1,89 @@
+package ai.wanaku.test.camel;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.fixtures.TestFixtures;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.CamelCapabilityManager;
+import ai.wanaku.test.managers.CamelCapabilityPool;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares per-test CIC setup time with a cold JVM start against a lease from a warm
+ * {@link CamelCapabilityPool}. Both are measured until the instance serves the fixture's tools.
+ */
+@Benchmark
+@QuarkusTest
+class CamelCapabilityPoolBenchmarkITCase extends CamelCapabilityTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelCapabilityPoolBenchmarkITCase.class);
+
+    private static final int ROUNDS = 5;
+    private static final String TOOL = "echo";
+
+    @BeforeEach
+    void assumeCamelCapabilityAvailable() {
+        assumeThat(isCamelCapabilityAvailable()).as("CIC JAR must be available").isTrue();
+    }
+
+    @DisplayName("Measure setup time saved by leasing pooled CIC instances")
+    @Test
+    void shouldMeasurePoolSavings(PerformanceMetrics metrics) throws Exception {
+        Path fixtureDir = TestFixtures.render("simple-tool");
+
+        LatencyStats cold = new LatencyStats();
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            CamelCapabilityManager manager = new CamelCapabilityManager(config);
+            manager.prepare(
+                    "cold-" + i,
+                    "file://" + fixtureDir.resolve("routes.camel.yaml").toAbsolutePath(),
+                    null);
+            manager.setLogContext("camel-capability", getClass().getSimpleName(), "cold-" + i);
+            try {
+                manager.start("cold-" + i);
+                McpToolWorker.awaitToolListed(manager.getMcpUrl(), TOOL::equals, Duration.ofSeconds(60));
+                cold.record(System.nanoTime() - start);
+            } finally {
+                manager.stop();
+            }
+        }
+
+        LatencyStats leased = new LatencyStats();
+        int hotSwapped = 0;
+        try (CamelCapabilityPool benchPool =
+                new CamelCapabilityPool(config, 1, Path.of("target", "cic-pool-benchmark"))) {
+            benchPool.start();
+            for (int i = 0; i < ROUNDS; i++) {
+                CamelCapabilityPool.Lease lease = benchPool.lease(fixtureDir);
+                leased.record(lease.getSetupTime());
+                hotSwapped += lease.isHotSwapped() ? 1 : 0;
+                benchPool.release(lease);
+            }
+            LOG.info(benchPool.summary());
+        }
+
+        LOG.info(
+                "CIC setup per test: cold {} vs pooled {} ({} of {} hot-swapped), saved {} ms per test",
+                cold.summary(),
+                leased.summary(),
+                hotSwapped,
+                ROUNDS,
+                String.format("%.0f", cold.meanMillis() - leased.meanMillis()));
+        metrics.recordLatency("cic.setup.cold", cold);
+        metrics.recordLatency("cic.setup.pooled", leased);
+
+        assertThat(leased.count()).isEqualTo(ROUNDS);
+    }
+}
@@ -1,57 +1,65 @@
 package ai.wanaku.test.camel;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.quarkiverse.mcp.server.ToolResponse;
+import ai.wanaku.test.WanakuTestConstants;
 import ai.wanaku.test.base.BaseIntegrationTest;
 import ai.wanaku.test.client.ForwardsClient;
 import ai.wanaku.test.client.McpTestClient;
 import ai.wanaku.test.client.SessionIdProxy;
 import ai.wanaku.test.fixtures.TestFixtures;
 import ai.wanaku.test.managers.CamelCapabilityManager;
+import ai.wanaku.test.managers.CamelCapabilityPool;
 
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.TestInfo;
 
 public abstract class CamelCapabilityTestBase extends BaseIntegrationTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelCapabilityTestBase.class);
     private static final int MAX_REGISTER_RETRIES = 2;
 
-    private static final Path FIXTURES_TARGET_DIR = Path.of("target", "test-fixtures");
+    private static final Path POOL_DIR = Path.of("target", "cic-pool");
+
+    /** Shared by all test classes of the JVM; null unless {@code wanaku.test.cic.pool.size} is set. */
+    private static CamelCapabilityPool pool;
 
     protected final List<CamelCapabilityManager> camelManagers = new ArrayList<>();
+    private final Map<CamelCapabilityManager, CamelCapabilityPool.Lease> leases = new IdentityHashMap<>();
+    private final Map<CamelCapabilityManager, String> leaseNames = new IdentityHashMap<>();
     private String currentNamespace = "default";
 
-    @BeforeEach
-    void setupCamelTestInfrastructure(TestInfo testInfo) throws IOException {
-        Files.createDirectories(FIXTURES_TARGET_DIR);
-    }
-
     @AfterEach
     void teardownCamelInfrastructure() {
         ForwardsClient forwardsClient = new ForwardsClient(getServerBaseUrl(), null);
         for (CamelCapabilityManager manager : camelManagers) {
+            CamelCapabilityPool.Lease lease = leases.get(manager);
+            String forwardName = lease != null ? leaseNames.get(manager) : manager.getName();
             try {
-                forwardsClient.remove(manager.getName());
+                forwardsClient.remove(forwardName);
             } catch (Exception e) {
-                LOG.warn("Failed to remove forward {}: {}", manager.getName(), e.getMessage());
+                LOG.warn("Failed to remove forward {}: {}", forwardName, e.getMessage());
             }
             try {
-                manager.stop();
+                if (lease != null) {
+                    pool.release(lease);
+                } else {
+                    manager.stop();
+                }
             } catch (Exception e) {
                 LOG.warn("Failed to stop CIC instance: {}", e.getMessage());
             }
         }
         camelManagers.clear();
+        leases.clear();
+        leaseNames.clear();
     }
 
     protected CamelCapabilityManager startCapability(String serviceName, String fixtureName, String namespace)
@@ -66,7 +74,27 @@ public abstract class CamelCapabilityTestBase extends BaseIntegrationTest {
             return null;
         }
 
-        Path fixtureDir = TestFixtures.load(fixtureName, FIXTURES_TARGET_DIR);
+        Path fixtureDir = TestFixtures.render(fixtureName);
+
+        CamelCapabilityPool sharedPool = getPool();
+        if (sharedPool != null) {
+            CamelCapabilityPool.Lease lease = sharedPool.lease(fixtureDir);
+            CamelCapabilityManager manager = lease.getManager();
+            LOG.info(
+                    "Leased pooled CIC for '{}' in {} ms (hot swap: {})",
+                    serviceName,
+                    lease.getSetupTime().toMillis(),
+                    lease.isHotSwapped());
+
+            registerForwardWithRetry(serviceName, manager.getMcpUrl(), namespace);
+            reconnectMcpClient(namespace);
+
+            camelManagers.add(manager);
+            leases.put(manager, lease);
+            leaseNames.put(manager, serviceName);
+            return manager;
+        }
+
         Path routesRef = fixtureDir.resolve("routes.camel.yaml");
         Path depsRef = fixtureDir.resolve("dependencies.txt");
 
@@ -88,7 +116,13 @@ public abstract class CamelCapabilityTestBase extends BaseIntegrationTest {
 
     protected void stopAndDeregister(CamelCapabilityManager manager, String serviceName) {
         if (manager != null) {
-            manager.stop();
+            CamelCapabilityPool.Lease lease = leases.remove(manager);
+            leaseNames.remove(manager);
+            if (lease != null) {
+                pool.release(lease);
+            } else {
+                manager.stop();
+            }
             camelManagers.remove(manager);
         }
 
@@ -143,6 +177,23 @@ public abstract class CamelCapabilityTestBase extends BaseIntegrationTest {
         mcpClient.when().toolsCall(toolName, args, assertions).thenAssertResults();
     }
 
+    /**
+     * Returns the JVM-wide CIC pool, starting it on first use, or null if pooling is disabled.
+     */
+    private static synchronized CamelCapabilityPool getPool() throws IOException {
+        int size = Integer.getInteger(WanakuTestConstants.PROP_CIC_POOL_SIZE, 0);
+        if (size <= 0) {
+            return null;
+        }
+        if (pool == null) {
+            CamelCapabilityPool created = new CamelCapabilityPool(config, size, POOL_DIR);
+            created.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(created::close, "cic-pool-shutdown"));
+            pool = created;
+        }
+        return pool;
+    }
+
     protected boolean isCamelCapabilityAvailable() {
         return config != null
                 && config.getCamelCapabilityJarPath() != null
@@ -0,0 +1,322 @@
+package ai.wanaku.test.camel;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.ForwardsClient;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.fixtures.TestFixtures;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.CamelCapabilityManager;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Kills one of several CIC instances serving the same tool while {@code tools/call} load runs
+ * through the router, then restarts it on the same port.
+ *
+ * <p>Every instance answers with its own name, so each call shows which instance served it. The
+ * instance that served most calls in steady state is killed with {@code destroyForcibly}. Reported
+ * are the error window (first to last failed call), the time from the kill until the router stops
+ * sending calls to the dead instance (end of the last failed call), the p99 in the seconds after
+ * the kill against steady state, and the time from restart until the instance serves calls again.
+ *
+ * <p>The router may list the tool of every forward under its own name, so the workers spread calls
+ * over the names currently listed, re-listed every half second. Calls to a name the router keeps
+ * listing for the dead instance fail until it drops the name; the kill is given
+ * {@code POST_KILL_WINDOW} to settle before the instance is restarted either way.
+ */
+@Benchmark
+@QuarkusTest
+class CamelFailoverBenchmarkITCase extends CamelCapabilityTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelFailoverBenchmarkITCase.class);
+
+    private static final String FIXTURE = "failover-tool";
+    private static final String TOOL_NAME = "failover-tool";
+    private static final int INSTANCES = 3;
+    private static final Duration STEADY_STATE = Duration.ofSeconds(10);
+    private static final Duration SPIKE_WINDOW = Duration.ofSeconds(5);
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(3);
+    private static final Duration POST_KILL_WINDOW = Duration.ofSeconds(30);
+    private static final Duration FAILOVER_TIMEOUT = Duration.ofMinutes(2);
+    private static final long REFRESH_MILLIS = 500;
+
+    private final List<CamelCapabilityManager> instances = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+    private volatile List<String> toolNames = List.of();
+    private volatile boolean running;
+
+    @BeforeEach
+    void assumeCamelCapabilityAvailable() {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+        assumeThat(isCamelCapabilityAvailable()).as("CIC JAR must be available").isTrue();
+    }
+
+    @AfterEach
+    void stopInstances() {
+        running = false;
+        ForwardsClient forwardsClient = new ForwardsClient(getServerBaseUrl(), null);
+        for (CamelCapabilityManager instance : instances) {
+            try {
+                forwardsClient.remove(instance.getName());
+            } catch (Exception e) {
+                LOG.warn("Failed to remove forward {}: {}", instance.getName(), e.getMessage());
+            }
+            instance.stop();
+        }
+        instances.clear();
+        samples.clear();
+    }
+
+    @DisplayName("Measure failover and re-admission when a CIC instance dies under load")
+    @Test
+    void shouldFailOverWhenInstanceDies(PerformanceMetrics metrics) throws Exception {
+        ForwardsClient forwardsClient = new ForwardsClient(getServerBaseUrl(), null);
+        for (int i = 0; i < INSTANCES; i++) {
+            String name = "failover-cic-" + i;
+            Path fixtureDir = TestFixtures.render(FIXTURE, Map.of("INSTANCE", name));
+            CamelCapabilityManager instance = new CamelCapabilityManager(config);
+            instance.prepare(
+                    name, "file://" + fixtureDir.resolve("routes.camel.yaml").toAbsolutePath(), null);
+            instance.setLogContext("camel-capability", getClass().getSimpleName(), name);
+            instance.start(name);
+            instances.add(instance);
+            forwardsClient.add(name, instance.getMcpUrl(), "default");
+        }
+        String mcpUrl = getServerMcpBaseUrl() + "/default/mcp";
+        toolNames = McpToolWorker.awaitToolsListed(mcpUrl, name -> name.contains(TOOL_NAME), 1, Duration.ofSeconds(60));
+        LOG.info("Router exposes the failover tool as {}", toolNames);
+
+        int concurrency = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_CONCURRENCY, WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY);
+        running = true;
+        List<Thread> workers = new ArrayList<>();
+        workers.add(Thread.ofVirtual().name("failover-refresh").start(() -> refreshTools(mcpUrl)));
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(Thread.ofVirtual().name("failover-load-" + i).start(() -> drive(mcpUrl)));
+        }
+
+        try {
+            Thread.sleep(STEADY_STATE);
+            Map<String, Long> served = samples.stream()
+                    .filter(sample -> sample.instance != null)
+                    .collect(Collectors.groupingBy(sample -> sample.instance, Collectors.counting()));
+            LOG.info("Steady-state calls per instance: {}", served);
+            assertThat(served).as("Instances serving calls before the kill").hasSizeGreaterThanOrEqualTo(2);
+            CamelCapabilityManager victim = instances.stream()
+                    .max((a, b) ->
+                            Long.compare(served.getOrDefault(a.getName(), 0L), served.getOrDefault(b.getName(), 0L)))
+                    .orElseThrow();
+
+            long killedAt = System.nanoTime();
+            victim.kill();
+            LOG.info("Killed {} (served {} calls)", victim.getName(), served.getOrDefault(victim.getName(), 0L));
+
+            boolean settled;
+            long restartedAt;
+            try {
+                settled = awaitQuiet(killedAt);
+            } finally {
+                restartedAt = System.nanoTime();
+                victim.start(victim.getName());
+            }
+            Awaitility.await("restarted instance to serve calls again")
+                    .atMost(FAILOVER_TIMEOUT)
+                    .pollInterval(Duration.ofMillis(100))
+                    .until(() -> firstServedBy(victim.getName(), restartedAt).isPresent());
+            long readmittedAt = firstServedBy(victim.getName(), restartedAt).getAsLong();
+
+            report(metrics, killedAt, settled, restartedAt, readmittedAt, victim.getStartupTime());
+        } finally {
+            running = false;
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+    }
+
+    /**
+     * Waits until no call started after the kill has failed for {@code QUIET_PERIOD}, for at most
+     * {@code POST_KILL_WINDOW}; returns whether the failures stopped.
+     */
+    private boolean awaitQuiet(long killedAt) throws InterruptedException {
+        long deadline = killedAt + POST_KILL_WINDOW.toNanos();
+        while (System.nanoTime() - lastFailureEnd(killedAt) <= QUIET_PERIOD.toNanos()) {
+            if (System.nanoTime() >= deadline) {
+                LOG.warn("Calls still failing {} s after the kill", POST_KILL_WINDOW.toSeconds());
+                return false;
+            }
+            Thread.sleep(100);
+        }
+        return true;
+    }
+
+    private void report(
+            PerformanceMetrics metrics,
+            long killedAt,
+            boolean settled,
+            long restartedAt,
+            long readmittedAt,
+            Duration startup) {
+        LatencyStats steady = new LatencyStats();
+        LatencyStats afterKill = new LatencyStats();
+        long firstFailure = Long.MAX_VALUE;
+        long lastFailureEnd = 0;
+        long failed = 0;
+        for (Sample sample : samples) {
+            if (sample.start >= killedAt && !sample.ok) {
+                failed++;
+                firstFailure = Math.min(firstFailure, sample.start);
+                lastFailureEnd = Math.max(lastFailureEnd, sample.end);
+            }
+            if (sample.ok && sample.start < killedAt) {
+                steady.record(sample.end - sample.start);
+            } else if (sample.ok && sample.start < killedAt + SPIKE_WINDOW.toNanos()) {
+                afterKill.record(sample.end - sample.start);
+            }
+        }
+
+        Duration errorWindow = Duration.ofNanos(failed > 0 ? lastFailureEnd - firstFailure : 0);
+        Duration stopRouting = Duration.ofNanos(failed > 0 ? lastFailureEnd - killedAt : 0);
+        Duration readmission = Duration.ofNanos(readmittedAt - restartedAt);
+        LOG.info(
+                "Failover: {} failed calls, error window {} ms, routing stopped after {} ms, p99 {} ms -> {} ms,"
+                        + " restarted in {} ms, re-admitted after {} ms",
+                failed,
+                errorWindow.toMillis(),
+                stopRouting.toMillis(),
+                String.format("%.1f", steady.p99Millis()),
+                String.format("%.1f", afterKill.p99Millis()),
+                startup.toMillis(),
+                readmission.toMillis());
+
+        // Without a quiet period the failures only end with the observation window
+        if (settled) {
+            metrics.recordLatency("failover.error-window", errorWindow);
+            metrics.recordLatency("failover.stop-routing", stopRouting);
+        }
+        metrics.recordLatency("failover.steady", steady);
+        metrics.recordLatency("failover.after-kill", afterKill);
+        metrics.record("failover.failed-calls", failed, "calls", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+        metrics.recordLatency("failover.restart", startup);
+        metrics.recordLatency("failover.readmission", readmission);
+    }
+
+    private void drive(String mcpUrl) {
+        McpJsonRpcClient client = null;
+        int next = 0;
+        while (running) {
+            List<String> names = toolNames;
+            String tool = names.get(next++ % names.size());
+            long start = System.nanoTime();
+            try {
+                if (client == null) {
+                    client = new McpJsonRpcClient(mcpUrl);
+                    client.initialize();
+                }
+                McpResponse response = client.callTool(tool, Map.of());
+                boolean ok = !response.isError();
+                String instance = ok
+                        ? response.getResult()
+                                .path("content")
+                                .path(0)
+                                .path("text")
+                                .asText()
+                        : null;
+                samples.add(new Sample(start, System.nanoTime(), ok, instance));
+            } catch (Exception e) {
+                samples.add(new Sample(start, System.nanoTime(), false, null));
+                if (client != null) {
+                    client.close();
+                    client = null;
+                }
+            }
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Keeps {@link #toolNames} in line with what the router lists, so that a name the router drops
+     * for the dead instance stops receiving calls and the restarted instance's name is picked up.
+     */
+    private void refreshTools(String mcpUrl) {
+        try (McpJsonRpcClient probe = new McpJsonRpcClient(mcpUrl)) {
+            while (running) {
+                try {
+                    if (!probe.isInitialized()) {
+                        probe.initialize();
+                    }
+                    List<String> names = probe.listAll("tools/list", "tools").stream()
+                            .map(tool -> tool.path("name").asText())
+                            .filter(name -> name.contains(TOOL_NAME))
+                            .toList();
+                    if (!names.isEmpty()) {
+                        toolNames = names;
+                    }
+                } catch (RuntimeException e) {
+                    LOG.debug("Failed to refresh the tool list: {}", e.getMessage());
+                }
+                try {
+                    Thread.sleep(REFRESH_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the end of the last failed call started after {@code since}, or {@code since}.
+     */
+    private long lastFailureEnd(long since) {
+        return samples.stream()
+                .filter(sample -> !sample.ok && sample.start >= since)
+                .mapToLong(sample -> sample.end)
+                .max()
+                .orElse(since);
+    }
+
+    private OptionalLong firstServedBy(String instance, long since) {
+        return samples.stream()
+                .filter(sample -> sample.start >= since && instance.equals(sample.instance))
+                .mapToLong(sample -> sample.end)
+                .min();
+    }
+
+    private static final class Sample {
+        final long start;
+        final long end;
+        final boolean ok;
+        final String instance;
+
+        Sample(long start, long end, boolean ok, String instance) {
+            this.start = start;
+            this.end = end;
+            this.ok = ok;
+            this.instance = instance;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package ai.wanaku.test.camel;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import org.awaitility.Awaitility;
@@ -34,7 +33,6 @@ class EchoToolCliITCase extends BaseIntegrationTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(EchoToolCliITCase.class);
     private static final String SERVICE_NAME = "cli-echo-svc";
-    private static final Path FIXTURES_TARGET_DIR = Path.of("target", "test-fixtures");
 
     private CLIExecutor cliExecutor;
     private CamelCapabilityManager cicManager;
@@ -45,10 +43,8 @@ class EchoToolCliITCase extends BaseIntegrationTest {
         cliExecutor = CLIExecutor.createDefault();
         assertThat(cliExecutor.isAvailable()).as("CLI must be available").isTrue();
 
-        Files.createDirectories(FIXTURES_TARGET_DIR);
-
         if (cicManager == null || !cicManager.isRunning()) {
-            Path fixtureDir = TestFixtures.load("simple-tool", FIXTURES_TARGET_DIR);
+            Path fixtureDir = TestFixtures.render("simple-tool");
             Path routesRef = fixtureDir.resolve("routes.camel.yaml");
 
             cicManager = new CamelCapabilityManager(config);
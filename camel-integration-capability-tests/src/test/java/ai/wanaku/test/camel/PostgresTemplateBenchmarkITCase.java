@@ -0,0 +1,103 @@
+package ai.wanaku.test.camel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.services.PostgresServiceManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares seeding a large dataset with handing out {@code CREATE DATABASE ... TEMPLATE} copies
+ * of it, which is what database-tool tests pay per test once the template exists.
+ *
+ * <p>The row count comes from {@code wanaku.test.bench.postgres.rows} (default 2,000,000).
+ */
+@Benchmark
+@QuarkusTest
+class PostgresTemplateBenchmarkITCase extends CamelCapabilityTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresTemplateBenchmarkITCase.class);
+
+    private static final String TEMPLATE = "bench_orders_template";
+    private static final int CLONES = 5;
+
+    private PostgresServiceManager postgres;
+
+    @BeforeEach
+    void startPostgres() {
+        assumeThat(DockerClientFactory.instance().isDockerAvailable())
+                .as("Docker is required for PostgreSQL")
+                .isTrue();
+        postgres = new PostgresServiceManager();
+        postgres.start();
+    }
+
+    @AfterEach
+    void stopPostgres() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @DisplayName("Measure template clone time against seeding a large dataset")
+    @Test
+    void shouldCloneTemplateFasterThanSeeding(PerformanceMetrics metrics) throws Exception {
+        int rows = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_POSTGRES_ROWS, WanakuTestConstants.DEFAULT_BENCH_POSTGRES_ROWS);
+        String seedSql = "CREATE TABLE orders (id BIGINT PRIMARY KEY, customer TEXT NOT NULL, amount NUMERIC(10,2));"
+                + "INSERT INTO orders SELECT i, 'customer-' || (i % 10000), (i % 1000) / 10.0"
+                + " FROM generate_series(1, " + rows + ") AS i;";
+
+        long seedStart = System.nanoTime();
+        boolean seeded = postgres.createTemplate(TEMPLATE, seedSql);
+        Duration seed = Duration.ofNanos(System.nanoTime() - seedStart);
+
+        LatencyStats clones = new LatencyStats();
+        for (int i = 0; i < CLONES; i++) {
+            long cloneStart = System.nanoTime();
+            String database = postgres.cloneTemplate(TEMPLATE);
+            clones.record(System.nanoTime() - cloneStart);
+            try {
+                assertThat(countRows(database)).as("Rows in clone %s", database).isEqualTo(rows);
+            } finally {
+                postgres.dropDatabase(database);
+            }
+        }
+
+        LOG.info(
+                "{} rows: template {} in {} ms, clone {}",
+                rows,
+                seeded ? "seeded" : "reused",
+                seed.toMillis(),
+                clones.summary());
+        // 0 when the template was reused, so every run reports the metric
+        metrics.recordLatency("postgres." + rows + ".seed", seeded ? seed : Duration.ZERO);
+        metrics.recordLatency("postgres." + rows + ".clone", clones);
+    }
+
+    private long countRows(String database) throws Exception {
+        try (Connection conn = DriverManager.getConnection(
+                        postgres.getJdbcUrl(database), postgres.getUsername(), postgres.getPassword());
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT count(*) FROM orders")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
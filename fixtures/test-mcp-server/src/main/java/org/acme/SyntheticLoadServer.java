@@ -0,0 +1,156 @@
+package org.acme;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkiverse.mcp.server.McpLog;
+import io.quarkiverse.mcp.server.Progress;
+import io.quarkiverse.mcp.server.Tool;
+import io.quarkiverse.mcp.server.ToolArg;
+import io.quarkiverse.mcp.server.ToolCallException;
+
+/**
+ * Benchmark tools with configurable latency, latency distribution, response size, CPU burn and
+ * failure rate. Every tool argument is optional and falls back to the matching
+ * {@code synthetic.*} property in {@code application.properties} (overridable with -D).
+ */
+public class SyntheticLoadServer {
+
+    @ConfigProperty(name = "synthetic.latency-ms", defaultValue = "0")
+    long defaultLatencyMs;
+
+    @ConfigProperty(name = "synthetic.latency-distribution", defaultValue = "fixed")
+    String defaultDistribution;
+
+    @ConfigProperty(name = "synthetic.response-bytes", defaultValue = "64")
+    int defaultResponseBytes;
+
+    @ConfigProperty(name = "synthetic.cpu-burn-ms", defaultValue = "0")
+    long defaultCpuBurnMs;
+
+    @ConfigProperty(name = "synthetic.failure-rate", defaultValue = "0.0")
+    double defaultFailureRate;
+
+    @Tool(description = "Synthetic downstream work: waits, burns CPU, may fail, and returns a payload of the requested size")
+    String syntheticLoad(
+            @ToolArg(description = "Mean latency in milliseconds", required = false) Long latencyMs,
+            @ToolArg(description = "Latency distribution: fixed, uniform, exponential or lognormal", required = false)
+                    String distribution,
+            @ToolArg(description = "Response payload size in bytes", required = false) Integer responseBytes,
+            @ToolArg(description = "CPU time to burn in milliseconds", required = false) Long cpuBurnMs,
+            @ToolArg(description = "Probability (0-1) that the call fails", required = false) Double failureRate) {
+        long latency = sampleLatency(
+                latencyMs != null ? latencyMs : defaultLatencyMs,
+                distribution != null ? distribution : defaultDistribution);
+        burnCpu(cpuBurnMs != null ? cpuBurnMs : defaultCpuBurnMs);
+        sleep(latency);
+
+        double rate = failureRate != null ? failureRate : defaultFailureRate;
+        if (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate) {
+            throw new ToolCallException("SYNTHETIC FAILURE: injected with failure rate " + rate);
+        }
+        return payload(responseBytes != null ? responseBytes : defaultResponseBytes);
+    }
+
+    @Tool(description = "Synthetic no-op that returns immediately, for measuring pure forwarding overhead")
+    String syntheticNoop() {
+        return "ok";
+    }
+
+    @Tool(description = "Synthetic long-running tool that streams its output as progress and log notifications before returning it")
+    String syntheticStream(
+            @ToolArg(description = "Number of chunks to emit", required = false) Integer chunks,
+            @ToolArg(description = "Delay between chunks in milliseconds", required = false) Long intervalMs,
+            @ToolArg(description = "Size of each chunk in bytes", required = false) Integer chunkBytes,
+            Progress progress,
+            McpLog log) {
+        int total = chunks != null ? chunks : 10;
+        long interval = intervalMs != null ? intervalMs : 100;
+        String chunk = payload(chunkBytes != null ? chunkBytes : 64);
+
+        StringBuilder output = new StringBuilder();
+        for (int i = 1; i <= total; i++) {
+            if (i > 1) {
+                sleep(interval);
+            }
+            if (progress.token().isPresent()) {
+                progress.notificationBuilder()
+                        .setProgress(i)
+                        .setTotal(total)
+                        .setMessage(chunk)
+                        .build()
+                        .sendAndForget();
+            } else {
+                log.info("chunk %d/%d: %s", i, total, chunk);
+            }
+            output.append(chunk);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Draws a latency around {@code meanMs}. Mirrors {@code ai.wanaku.test.load.LatencyDistribution}
+     * of the test library, which this standalone server cannot depend on.
+     */
+    static long sampleLatency(long meanMs, String distribution) {
+        if (meanMs <= 0) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (distribution.toLowerCase()) {
+            case "fixed":
+                return meanMs;
+            case "uniform":
+                return random.nextLong(2 * meanMs + 1);
+            case "exponential":
+                return Math.round(-meanMs * Math.log(1 - random.nextDouble()));
+            case "lognormal":
+                // sigma = 1, mu chosen so that the mean equals meanMs
+                double mu = Math.log(meanMs) - 0.5;
+                return Math.round(Math.exp(mu + random.nextGaussian()));
+            default:
+                throw new ToolCallException("INVALID: Unknown latency distribution '" + distribution + "'.");
+        }
+    }
+
+    private static void burnCpu(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long acc = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1000; i++) {
+                acc = acc * 31 + i;
+            }
+        }
+        if (acc == 42) {
+            // Keeps the loop from being optimized away
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToolCallException("INTERRUPTED: Synthetic latency was interrupted.");
+        }
+    }
+
+    private static String payload(int bytes) {
+        if (bytes <= 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(bytes);
+        while (sb.length() < bytes) {
+            sb.append((char) ('a' + sb.length() % 26));
+        }
+        return sb.toString();
+    }
+}
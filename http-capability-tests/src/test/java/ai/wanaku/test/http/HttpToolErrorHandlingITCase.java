@@ -1,8 +1,9 @@
 package ai.wanaku.test.http;
 
+import java.io.IOException;
 import java.util.Map;
-import org.testcontainers.containers.GenericContainer;
 import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.mock.EmbeddedHttpBackend;
 import ai.wanaku.test.model.HttpToolConfig;
 
 import org.junit.jupiter.api.AfterAll;
@@ -16,22 +17,20 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 @QuarkusTest
 class HttpToolErrorHandlingITCase extends HttpCapabilityTestBase {
 
-    @SuppressWarnings("resource")
-    private static GenericContainer<?> httpbinContainer;
+    private static EmbeddedHttpBackend backend;
 
-    private static String httpbinBaseUrl;
+    private static String backendBaseUrl;
 
     @BeforeAll
-    static void startHttpbin() {
-        httpbinContainer = new GenericContainer<>("mccutchen/go-httpbin").withExposedPorts(8080);
-        httpbinContainer.start();
-        httpbinBaseUrl = "http://" + httpbinContainer.getHost() + ":" + httpbinContainer.getMappedPort(8080);
+    static void startBackend() throws IOException {
+        backend = new EmbeddedHttpBackend().start();
+        backendBaseUrl = backend.getBaseUrl();
     }
 
     @AfterAll
-    static void stopHttpbin() {
-        if (httpbinContainer != null) {
-            httpbinContainer.stop();
+    static void stopBackend() {
+        if (backend != null) {
+            backend.close();
         }
     }
 
@@ -72,7 +71,7 @@ class HttpToolErrorHandlingITCase extends HttpCapabilityTestBase {
         HttpToolConfig config = HttpToolConfig.builder()
                 .name("not-found-tool")
                 .description("Tool pointing to 404 endpoint")
-                .uri(httpbinBaseUrl + "/status/404")
+                .uri(backendBaseUrl + "/status/404")
                 .build();
 
         routerClient.registerTool(config);
@@ -92,7 +91,7 @@ class HttpToolErrorHandlingITCase extends HttpCapabilityTestBase {
         HttpToolConfig config = HttpToolConfig.builder()
                 .name("server-error-tool")
                 .description("Tool pointing to 500 endpoint")
-                .uri(httpbinBaseUrl + "/status/500")
+                .uri(backendBaseUrl + "/status/500")
                 .build();
 
         routerClient.registerTool(config);
@@ -112,7 +111,7 @@ class HttpToolErrorHandlingITCase extends HttpCapabilityTestBase {
         HttpToolConfig config = HttpToolConfig.builder()
                 .name("empty-response-tool")
                 .description("Tool pointing to endpoint that returns 204")
-                .uri(httpbinBaseUrl + "/status/204")
+                .uri(backendBaseUrl + "/status/204")
                 .build();
 
         routerClient.registerTool(config);
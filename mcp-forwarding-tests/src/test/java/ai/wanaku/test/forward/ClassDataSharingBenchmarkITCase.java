@@ -0,0 +1,148 @@
+package ai.wanaku.test.forward;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.managers.MockMcpServerManager;
+import ai.wanaku.test.managers.MockMcpServerManager.LaunchMode;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.model.SyntheticLoadConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares startup and warm-up of the mock MCP server on the JVM with and without an AppCDS
+ * archive.
+ *
+ * <p>Warm-up is the latency of the first tool calls after the server reports healthy, when
+ * classes for the request path are still being loaded. The launch that creates the archive is
+ * measured separately, since it pays for the dump at exit. The benchmark uses an archive of its own,
+ * so it neither removes nor rewrites the one other launches of the jar share.
+ */
+@Benchmark
+@QuarkusTest
+class ClassDataSharingBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassDataSharingBenchmarkITCase.class);
+    private static final String MOCK_SERVER_JAR = "../fixtures/test-mcp-server/target/quarkus-app/quarkus-run.jar";
+
+    private static final int LAUNCHES = 5;
+    private static final int WARMUP_CALLS = 20;
+    private static final Duration ARCHIVE_TIMEOUT = Duration.ofSeconds(10);
+
+    @BeforeEach
+    void assumeMockServerAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(Path.of(MOCK_SERVER_JAR).toFile().exists())
+                .as("Mock MCP server JAR must be available at " + MOCK_SERVER_JAR)
+                .isTrue();
+    }
+
+    @DisplayName("Compare mock MCP server startup and warm-up with and without AppCDS")
+    @Test
+    void shouldMeasureClassDataSharingGains(PerformanceMetrics metrics) throws Exception {
+        Path jar = Path.of(MOCK_SERVER_JAR).toAbsolutePath();
+        Path archiveDir = Files.createTempDirectory(
+                Files.createDirectories(Path.of(WanakuTestConstants.CDS_ARCHIVE_DIR)), "benchmark-");
+        Path archive = archiveDir.resolve("mock-mcp-server.jsa");
+        try {
+            measure(jar, archive, metrics);
+        } finally {
+            try (Stream<Path> files = Files.list(archiveDir)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(archiveDir);
+        }
+    }
+
+    private void measure(Path jar, Path archive, PerformanceMetrics metrics) throws Exception {
+        LaunchStats plain = new LaunchStats();
+        for (int i = 0; i < LAUNCHES; i++) {
+            launch(jar, null, "plain-" + i, plain);
+        }
+
+        LaunchStats training = new LaunchStats();
+        launch(jar, archive, "cds-training", training);
+        // The archive is renamed into place once the process has exited
+        Awaitility.await("CDS archive created by the first launch")
+                .atMost(ARCHIVE_TIMEOUT)
+                .until(() -> Files.exists(archive));
+
+        LaunchStats shared = new LaunchStats();
+        for (int i = 0; i < LAUNCHES; i++) {
+            launch(jar, archive, "cds-" + i, shared);
+        }
+
+        record(metrics, "plain", plain);
+        record(metrics, "cds", shared);
+        LOG.info(
+                "AppCDS: startup p50 {} ms -> {} ms, first call p50 {} ms -> {} ms, warm-up p50 {} ms -> {} ms"
+                        + " (training launch {} ms)",
+                String.format("%.0f", plain.startup.p50Millis()),
+                String.format("%.0f", shared.startup.p50Millis()),
+                String.format("%.1f", plain.firstCall.p50Millis()),
+                String.format("%.1f", shared.firstCall.p50Millis()),
+                String.format("%.1f", plain.warmup.p50Millis()),
+                String.format("%.1f", shared.warmup.p50Millis()),
+                String.format("%.0f", training.startup.p50Millis()));
+    }
+
+    private void launch(Path jar, Path archive, String label, LaunchStats stats) throws Exception {
+        MockMcpServerManager server = new MockMcpServerManager(jar, config);
+        server.setLaunchMode(LaunchMode.JVM);
+        server.setClassDataSharing(archive != null);
+        server.setClassDataSharingArchive(archive);
+        server.prepare();
+        server.setLogContext("mock-mcp-server", getClass().getSimpleName(), label);
+        try {
+            server.start(label);
+            stats.startup.record(server.getStartupTime());
+
+            try (McpJsonRpcClient client = new McpJsonRpcClient(server.getMcpUrl())) {
+                client.initialize();
+                long warmupStart = System.nanoTime();
+                for (int i = 0; i < WARMUP_CALLS; i++) {
+                    McpResponse response = client.callTool(SyntheticLoadConfig.SYNTHETIC_NOOP_TOOL, Map.of());
+                    assertThat(response.isError())
+                            .as("Warm-up call failed: %s", response)
+                            .isFalse();
+                    if (i == 0) {
+                        stats.firstCall.record(response.getLatency());
+                    }
+                }
+                stats.warmup.record(System.nanoTime() - warmupStart);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void record(PerformanceMetrics metrics, String mode, LaunchStats stats) {
+        metrics.recordLatency("mock.cds." + mode + ".startup", stats.startup);
+        metrics.recordLatency("mock.cds." + mode + ".first-call", stats.firstCall);
+        metrics.recordLatency("mock.cds." + mode + ".warmup", stats.warmup);
+    }
+
+    private static class LaunchStats {
+        private final LatencyStats startup = new LatencyStats();
+        private final LatencyStats firstCall = new LatencyStats();
+        private final LatencyStats warmup = new LatencyStats();
+    }
+}
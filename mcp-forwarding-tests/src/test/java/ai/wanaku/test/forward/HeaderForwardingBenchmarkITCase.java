@@ -0,0 +1,338 @@
+package ai.wanaku.test.forward;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpTestClient;
+import ai.wanaku.test.client.SessionIdProxy;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+import ai.wanaku.test.mock.RecordedRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Measures what client headers cost on forwarded tool calls and checks that they arrive intact
+ * under concurrency.
+ *
+ * <p>Each load worker is an {@link McpTestClient} whose {@code extraHeaders} carry values unique to
+ * that worker. Two sweeps run: 0 to 64 custom headers of fixed size, and a single
+ * {@code Authorization} bearer token growing to JWT-with-claims sizes. The forwarded tool compares
+ * every header it receives with the value the calling worker sent, so headers mixed up between
+ * concurrent sessions show up as corrupted; the bearer token must arrive on every call. A sweep
+ * stops at the first level no call succeeds at, provided a direct initialize with those headers
+ * confirms that the router rejects them, which gives the largest accepted header size.
+ */
+@Benchmark
+@QuarkusTest
+class HeaderForwardingBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeaderForwardingBenchmarkITCase.class);
+    private static final String FORWARD_NAME = "header-bench-fwd";
+    private static final String TOOL_NAME = "header-check";
+    private static final String HEADER_PREFIX = "X-Bench-Header-";
+    private static final int HEADER_SIZE = 128;
+    private static final int[] HEADER_COUNTS = {1, 4, 16, 64};
+    private static final int[] TOKEN_SIZES = {1024, 4096, 8192, 16384};
+    private static final String FILLER = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final Pattern VERDICT = Pattern.compile("forwarded=(\\d+) corrupted=(\\d+)");
+
+    private EmbeddedMcpServer server;
+
+    @BeforeEach
+    void assumeRouterAvailable() {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+
+    @DisplayName("Measure header forwarding overhead and fidelity under concurrency")
+    @Test
+    void shouldForwardHeadersIntact(PerformanceMetrics metrics) throws Exception {
+        EmbeddedMcpServer.ToolHandler check = HeaderForwardingBenchmarkITCase::verifyHeaders;
+        server = new EmbeddedMcpServer(FORWARD_NAME)
+                .tool(
+                        TOOL_NAME,
+                        "Compares the received headers with the expected ones",
+                        Map.of(
+                                "worker",
+                                "Worker index",
+                                "headers",
+                                "Custom header count",
+                                "size",
+                                "Header size",
+                                "token",
+                                "Bearer token size"),
+                        check)
+                .start();
+        forwardsClient.add(FORWARD_NAME, server.getMcpUrl(), "default");
+        String toolName = McpToolWorker.awaitToolListed(
+                getTargetMcpUrl(), name -> name.contains(TOOL_NAME), Duration.ofSeconds(60));
+
+        Level baseline = new Level("headers-0", 0, 0, 0);
+        LoadResult baselineResult = measure(baseline, toolName, metrics);
+        assertThat(baselineResult.getFailures())
+                .as("Failed calls without headers")
+                .isZero();
+        double baselineP50 = baselineResult.getLatencies().p50Millis();
+
+        for (List<Level> sweep : List.of(countSweep(), tokenSweep())) {
+            long maxAccepted = 0;
+            for (Level level : sweep) {
+                LoadResult result = measure(level, toolName, metrics);
+                if (result.getSuccesses() == 0) {
+                    assertThat(routerAccepts(level))
+                            .as(
+                                    "No call succeeded at %s although the router accepts its headers: %s",
+                                    level.label, result.summary())
+                            .isFalse();
+                    break;
+                }
+                assertThat(result.getFailures())
+                        .as("Failed calls at " + level.label)
+                        .isZero();
+                maxAccepted = level.bytes();
+                double added = result.getLatencies().p50Millis() - baselineP50;
+                metrics.record(
+                        "header-forwarding." + level.label + ".added",
+                        added,
+                        "ms",
+                        PerformanceMetrics.Direction.LOWER_IS_BETTER);
+            }
+            String sweepName = sweep.get(0).token > 0 ? "token" : "headers";
+            metrics.record(
+                    "header-forwarding." + sweepName + ".max-accepted",
+                    maxAccepted / 1024.0,
+                    "KiB",
+                    PerformanceMetrics.Direction.HIGHER_IS_BETTER);
+        }
+    }
+
+    private LoadResult measure(Level level, String toolName, PerformanceMetrics metrics) {
+        AtomicInteger workers = new AtomicInteger();
+        AtomicLong forwarded = new AtomicLong();
+        AtomicLong corrupted = new AtomicLong();
+        LoadResult result = LoadGenerator.builder()
+                .fromSystemProperties()
+                .worker(() -> new HeaderWorker(level, workers.getAndIncrement(), toolName, forwarded, corrupted))
+                .build()
+                .run();
+
+        long sent = result.getSuccesses() * level.expectedHeaders();
+        double forwardedShare = sent > 0 ? 100.0 * forwarded.get() / sent : 100;
+        LOG.info(
+                "{}: {}, {}% of headers forwarded, {} corrupted",
+                level.label, result.summary(), String.format("%.1f", forwardedShare), corrupted.get());
+        if (result.getSuccesses() > 0) {
+            metrics.recordLatency("header-forwarding." + level.label, result.getLatencies());
+            metrics.record(
+                    "header-forwarding." + level.label + ".forwarded",
+                    forwardedShare,
+                    "%",
+                    PerformanceMetrics.Direction.HIGHER_IS_BETTER);
+        }
+        assertThat(corrupted.get())
+                .as("Headers that arrived altered or from another session at " + level.label)
+                .isZero();
+        if (level.token > 0) {
+            assertThat(forwarded.get())
+                    .as("Authorization headers forwarded at " + level.label)
+                    .isEqualTo(sent);
+        }
+        return result;
+    }
+
+    /**
+     * Initializes one session straight against the router with the level's headers, bypassing the
+     * load path (proxy and test client), to tell a router rejection from other failures.
+     */
+    private boolean routerAccepts(Level level) {
+        try (McpJsonRpcClient client = new McpJsonRpcClient(getTargetMcpUrl(), level.headerValues(0))) {
+            client.initialize();
+            return true;
+        } catch (McpJsonRpcClient.McpClientException e) {
+            LOG.info(
+                    "Router rejected {} ({} header bytes per request): {}", level.label, level.bytes(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static List<Level> countSweep() {
+        return Arrays.stream(HEADER_COUNTS)
+                .mapToObj(count -> new Level("headers-" + count, count, HEADER_SIZE, 0))
+                .toList();
+    }
+
+    private static List<Level> tokenSweep() {
+        return Arrays.stream(TOKEN_SIZES)
+                .mapToObj(size -> new Level("token-" + size / 1024 + "k", 0, 0, size))
+                .toList();
+    }
+
+    /**
+     * Tool handler: recomputes the calling worker's header values from the arguments and counts how
+     * many arrived and how many differ.
+     */
+    private static String verifyHeaders(JsonNode args, RecordedRequest request) {
+        int worker = Integer.parseInt(args.path("worker").asText());
+        int headers = Integer.parseInt(args.path("headers").asText());
+        int size = Integer.parseInt(args.path("size").asText());
+        int token = Integer.parseInt(args.path("token").asText());
+        int forwarded = 0;
+        int corrupted = 0;
+        for (int i = 0; i < headers; i++) {
+            String actual = request.getHeader(HEADER_PREFIX + i);
+            if (actual != null) {
+                forwarded++;
+                if (!actual.equals(value(worker, "h" + i, size))) {
+                    corrupted++;
+                }
+            }
+        }
+        if (token > 0) {
+            String actual = request.getHeader("Authorization");
+            if (actual != null) {
+                forwarded++;
+                if (!actual.equals("Bearer " + value(worker, "token", token))) {
+                    corrupted++;
+                }
+            }
+        }
+        return "forwarded=" + forwarded + " corrupted=" + corrupted;
+    }
+
+    /**
+     * Builds a header value of the given size that identifies the worker and the header.
+     */
+    private static String value(int worker, String header, int size) {
+        StringBuilder value = new StringBuilder("w" + worker + "-" + header + "-");
+        while (value.length() < size) {
+            value.append(FILLER.charAt(value.length() % FILLER.length()));
+        }
+        return value.substring(0, size);
+    }
+
+    /**
+     * A load worker: one proxied MCP session whose every request carries the worker's headers.
+     */
+    private final class HeaderWorker implements LoadGenerator.Worker, AutoCloseable {
+        private final SessionIdProxy proxy;
+        private final McpTestClient client;
+        private final String toolName;
+        private final Map<String, Object> arguments;
+        private final AtomicLong forwarded;
+        private final AtomicLong corrupted;
+
+        HeaderWorker(Level level, int worker, String toolName, AtomicLong forwarded, AtomicLong corrupted)
+                throws Exception {
+            Map<String, String> headers = level.headerValues(worker);
+            this.toolName = toolName;
+            this.arguments = Map.of(
+                    "worker", String.valueOf(worker),
+                    "headers", String.valueOf(level.headers),
+                    "size", String.valueOf(level.size),
+                    "token", String.valueOf(level.token));
+            this.forwarded = forwarded;
+            this.corrupted = corrupted;
+            this.proxy = new SessionIdProxy(getServerMcpBaseUrl() + "/default");
+            proxy.start();
+            try {
+                this.client = new McpTestClient(proxy.getBaseUrl(), null, headers);
+                client.connect();
+            } catch (RuntimeException e) {
+                proxy.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void execute() {
+            try {
+                client.when()
+                        .toolsCall(toolName, arguments, response -> {
+                            assertThat(response.isError()).as("Tool error").isFalse();
+                            String text = response.content().get(0).asText().text();
+                            Matcher verdict = VERDICT.matcher(text);
+                            assertThat(verdict.find()).as("Verdict in " + text).isTrue();
+                            forwarded.addAndGet(Long.parseLong(verdict.group(1)));
+                            corrupted.addAndGet(Long.parseLong(verdict.group(2)));
+                        })
+                        .thenAssertResults();
+            } catch (AssertionError e) {
+                // The load generator counts exceptions as failed requests, not errors
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                client.disconnect();
+            } finally {
+                proxy.close();
+            }
+        }
+    }
+
+    private static final class Level {
+        final String label;
+        final int headers;
+        final int size;
+        final int token;
+
+        Level(String label, int headers, int size, int token) {
+            this.label = label;
+            this.headers = headers;
+            this.size = size;
+            this.token = token;
+        }
+
+        /**
+         * Returns the headers the given worker sends on every request at this level.
+         */
+        Map<String, String> headerValues(int worker) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < headers; i++) {
+                values.put(HEADER_PREFIX + i, value(worker, "h" + i, size));
+            }
+            if (token > 0) {
+                values.put("Authorization", "Bearer " + value(worker, "token", token));
+            }
+            return values;
+        }
+
+        int expectedHeaders() {
+            return headers + (token > 0 ? 1 : 0);
+        }
+
+        long bytes() {
+            return (long) headers * size + token;
+        }
+    }
+}
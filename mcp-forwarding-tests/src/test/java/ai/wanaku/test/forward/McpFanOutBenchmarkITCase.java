@@ -0,0 +1,102 @@
+package ai.wanaku.test.forward;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Forwards the router to many in-process MCP servers and measures setup cost, tool discovery
+ * time and call latency when requests fan out across all of them.
+ *
+ * <p>The number of downstream servers comes from {@code wanaku.test.bench.fanout.servers}
+ * (default 100).
+ */
+@Benchmark
+@QuarkusTest
+class McpFanOutBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpFanOutBenchmarkITCase.class);
+
+    private final List<EmbeddedMcpServer> servers = new ArrayList<>();
+
+    @BeforeEach
+    void assumeRouterAvailable() {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+    }
+
+    @AfterEach
+    void stopServers() {
+        servers.forEach(EmbeddedMcpServer::close);
+        servers.clear();
+    }
+
+    @DisplayName("Fan out tool calls across many embedded MCP servers")
+    @Test
+    void shouldFanOutAcrossEmbeddedServers(PerformanceMetrics metrics) throws Exception {
+        int count = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_FANOUT_SERVERS, WanakuTestConstants.DEFAULT_BENCH_FANOUT_SERVERS);
+
+        long startupStart = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            String tool = "fanout-tool-" + i;
+            servers.add(new EmbeddedMcpServer("fanout-" + i)
+                    .tool(tool, "Fan-out tool " + i, (args, request) -> tool)
+                    .start());
+        }
+        Duration startup = Duration.ofNanos(System.nanoTime() - startupStart);
+
+        long discoveryStart = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            forwardsClient.add("fanout-" + i, servers.get(i).getMcpUrl(), "default");
+        }
+        McpToolWorker.awaitToolsListed(
+                getTargetMcpUrl(), name -> name.startsWith("fanout-tool-"), count, Duration.ofMinutes(5));
+        Duration discovery = Duration.ofNanos(System.nanoTime() - discoveryStart);
+
+        LoadResult result = LoadGenerator.builder()
+                .fromSystemProperties()
+                .worker(() -> new McpToolWorker(
+                        getTargetMcpUrl(),
+                        () -> "fanout-tool-" + ThreadLocalRandom.current().nextInt(count),
+                        Map.of()))
+                .build()
+                .run();
+
+        long reached = servers.stream()
+                .filter(server -> !server.getRequests("tools/call").isEmpty())
+                .count();
+        LOG.info(
+                "Fan-out to {} servers: started in {} ms, discovered in {} ms, {} servers reached, {}",
+                count,
+                startup.toMillis(),
+                discovery.toMillis(),
+                reached,
+                result.summary());
+
+        metrics.recordLatency("fanout." + count + ".startup", startup);
+        metrics.recordLatency("fanout." + count + ".discovery", discovery);
+        metrics.recordLatency("fanout." + count + ".call", result.getLatencies());
+        metrics.recordThroughput("fanout." + count + ".call.throughput", result.getThroughput());
+
+        assertThat(result.getFailures()).as("Failed fan-out calls").isZero();
+    }
+}
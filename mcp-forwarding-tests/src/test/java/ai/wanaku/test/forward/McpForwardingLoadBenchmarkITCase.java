@@ -0,0 +1,112 @@
+package ai.wanaku.test.forward;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.load.LatencyDistribution;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.MockMcpServerManager;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.model.SyntheticLoadConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Drives the test MCP server's synthetic-load tools directly and through a router forward, so the
+ * difference is the forwarding overhead for a given downstream behavior.
+ */
+@Benchmark
+@QuarkusTest
+class McpForwardingLoadBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpForwardingLoadBenchmarkITCase.class);
+    private static final String MOCK_SERVER_JAR = "../fixtures/test-mcp-server/target/quarkus-app/quarkus-run.jar";
+    private static final String FORWARD_NAME = "synthetic-load-fwd";
+
+    private MockMcpServerManager mockServer;
+
+    @BeforeEach
+    void setupMockServerAndForward() throws Exception {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+
+        Path jarPath = Path.of(MOCK_SERVER_JAR).toAbsolutePath();
+        assumeThat(jarPath.toFile().exists())
+                .as("Mock MCP server JAR must be available at " + jarPath)
+                .isTrue();
+
+        mockServer = new MockMcpServerManager(jarPath, config);
+        mockServer.prepare();
+        mockServer.setSyntheticLoadDefaults(
+                SyntheticLoadConfig.builder().responseBytes(256).build());
+        mockServer.setLogContext("mock-mcp-server", getClass().getSimpleName(), FORWARD_NAME);
+        mockServer.start(FORWARD_NAME);
+
+        forwardsClient.add(FORWARD_NAME, mockServer.getMcpUrl(), "default");
+        McpToolWorker.awaitToolListed(
+                getTargetMcpUrl(), SyntheticLoadConfig.SYNTHETIC_LOAD_TOOL::equals, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void teardownMockServer() {
+        if (mockServer != null) {
+            mockServer.stop();
+            mockServer = null;
+        }
+    }
+
+    @DisplayName("Measure forwarding overhead for no-op and latency-bound downstream tools")
+    @Test
+    void shouldMeasureForwardingOverhead(PerformanceMetrics metrics) {
+        Map<String, Object> noop = Map.of();
+        Map<String, Object> slow = SyntheticLoadConfig.builder()
+                .latencyMs(20)
+                .distribution(LatencyDistribution.EXPONENTIAL)
+                .responseBytes(4096)
+                .build()
+                .toToolArguments();
+
+        compare(metrics, "noop", SyntheticLoadConfig.SYNTHETIC_NOOP_TOOL, noop);
+        compare(metrics, "exp20ms", SyntheticLoadConfig.SYNTHETIC_LOAD_TOOL, slow);
+    }
+
+    private void compare(PerformanceMetrics metrics, String label, String tool, Map<String, Object> args) {
+        LoadResult direct = run(mockServer.getMcpUrl(), tool, args);
+        LoadResult forwarded = run(getTargetMcpUrl(), tool, args);
+
+        assertThat(forwarded.getSuccesses()).as("Forwarded %s calls", label).isPositive();
+
+        metrics.recordLatency("forwarding." + label + ".direct", direct.getLatencies());
+        metrics.recordLatency("forwarding." + label + ".forwarded", forwarded.getLatencies());
+        metrics.recordThroughput("forwarding." + label + ".forwarded.throughput", forwarded.getThroughput());
+        LOG.info(
+                "Forwarding overhead for {}: p50 +{} ms, p99 +{} ms",
+                label,
+                String.format(
+                        "%.2f",
+                        forwarded.getLatencies().p50Millis()
+                                - direct.getLatencies().p50Millis()),
+                String.format(
+                        "%.2f",
+                        forwarded.getLatencies().p99Millis()
+                                - direct.getLatencies().p99Millis()));
+    }
+
+    private static LoadResult run(String mcpUrl, String tool, Map<String, Object> args) {
+        return LoadGenerator.builder()
+                .fromSystemProperties()
+                .worker(() -> new McpToolWorker(mcpUrl, tool, args))
+                .build()
+                .run();
+    }
+}
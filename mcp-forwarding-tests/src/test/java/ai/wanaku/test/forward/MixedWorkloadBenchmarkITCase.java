@@ -0,0 +1,152 @@
+package ai.wanaku.test.forward;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.load.MixedWorkload;
+import ai.wanaku.test.load.MixedWorkload.Operation;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Drives the router with a mixed agent-like workload over a forwarded catalog and compares
+ * Zipf-skewed popularity with a uniform spread of the same mix.
+ *
+ * <p>Resource and prompt operations are only part of the mix if the router lists the forwarded
+ * resources and prompts.
+ */
+@Benchmark
+@QuarkusTest
+class MixedWorkloadBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MixedWorkloadBenchmarkITCase.class);
+    private static final String FORWARD_NAME = "mixed-fwd";
+    private static final int TOOLS = 200;
+    private static final int RESOURCES = 50;
+    private static final int PROMPTS = 10;
+    private static final int SESSION_LENGTH = 50;
+    private static final Duration THINK_TIME = Duration.ofMillis(5);
+
+    private EmbeddedMcpServer server;
+
+    @BeforeEach
+    void assumeRouterAvailable() {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+
+    @DisplayName("Compare Zipf-skewed and uniform mixed MCP workloads")
+    @Test
+    void shouldRunMixedWorkload(PerformanceMetrics metrics) throws Exception {
+        server = new EmbeddedMcpServer(FORWARD_NAME);
+        for (int i = 0; i < TOOLS; i++) {
+            String tool = "mixed-tool-" + i;
+            server.tool(tool, "Mixed workload tool " + i, (args, request) -> tool);
+        }
+        for (int i = 0; i < RESOURCES; i++) {
+            String content = "resource " + i;
+            server.resource("mixed://resource/" + i, "mixed-resource-" + i, "text/plain", () -> content);
+        }
+        for (int i = 0; i < PROMPTS; i++) {
+            server.prompt("mixed-prompt-" + i, "Mixed workload prompt " + i, args -> "Say hello");
+        }
+        server.start();
+        forwardsClient.add(FORWARD_NAME, server.getMcpUrl(), "default");
+
+        List<String> tools = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        List<String> prompts = new ArrayList<>();
+        discoverCatalog(tools, resources, prompts);
+        LOG.info(
+                "Router lists {} tools, {} resources and {} prompts of the forwarded catalog",
+                tools.size(),
+                resources.size(),
+                prompts.size());
+
+        for (double exponent : new double[] {1.1, 0}) {
+            String label = exponent > 0 ? "zipf" : "uniform";
+            MixedWorkload.Builder builder = MixedWorkload.builder()
+                    .target(getTargetMcpUrl())
+                    .tools(tools)
+                    .weight(Operation.TOOLS_CALL, 60)
+                    .weight(Operation.TOOLS_LIST, 10)
+                    .zipfExponent(exponent)
+                    .sessionLength(SESSION_LENGTH);
+            if (!resources.isEmpty()) {
+                builder.resources(resources)
+                        .weight(Operation.RESOURCES_READ, 15)
+                        .weight(Operation.RESOURCES_LIST, 5);
+            }
+            if (!prompts.isEmpty()) {
+                builder.prompts(prompts).weight(Operation.PROMPTS_GET, 7).weight(Operation.PROMPTS_LIST, 3);
+            }
+            MixedWorkload workload = builder.build();
+
+            LoadResult result = LoadGenerator.builder()
+                    .fromSystemProperties()
+                    .thinkTime(THINK_TIME)
+                    .worker(workload)
+                    .build()
+                    .run();
+
+            LOG.info(
+                    "{} workload (top 10 tools get {}% of calls): {}",
+                    label, String.format("%.0f", workload.getToolPopularity().headShare(10) * 100), result.summary());
+            result.getLabelLatencies().forEach((method, stats) -> LOG.info("  {}: {}", method, stats.summary()));
+
+            metrics.recordLatency("mixed." + label + ".all", result.getLatencies());
+            metrics.recordThroughput("mixed." + label + ".throughput", result.getThroughput());
+            result.getLabelLatencies()
+                    .forEach((method, stats) ->
+                            metrics.recordLatency("mixed." + label + "." + method.replace('/', '.'), stats));
+
+            assertThat(result.getFailures())
+                    .as("Failed requests in the " + label + " workload: " + result.getLabelFailures())
+                    .isZero();
+        }
+    }
+
+    private void discoverCatalog(List<String> tools, List<String> resources, List<String> prompts) {
+        tools.addAll(McpToolWorker.awaitToolsListed(
+                getTargetMcpUrl(), name -> name.startsWith("mixed-tool-"), TOOLS, Duration.ofMinutes(2)));
+        try (McpJsonRpcClient probe = new McpJsonRpcClient(getTargetMcpUrl())) {
+            probe.initialize();
+            listOptional(probe, "resources/list", "resources", "uri", "mixed://", resources);
+            listOptional(probe, "prompts/list", "prompts", "name", "mixed-prompt-", prompts);
+        }
+    }
+
+    private void listOptional(
+            McpJsonRpcClient probe, String method, String field, String key, String marker, List<String> target) {
+        try {
+            probe.listAll(method, field).stream()
+                    .map(entry -> entry.path(key).asText())
+                    .filter(value -> value.contains(marker))
+                    .forEach(target::add);
+        } catch (McpJsonRpcClient.McpClientException e) {
+            LOG.info("Router does not serve {}: {}", method, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ai.wanaku.test.forward;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.managers.MockMcpServerManager;
+import ai.wanaku.test.managers.MockMcpServerManager.LaunchMode;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.utils.ProcessStats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares startup time and resident memory of mock MCP servers launched on the JVM and as
+ * native executables, for fan-out setups with many instances.
+ *
+ * <p>The native part runs only when the fixture's native executable exists (or
+ * {@code -Dwanaku.test.mock.native.build=true} builds it); otherwise only JVM numbers are recorded.
+ */
+@Benchmark
+@QuarkusTest
+class MockServerLaunchBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MockServerLaunchBenchmarkITCase.class);
+    private static final String MOCK_SERVER_JAR = "../fixtures/test-mcp-server/target/quarkus-app/quarkus-run.jar";
+
+    private final List<MockMcpServerManager> servers = new ArrayList<>();
+
+    @BeforeEach
+    void assumeMockServerAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(Path.of(MOCK_SERVER_JAR).toFile().exists())
+                .as("Mock MCP server JAR must be available at " + MOCK_SERVER_JAR)
+                .isTrue();
+    }
+
+    @AfterEach
+    void stopServers() {
+        servers.forEach(MockMcpServerManager::stop);
+        servers.clear();
+    }
+
+    @DisplayName("Compare JVM and native mock MCP server startup time and RSS")
+    @Test
+    void shouldCompareLaunchModes(PerformanceMetrics metrics) throws Exception {
+        int instances = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_MOCK_INSTANCES, WanakuTestConstants.DEFAULT_BENCH_MOCK_INSTANCES);
+
+        LaunchStats jvm = launch(LaunchMode.JVM, instances);
+        record(metrics, "jvm", jvm);
+
+        LaunchStats nativeStats = launch(LaunchMode.NATIVE, instances);
+        if (nativeStats == null) {
+            LOG.warn("Native mock MCP server not available; only JVM launch numbers were recorded");
+            return;
+        }
+        record(metrics, "native", nativeStats);
+
+        LOG.info(
+                "Native vs JVM with {} instances: startup p50 {} ms vs {} ms, RSS {} MiB vs {} MiB",
+                instances,
+                String.format("%.0f", nativeStats.startup.p50Millis()),
+                String.format("%.0f", jvm.startup.p50Millis()),
+                nativeStats.totalRss / (1024 * 1024),
+                jvm.totalRss / (1024 * 1024));
+        assertThat(nativeStats.startup.p50Millis())
+                .as("Native startup should not be slower than JVM startup")
+                .isLessThanOrEqualTo(jvm.startup.p50Millis());
+    }
+
+    private LaunchStats launch(LaunchMode mode, int instances) throws Exception {
+        LaunchStats stats = new LaunchStats();
+        for (int i = 0; i < instances; i++) {
+            MockMcpServerManager server =
+                    new MockMcpServerManager(Path.of(MOCK_SERVER_JAR).toAbsolutePath(), config);
+            server.setLaunchMode(mode);
+            server.prepare();
+            if (server.getEffectiveLaunchMode() != mode) {
+                return null;
+            }
+            server.setLogContext("mock-mcp-server", getClass().getSimpleName(), mode + "-" + i);
+            servers.add(server);
+            server.start("launch-" + mode + "-" + i);
+            stats.startup.record(server.getStartupTime());
+        }
+        for (MockMcpServerManager server : servers) {
+            long rss = ProcessStats.residentSetBytes(server.getPid());
+            if (rss > 0) {
+                stats.totalRss += rss;
+            }
+        }
+        stopServers();
+        return stats;
+    }
+
+    private static void record(PerformanceMetrics metrics, String mode, LaunchStats stats) {
+        metrics.recordLatency("mock.launch." + mode + ".startup", stats.startup);
+        metrics.record(
+                "mock.launch." + mode + ".rss",
+                stats.totalRss / (1024.0 * 1024.0),
+                "MiB",
+                PerformanceMetrics.Direction.LOWER_IS_BETTER);
+    }
+
+    private static class LaunchStats {
+        private final LatencyStats startup = new LatencyStats();
+        private long totalRss;
+    }
+}
@@ -0,0 +1,152 @@
+package ai.wanaku.test.forward;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.FaultProxy;
+import ai.wanaku.test.load.LatencyDistribution;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Shows how router tail latency and throughput degrade when one of several downstream servers
+ * turns slow.
+ *
+ * <p>Each embedded downstream is forwarded through its own {@link FaultProxy}. Load spreads evenly
+ * over all downstreams while the first proxy switches between fault profiles; calls to the
+ * unaffected downstreams are tracked separately to expose head-of-line blocking in the router.
+ */
+@Benchmark
+@QuarkusTest
+class SlowDownstreamBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlowDownstreamBenchmarkITCase.class);
+
+    private static final int DOWNSTREAMS = 4;
+    private static final String SLOW_TOOL = "downstream-tool-0";
+
+    private final List<EmbeddedMcpServer> servers = new ArrayList<>();
+    private final List<FaultProxy> proxies = new ArrayList<>();
+
+    @BeforeEach
+    void setupDownstreams() throws Exception {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+
+        for (int i = 0; i < DOWNSTREAMS; i++) {
+            String tool = "downstream-tool-" + i;
+            EmbeddedMcpServer server = new EmbeddedMcpServer("downstream-" + i)
+                    .tool(tool, "Downstream tool " + i, (args, request) -> tool)
+                    .start();
+            FaultProxy proxy = FaultProxy.forUrl(server.getBaseUrl()).start();
+            servers.add(server);
+            proxies.add(proxy);
+            forwardsClient.add("downstream-" + i, proxy.proxiedUrl(server.getMcpUrl()), "default");
+        }
+        McpToolWorker.awaitToolsListed(
+                getTargetMcpUrl(), name -> name.startsWith("downstream-tool-"), DOWNSTREAMS, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void stopDownstreams() {
+        proxies.forEach(FaultProxy::close);
+        proxies.clear();
+        servers.forEach(EmbeddedMcpServer::close);
+        servers.clear();
+    }
+
+    @DisplayName("Measure router degradation when one downstream is slow")
+    @Test
+    void shouldMeasureDegradationFromSlowDownstream(PerformanceMetrics metrics) {
+        PhaseResult healthy = runPhase(metrics, "healthy", FaultProxy.FaultProfile.none());
+        PhaseResult slow = runPhase(
+                metrics,
+                "slow-200ms",
+                FaultProxy.FaultProfile.builder()
+                        .latency(Duration.ofMillis(200), LatencyDistribution.EXPONENTIAL)
+                        .build());
+        PhaseResult stalling = runPhase(
+                metrics,
+                "stalling",
+                FaultProxy.FaultProfile.builder()
+                        .stalls(0.1, Duration.ofSeconds(1))
+                        .bandwidth(64 * 1024)
+                        .build());
+
+        for (PhaseResult degraded : List.of(slow, stalling)) {
+            LOG.info(
+                    "{} vs healthy: p99 {} -> {} ms, healthy-downstream p99 {} -> {} ms, throughput {} -> {}/s",
+                    degraded.label,
+                    String.format("%.2f", healthy.result.getLatencies().p99Millis()),
+                    String.format("%.2f", degraded.result.getLatencies().p99Millis()),
+                    String.format("%.2f", healthy.unaffected.p99Millis()),
+                    String.format("%.2f", degraded.unaffected.p99Millis()),
+                    String.format("%.0f", healthy.result.getThroughput()),
+                    String.format("%.0f", degraded.result.getThroughput()));
+        }
+        assertThat(healthy.result.getSuccesses())
+                .as("Successful calls without faults")
+                .isPositive();
+        assertThat(healthy.result.getFailures()).as("Failures without faults").isZero();
+    }
+
+    private PhaseResult runPhase(PerformanceMetrics metrics, String label, FaultProxy.FaultProfile profile) {
+        FaultProxy faulty = proxies.get(0);
+        faulty.setProfile(profile);
+        LatencyStats unaffected = new LatencyStats();
+        try {
+            LoadResult result = LoadGenerator.builder()
+                    .fromSystemProperties()
+                    .worker(() -> new McpToolWorker(
+                                    getTargetMcpUrl(),
+                                    () -> "downstream-tool-"
+                                            + ThreadLocalRandom.current().nextInt(DOWNSTREAMS),
+                                    Map.of())
+                            .onSuccess((tool, response) -> {
+                                // Calls served by a healthy downstream show head-of-line blocking
+                                if (!SLOW_TOOL.equals(tool)) {
+                                    unaffected.record(response.getLatencyNanos());
+                                }
+                            }))
+                    .build()
+                    .run();
+
+            String prefix = "slow-downstream." + label;
+            metrics.recordLatency(prefix, result.getLatencies());
+            metrics.recordLatency(prefix + ".unaffected", unaffected);
+            metrics.recordThroughput(prefix + ".throughput", result.getThroughput());
+            LOG.info("Phase {} ({}): {}, unaffected {}", label, profile, result.summary(), unaffected.summary());
+            return new PhaseResult(label, result, unaffected);
+        } finally {
+            faulty.setProfile(FaultProxy.FaultProfile.none());
+        }
+    }
+
+    private static class PhaseResult {
+        private final String label;
+        private final LoadResult result;
+        private final LatencyStats unaffected;
+
+        PhaseResult(String label, LoadResult result, LatencyStats unaffected) {
+            this.label = label;
+            this.result = result;
+            this.unaffected = unaffected;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ai.wanaku.test.forward;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpStreamingResponse;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.MockMcpServerManager;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.model.SyntheticLoadConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Measures time-to-first-byte and inter-chunk latency of a streaming tool, called directly and
+ * through a router forward.
+ *
+ * <p>The test MCP server's {@code syntheticStream} tool emits one progress notification per chunk
+ * at a fixed interval. If the router passes the stream through, forwarded chunks keep that pacing;
+ * if it buffers, they arrive together with the result and the first byte is delayed by the whole
+ * tool duration.
+ */
+@Benchmark
+@QuarkusTest
+class StreamingToolBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingToolBenchmarkITCase.class);
+    private static final String MOCK_SERVER_JAR = "../fixtures/test-mcp-server/target/quarkus-app/quarkus-run.jar";
+    private static final String FORWARD_NAME = "streaming-fwd";
+
+    private static final int CHUNKS = 10;
+    private static final long INTERVAL_MS = 100;
+    private static final int SAMPLES = 20;
+
+    private MockMcpServerManager mockServer;
+
+    @BeforeEach
+    void setupMockServerAndForward() throws Exception {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+
+        Path jarPath = Path.of(MOCK_SERVER_JAR).toAbsolutePath();
+        assumeThat(jarPath.toFile().exists())
+                .as("Mock MCP server JAR must be available at " + jarPath)
+                .isTrue();
+
+        mockServer = new MockMcpServerManager(jarPath, config);
+        mockServer.prepare();
+        mockServer.setLogContext("mock-mcp-server", getClass().getSimpleName(), FORWARD_NAME);
+        mockServer.start(FORWARD_NAME);
+
+        forwardsClient.add(FORWARD_NAME, mockServer.getMcpUrl(), "default");
+        McpToolWorker.awaitToolListed(
+                getTargetMcpUrl(), SyntheticLoadConfig.SYNTHETIC_STREAM_TOOL::equals, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void teardownMockServer() {
+        if (mockServer != null) {
+            mockServer.stop();
+            mockServer = null;
+        }
+    }
+
+    @DisplayName("Measure time-to-first-byte and inter-chunk latency of a streaming tool through the router")
+    @Test
+    void shouldMeasureStreamingPassThrough(PerformanceMetrics metrics) {
+        boolean directIncremental = measure(metrics, "direct", mockServer.getMcpUrl());
+        boolean forwardedIncremental = measure(metrics, "forwarded", getTargetMcpUrl());
+
+        assertThat(directIncremental)
+                .as("The test MCP server must stream chunks incrementally")
+                .isTrue();
+        LOG.info("Router {} streaming tool output", forwardedIncremental ? "passes through" : "buffers");
+    }
+
+    /**
+     * Runs {@link #SAMPLES} sequential streaming calls and records their timings.
+     *
+     * @return true if the chunks arrived spread over at least half of the tool's pacing
+     */
+    private boolean measure(PerformanceMetrics metrics, String label, String mcpUrl) {
+        Map<String, Object> args = Map.of("chunks", CHUNKS, "intervalMs", INTERVAL_MS, "chunkBytes", 256);
+        LatencyStats timeToFirstByte = new LatencyStats();
+        LatencyStats timeToFirstEvent = new LatencyStats();
+        LatencyStats interChunk = new LatencyStats();
+        LatencyStats spread = new LatencyStats();
+        LatencyStats total = new LatencyStats();
+
+        try (McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl)) {
+            client.initialize();
+            for (int i = 0; i < SAMPLES; i++) {
+                McpStreamingResponse response =
+                        client.callToolStreaming(SyntheticLoadConfig.SYNTHETIC_STREAM_TOOL, args);
+                assertThat(response.isError())
+                        .as("%s streaming call failed: %s", label, response)
+                        .isFalse();
+                timeToFirstByte.record(response.getTimeToFirstByte());
+                timeToFirstEvent.record(response.getTimeToFirstEvent());
+                interChunk.merge(response.getInterChunkLatencies());
+                spread.record(response.getStreamSpread());
+                total.record(response.getLatency());
+            }
+        }
+
+        String prefix = "streaming." + label;
+        metrics.recordLatency(prefix + ".ttfb", timeToFirstByte);
+        metrics.recordLatency(prefix + ".first-event", timeToFirstEvent);
+        metrics.recordLatency(prefix + ".inter-chunk", interChunk);
+        metrics.recordLatency(prefix + ".total", total);
+        metrics.record(prefix + ".spread", spread.p50Millis(), "ms", PerformanceMetrics.Direction.HIGHER_IS_BETTER);
+        LOG.info(
+                "Streaming {}: ttfb {}, inter-chunk {}, spread p50 {} ms (tool paces {} ms)",
+                label,
+                timeToFirstByte.summary(),
+                interChunk.summary(),
+                String.format("%.1f", spread.p50Millis()),
+                (CHUNKS - 1) * INTERVAL_MS);
+        return spread.p50Millis() >= (CHUNKS - 1) * INTERVAL_MS / 2.0;
+    }
+}
@@ -0,0 +1,130 @@
+package ai.wanaku.test.forward;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.SessionIdProxy;
+import ai.wanaku.test.client.TrafficRecord;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.load.ReplayResult;
+import ai.wanaku.test.load.TrafficReplayer;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Records an MCP session through a {@link SessionIdProxy} and replays it against the router in
+ * parallel sessions at recorded speed, ten times faster and unthrottled.
+ *
+ * <p>With {@code -Dwanaku.test.replay.log=<file>} a previously captured traffic log is replayed
+ * instead of the built-in session; its responses are compared but mismatches are only reported,
+ * since the router may not hold the same catalog as when it was recorded.
+ */
+@Benchmark
+@QuarkusTest
+class TrafficReplayBenchmarkITCase extends McpForwardingTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrafficReplayBenchmarkITCase.class);
+    private static final String FORWARD_NAME = "replay-fwd";
+    private static final String TOOL_NAME = "replay-echo";
+    private static final int SESSION_CALLS = 20;
+    private static final Duration THINK_TIME = Duration.ofMillis(50);
+
+    private EmbeddedMcpServer server;
+
+    @BeforeEach
+    void assumeRouterAvailable() {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+
+    @DisplayName("Replay a recorded MCP session at 1x, 10x and unthrottled speed")
+    @Test
+    void shouldReplayRecordedSession(PerformanceMetrics metrics) throws Exception {
+        String externalLog = System.getProperty(WanakuTestConstants.PROP_REPLAY_LOG);
+        List<TrafficRecord> records =
+                externalLog != null ? TrafficRecord.readAll(Path.of(externalLog)) : recordSession();
+        assertThat(records).as("Recorded exchanges").isNotEmpty();
+
+        int sessions = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_CONCURRENCY, WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY);
+        for (double speed : new double[] {1, 10, 0}) {
+            String label = speed > 0 ? (int) speed + "x" : "unthrottled";
+            ReplayResult result = TrafficReplayer.builder()
+                    .records(records)
+                    .target(getTargetMcpUrl())
+                    .speed(speed)
+                    .sessions(sessions)
+                    .build()
+                    .run();
+            result.getMismatchSamples().forEach(sample -> LOG.info("Replay mismatch: {}", sample));
+
+            metrics.recordLatency("replay." + label + ".latency", result.getLatencies());
+            metrics.recordThroughput("replay." + label + ".throughput", result.getThroughput());
+            metrics.record(
+                    "replay." + label + ".lag",
+                    result.getMaxLag().toMillis(),
+                    "ms",
+                    PerformanceMetrics.Direction.LOWER_IS_BETTER);
+
+            assertThat(result.getFailures()).as("Failed requests at " + label).isZero();
+            if (externalLog == null) {
+                assertThat(result.getMismatches())
+                        .as("Mismatched responses at " + label)
+                        .isZero();
+            }
+        }
+    }
+
+    private List<TrafficRecord> recordSession() throws Exception {
+        EmbeddedMcpServer.ToolHandler echo =
+                (args, request) -> args.path("message").asText();
+        server = new EmbeddedMcpServer(FORWARD_NAME)
+                .tool(TOOL_NAME, "Echoes its message", Map.of("message", "Text to echo"), echo)
+                .start();
+        forwardsClient.add(FORWARD_NAME, server.getMcpUrl(), "default");
+        McpToolWorker.awaitToolListed(getTargetMcpUrl(), TOOL_NAME::equals, Duration.ofSeconds(60));
+
+        Path log = Path.of("target", "traffic", "replay-benchmark.jsonl");
+        try (SessionIdProxy proxy = new SessionIdProxy(getServerMcpBaseUrl() + "/default")) {
+            proxy.start();
+            proxy.startRecording(log);
+            try (McpJsonRpcClient client = new McpJsonRpcClient(proxy.getBaseUrl() + "/mcp")) {
+                client.initialize();
+                client.listTools();
+                for (int i = 0; i < SESSION_CALLS; i++) {
+                    Thread.sleep(THINK_TIME);
+                    client.callTool(TOOL_NAME, Map.of("message", "message-" + i));
+                    if (i % 5 == 4) {
+                        client.listTools();
+                    }
+                }
+            }
+            proxy.stopRecording();
+        }
+
+        List<TrafficRecord> records = TrafficRecord.readAll(log);
+        LOG.info("Recorded {} exchanges to {}", records.size(), log);
+        return records;
+    }
+}
@@ -0,0 +1,193 @@
+package ai.wanaku.test.router;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.HttpCompression;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.client.RouterClient;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.WanakuServerManager;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.model.HttpToolConfig;
+import ai.wanaku.test.model.ToolInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares bytes on the wire and latency of large tool listings with and without
+ * {@code Accept-Encoding: gzip, deflate}, on the management API ({@link RouterClient#listTools()})
+ * and on MCP ({@code tools/list}).
+ *
+ * <p>The shared router runs without response compression, so a dedicated server is started with
+ * {@code QUARKUS_HTTP_ENABLE_COMPRESSION=true} (the environment form of
+ * {@code quarkus.http.enable-compression}, since the server binary takes no JVM flags). The
+ * compressed listings must be smaller on the wire and decode to the same tools.
+ */
+@Benchmark
+@QuarkusTest
+class CompressionBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressionBenchmarkITCase.class);
+
+    private static final int TOOLS = 2000;
+    private static final int ITERATIONS = 30;
+    private static final String TOOL_PREFIX = "compression-tool-";
+
+    @BeforeEach
+    void assumeServerBinaryAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(config.getServerBinaryPath())
+                .as("Server binary is required to start a dedicated server")
+                .isNotNull();
+        assumeThat(config.getServerBinaryPath().toFile().exists()).isTrue();
+    }
+
+    @DisplayName("Compare compressed and uncompressed tool listings")
+    @Test
+    void shouldCompareCompressedListings(PerformanceMetrics metrics) throws Exception {
+        WanakuServerManager server = new WanakuServerManager(config);
+        server.addEnvironmentVariable("QUARKUS_HTTP_ENABLE_COMPRESSION", "true");
+        server.prepare();
+        server.start("compression");
+        try {
+            RouterClient router = new RouterClient(server.getBaseUrl(), null);
+            String toolUri = server.getBaseUrl() + WanakuTestConstants.SERVER_HEALTH_PATH;
+            int concurrency = Integer.getInteger(
+                    WanakuTestConstants.PROP_BENCH_CONCURRENCY, WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY);
+            LoadResult seeded = LoadGenerator.runBatch(
+                    TOOLS,
+                    concurrency,
+                    index -> router.registerTool(HttpToolConfig.builder()
+                            .name(TOOL_PREFIX + index)
+                            .description("Compression benchmark tool number " + index + " with a typical description")
+                            .uri(toolUri)
+                            .property("query", "string", "Search query")
+                            .build()));
+            assertThat(seeded.getFailures()).as("Tool seeding must not fail").isZero();
+
+            compareManagementApi(server.getBaseUrl(), metrics);
+            compareMcp(server.getMcpBaseUrl() + "/default/mcp", metrics);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void compareManagementApi(String baseUrl, PerformanceMetrics metrics) throws Exception {
+        URI uri = URI.create(baseUrl + WanakuTestConstants.TOOLS_PATH);
+        Map<String, List<String>> listed = new HashMap<>();
+        Map<String, Integer> wireBytes = new HashMap<>();
+        for (boolean compression : new boolean[] {false, true}) {
+            String label = compression ? "compressed" : "identity";
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri).GET();
+            if (compression) {
+                request.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+            }
+            HttpResponse<byte[]> raw;
+            try (HttpClient httpClient = HttpClient.newHttpClient()) {
+                raw = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            }
+            String encoding = HttpCompression.contentEncoding(raw.headers());
+
+            RouterClient client = new RouterClient(baseUrl, null);
+            client.setCompression(compression);
+            LatencyStats latencies = new LatencyStats();
+            List<ToolInfo> tools = List.of();
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                tools = client.listTools();
+                latencies.record(System.nanoTime() - start);
+            }
+            listed.put(label, tools.stream().map(ToolInfo::getName).sorted().toList());
+            wireBytes.put(label, raw.body().length);
+
+            LOG.info(
+                    "Management API tool list ({}): {} bytes on the wire, encoding {}, {}",
+                    label,
+                    raw.body().length,
+                    encoding != null ? encoding : "identity",
+                    latencies.summary());
+            metrics.record(
+                    "compression.rest." + label + ".bytes",
+                    raw.body().length / 1024.0,
+                    "KiB",
+                    PerformanceMetrics.Direction.LOWER_IS_BETTER);
+            metrics.recordLatency("compression.rest." + label, latencies);
+        }
+        assertThat(listed.get("compressed"))
+                .as("Tools listed with compression")
+                .hasSizeGreaterThanOrEqualTo(TOOLS)
+                .isEqualTo(listed.get("identity"));
+        assertThat(wireBytes.get("compressed"))
+                .as("Compressed management API tool list bytes")
+                .isLessThan(wireBytes.get("identity"));
+    }
+
+    private void compareMcp(String mcpUrl, PerformanceMetrics metrics) {
+        McpToolWorker.awaitToolsListed(mcpUrl, name -> name.startsWith(TOOL_PREFIX), TOOLS, Duration.ofMinutes(2));
+        Map<String, List<String>> listed = new HashMap<>();
+        Map<String, Long> wireBytes = new HashMap<>();
+        for (boolean compression : new boolean[] {false, true}) {
+            String label = compression ? "compressed" : "identity";
+            try (McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl)) {
+                client.setCompression(compression);
+                client.initialize();
+
+                LatencyStats latencies = new LatencyStats();
+                long bytes = 0;
+                for (int i = 0; i < ITERATIONS; i++) {
+                    McpResponse response = client.listTools();
+                    assertThat(response.isError())
+                            .as("tools/list failed: " + response)
+                            .isFalse();
+                    latencies.record(response.getLatency());
+                    bytes = response.getBodyBytes();
+                    listed.put(label, toolNames(response.getResult().path("tools")));
+                }
+
+                wireBytes.put(label, bytes);
+                LOG.info("MCP tools/list ({}): {} bytes on the wire, {}", label, bytes, latencies.summary());
+                metrics.record(
+                        "compression.mcp." + label + ".bytes",
+                        bytes / 1024.0,
+                        "KiB",
+                        PerformanceMetrics.Direction.LOWER_IS_BETTER);
+                metrics.recordLatency("compression.mcp." + label, latencies);
+            }
+        }
+        assertThat(listed.get("compressed"))
+                .as("Tools in a compressed tools/list page")
+                .isNotEmpty()
+                .isEqualTo(listed.get("identity"));
+        assertThat(wireBytes.get("compressed"))
+                .as("Compressed tools/list page bytes")
+                .isLessThan(wireBytes.get("identity"));
+    }
+
+    private static List<String> toolNames(JsonNode tools) {
+        List<String> names = new ArrayList<>();
+        tools.forEach(tool -> names.add(tool.path("name").asText()));
+        names.sort(null);
+        return names;
+    }
+}
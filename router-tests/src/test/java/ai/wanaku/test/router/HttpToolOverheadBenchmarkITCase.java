@@ -0,0 +1,154 @@
+package ai.wanaku.test.router;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedHttpBackend;
+import ai.wanaku.test.model.HttpToolConfig;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Measures the latency the router adds to an HTTP tool call.
+ *
+ * <p>An in-process {@link EmbeddedHttpBackend} answers with a fixed delay, so the difference between
+ * calling the backend directly and calling the tool through the router's MCP endpoint is the router
+ * overhead. Each backend delay is measured separately to show whether the overhead stays constant.
+ */
+@Benchmark
+@QuarkusTest
+class HttpToolOverheadBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpToolOverheadBenchmarkITCase.class);
+
+    private static final long[] BACKEND_DELAYS_MS = {0, 10, 50};
+
+    private static EmbeddedHttpBackend backend;
+
+    @BeforeAll
+    static void startBackend() throws IOException {
+        backend = new EmbeddedHttpBackend().start();
+        for (long delayMs : BACKEND_DELAYS_MS) {
+            backend.when("/delay/" + delayMs, EmbeddedHttpBackend.Behavior.ok().delay(Duration.ofMillis(delayMs)));
+        }
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        if (backend != null) {
+            backend.close();
+        }
+    }
+
+    @BeforeEach
+    void assumeServerAvailable() {
+        assumeThat(isServerRunning())
+                .as("Router required for overhead benchmark")
+                .isTrue();
+    }
+
+    @DisplayName("Measure router overhead on HTTP tool calls against a fixed-latency backend")
+    @Test
+    void shouldMeasureRouterOverhead(PerformanceMetrics metrics) throws Exception {
+        String mcpUrl = getServerMcpBaseUrl() + "/default/mcp";
+
+        for (long delayMs : BACKEND_DELAYS_MS) {
+            String toolName = "overhead-" + delayMs + "ms";
+            URI backendUri = URI.create(backend.getBaseUrl() + "/delay/" + delayMs);
+            routerClient.registerTool(HttpToolConfig.builder()
+                    .name(toolName)
+                    .description("Backend answering after " + delayMs + " ms")
+                    .uri(backendUri.toString())
+                    .build());
+
+            LoadResult direct;
+            LoadResult routed;
+            try {
+                direct = LoadGenerator.builder()
+                        .fromSystemProperties()
+                        .worker(() -> new BackendCaller(backendUri))
+                        .build()
+                        .run();
+                routed = LoadGenerator.builder()
+                        .fromSystemProperties()
+                        .worker(() -> new McpToolWorker(mcpUrl, toolName, Map.of()))
+                        .build()
+                        .run();
+            } finally {
+                routerClient.removeTool(toolName);
+            }
+
+            assertThat(direct.getFailures())
+                    .as("Failed direct calls to the backend at %d ms", delayMs)
+                    .isZero();
+            assertThat(routed.getFailures())
+                    .as("Failed calls of tool %s through the router", toolName)
+                    .isZero();
+            assertThat(routed.getSuccesses())
+                    .as("Tool %s must answer through the router", toolName)
+                    .isPositive();
+
+            String prefix = "http-overhead." + delayMs + "ms";
+            metrics.recordLatency(prefix + ".direct", direct.getLatencies());
+            metrics.recordLatency(prefix + ".routed", routed.getLatencies());
+            metrics.recordThroughput(prefix + ".routed.throughput", routed.getThroughput());
+            double overheadP50 =
+                    routed.getLatencies().p50Millis() - direct.getLatencies().p50Millis();
+            double overheadP99 =
+                    routed.getLatencies().p99Millis() - direct.getLatencies().p99Millis();
+            metrics.record(prefix + ".overhead.p50", overheadP50, "ms", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+            metrics.record(prefix + ".overhead.p99", overheadP99, "ms", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+            LOG.info(
+                    "Backend delay {} ms: direct {}, routed {}, overhead p50 {} ms, p99 {} ms",
+                    delayMs,
+                    direct.getLatencies().summary(),
+                    routed.getLatencies().summary(),
+                    String.format("%.3f", overheadP50),
+                    String.format("%.3f", overheadP99));
+        }
+    }
+
+    /**
+     * A load worker calling the backend directly on its own HttpClient, closed by the load generator
+     * when the run ends.
+     */
+    private static final class BackendCaller implements LoadGenerator.Worker, AutoCloseable {
+        private final HttpClient client = HttpClient.newHttpClient();
+        private final HttpRequest request;
+
+        BackendCaller(URI backendUri) {
+            this.request = HttpRequest.newBuilder(backendUri).GET().build();
+        }
+
+        @Override
+        public void execute() throws Exception {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.statusCode());
+            }
+        }
+
+        @Override
+        public void close() {
+            client.close();
+        }
+    }
+}
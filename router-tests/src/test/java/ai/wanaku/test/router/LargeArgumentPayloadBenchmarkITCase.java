@@ -0,0 +1,293 @@
+package ai.wanaku.test.router;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedHttpBackend;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+import ai.wanaku.test.model.HttpToolConfig;
+import ai.wanaku.test.utils.ProcessStats;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Calls {@code tools/call} with argument payloads from 1 KiB to 50 MiB and measures latency, the
+ * router's resident memory peak and the largest payload the router accepts.
+ *
+ * <p>Each size is sent as one long string, as a large array of small objects and as an array of
+ * 64-level nested objects, to an HTTP tool and to a tool on a forwarded {@link EmbeddedMcpServer}.
+ * The forwarded tool answers with the length of the payload it received, which must match what was
+ * sent. Within a target and shape, sizes grow until the router rejects one; the largest accepted
+ * size is reported. Messages are built as raw JSON text, so the test client does not hold a tree of
+ * the payload. Memory is only reported if the test started the router.
+ */
+@Benchmark
+@QuarkusTest
+class LargeArgumentPayloadBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LargeArgumentPayloadBenchmarkITCase.class);
+
+    private static final String HTTP_TOOL = "payload-http";
+    private static final String FORWARD_NAME = "payload-fwd";
+    private static final String FORWARDED_TOOL = "payload-echo";
+    private static final int[] SIZES = {1024, 64 * 1024, 1024 * 1024, 10 * 1024 * 1024, 50 * 1024 * 1024};
+    private static final int CALLS_PER_SIZE = 3;
+    private static final int NESTING_DEPTH = 64;
+    private static final Duration RSS_SAMPLE_INTERVAL = Duration.ofMillis(20);
+    private static final String FILLER = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private static EmbeddedHttpBackend backend;
+
+    private EmbeddedMcpServer server;
+    private long requestId = 1_000_000;
+
+    enum Shape {
+        STRING,
+        ARRAY,
+        NESTED
+    }
+
+    @BeforeAll
+    static void startBackend() throws IOException {
+        backend = new EmbeddedHttpBackend().start();
+        backend.when("/payload", EmbeddedHttpBackend.Behavior.ok());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        if (backend != null) {
+            backend.close();
+        }
+    }
+
+    @BeforeEach
+    void assumeServerAvailable() {
+        assumeThat(isServerRunning())
+                .as("Router required for payload benchmark")
+                .isTrue();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+
+    @DisplayName("Measure tools/call with argument payloads from 1 KiB to 50 MiB")
+    @Test
+    void shouldMeasureLargeArguments(PerformanceMetrics metrics) throws Exception {
+        routerClient.registerTool(HttpToolConfig.builder()
+                .name(HTTP_TOOL)
+                .description("Accepts a payload")
+                .uri(backend.getBaseUrl() + "/payload")
+                .method("POST")
+                .property("payload", "string", "Payload")
+                .build());
+        EmbeddedMcpServer.ToolHandler length = (args, request) ->
+                String.valueOf(args.path("payload").toString().length());
+        server = new EmbeddedMcpServer(FORWARD_NAME)
+                .tool(FORWARDED_TOOL, "Returns the payload length", Map.of("payload", "Payload"), length)
+                .start();
+        forwardsClient.add(FORWARD_NAME, server.getMcpUrl(), "default");
+
+        String mcpUrl = getServerMcpBaseUrl() + "/default/mcp";
+        String forwardedTool =
+                McpToolWorker.awaitToolListed(mcpUrl, name -> name.contains(FORWARDED_TOOL), Duration.ofSeconds(60));
+        try (McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl)) {
+            client.initialize();
+            for (Shape shape : Shape.values()) {
+                long httpMax = measure(client, "http", HTTP_TOOL, false, shape, metrics);
+                long forwardedMax = measure(client, "forward", forwardedTool, true, shape, metrics);
+                if (shape == Shape.STRING) {
+                    assertThat(httpMax)
+                            .as("Largest string payload for the HTTP tool")
+                            .isPositive();
+                    assertThat(forwardedMax)
+                            .as("Largest string payload for the forwarded tool")
+                            .isPositive();
+                }
+            }
+        } finally {
+            routerClient.removeTool(HTTP_TOOL);
+        }
+    }
+
+    /**
+     * Sends growing payloads of one shape to one tool.
+     *
+     * @return the largest accepted payload size in bytes, or 0 if none was accepted
+     */
+    private long measure(
+            McpJsonRpcClient client,
+            String target,
+            String toolName,
+            boolean checkLength,
+            Shape shape,
+            PerformanceMetrics metrics) {
+        long pid = serverManager.getPid();
+        long maxAccepted = 0;
+        for (int size : SIZES) {
+            String payload = payload(shape, size);
+            String prefix = "payload." + target + "." + shape.name().toLowerCase() + "." + label(size);
+            LatencyStats latencies = new LatencyStats();
+            long rssBefore = ProcessStats.residentSetBytes(pid);
+            String rejection = null;
+            try (PeakRss peak = new PeakRss(pid)) {
+                for (int i = 0; i < CALLS_PER_SIZE && rejection == null; i++) {
+                    rejection = call(client, toolName, payload, checkLength, latencies);
+                }
+                if (rssBefore > 0) {
+                    metrics.record(
+                            prefix + ".rss-peak",
+                            Math.max(0, peak.get() - rssBefore) / 1024.0,
+                            "KiB",
+                            PerformanceMetrics.Direction.LOWER_IS_BETTER);
+                }
+                LOG.info(
+                        "{} {} {}: {}, router RSS +{} KiB{}",
+                        target,
+                        shape,
+                        label(size),
+                        latencies.summary(),
+                        rssBefore > 0 ? Math.max(0, peak.get() - rssBefore) / 1024 : "n/a",
+                        rejection != null ? ", rejected: " + rejection : "");
+            }
+            // The embedded server records every request body; drop them before the next size
+            server.clearRequests();
+            if (latencies.count() > 0) {
+                metrics.recordLatency(prefix, latencies);
+            }
+            if (rejection != null) {
+                break;
+            }
+            maxAccepted = size;
+        }
+        metrics.record(
+                "payload." + target + "." + shape.name().toLowerCase() + ".max-accepted",
+                maxAccepted / 1024.0,
+                "KiB",
+                PerformanceMetrics.Direction.HIGHER_IS_BETTER);
+        return maxAccepted;
+    }
+
+    /**
+     * Calls the tool once and records the latency of an accepted call.
+     *
+     * @return null if accepted, otherwise why the call was rejected
+     */
+    private String call(
+            McpJsonRpcClient client, String toolName, String payload, boolean checkLength, LatencyStats latencies) {
+        long id = requestId++;
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/call\",\"params\":{\"name\":\""
+                + toolName + "\",\"arguments\":{\"payload\":" + payload + "}}}";
+        McpResponse response;
+        try {
+            response = client.sendRaw(body, id);
+        } catch (McpJsonRpcClient.McpClientException e) {
+            return e.getMessage();
+        }
+        if (response.isError()) {
+            return "status " + response.getStatusCode() + ", " + response.getMessage();
+        }
+        if (checkLength) {
+            String received =
+                    response.getResult().path("content").path(0).path("text").asText();
+            assertThat(received)
+                    .as("Payload length received by the forwarded tool")
+                    .isEqualTo(String.valueOf(payload.length()));
+        }
+        latencies.record(response.getLatency());
+        return null;
+    }
+
+    /**
+     * Builds the payload as JSON text of at least {@code size} bytes.
+     */
+    private static String payload(Shape shape, int size) {
+        StringBuilder json = new StringBuilder(size + 256);
+        switch (shape) {
+            case STRING -> {
+                json.append('"');
+                while (json.length() < size - 1) {
+                    json.append(FILLER.charAt(json.length() % FILLER.length()));
+                }
+                json.append('"');
+            }
+            case ARRAY -> {
+                json.append('[');
+                for (int i = 0; json.length() < size - 1; i++) {
+                    json.append(i > 0 ? "," : "").append("{\"i\":").append(i).append(",\"v\":\"abcdefgh\"}");
+                }
+                json.append(']');
+            }
+            case NESTED -> {
+                json.append('[');
+                for (int i = 0; json.length() < size - 1; i++) {
+                    json.append(i > 0 ? "," : "");
+                    json.append("{\"n\":".repeat(NESTING_DEPTH - 1))
+                            .append("{\"v\":")
+                            .append(i)
+                            .append('}');
+                    json.append("}".repeat(NESTING_DEPTH - 1));
+                }
+                json.append(']');
+            }
+        }
+        return json.toString();
+    }
+
+    private static String label(int size) {
+        return size >= 1024 * 1024 ? size / (1024 * 1024) + "mb" : size / 1024 + "kb";
+    }
+
+    /**
+     * Polls the resident set size of a process in the background and keeps the highest value.
+     */
+    private static final class PeakRss implements AutoCloseable {
+        private final AtomicLong peak = new AtomicLong(-1);
+        private final Thread sampler;
+        private volatile boolean running = true;
+
+        PeakRss(long pid) {
+            sampler = Thread.ofVirtual().name("rss-sampler").start(() -> {
+                while (running && pid > 0) {
+                    peak.accumulateAndGet(ProcessStats.residentSetBytes(pid), Math::max);
+                    try {
+                        Thread.sleep(RSS_SAMPLE_INTERVAL);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        long get() {
+            return peak.get();
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            sampler.interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package ai.wanaku.test.router;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.RouterClient;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.managers.WanakuServerManager;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.model.HttpToolConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares persistence backends by registration throughput, read latency and on-disk footprint
+ * at increasing catalog sizes.
+ *
+ * <p>Backends and sizes come from {@code wanaku.test.bench.persist.backends} (default
+ * "file,memory") and {@code wanaku.test.bench.catalog.sizes} (default "1000,10000,100000").
+ * A backend the server refuses to start with is logged and left out.
+ */
+@Benchmark
+@QuarkusTest
+class PersistenceBackendBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceBackendBenchmarkITCase.class);
+
+    private static final int READ_SAMPLES = 1000;
+    private static final int LIST_SAMPLES = 5;
+
+    @BeforeEach
+    void assumeServerBinaryAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(config.getServerBinaryPath())
+                .as("Server binary is required to start dedicated servers")
+                .isNotNull();
+        assumeThat(config.getServerBinaryPath().toFile().exists()).isTrue();
+    }
+
+    @DisplayName("Compare persistence backends across catalog sizes")
+    @Test
+    void shouldComparePersistenceBackends(PerformanceMetrics metrics) throws Exception {
+        List<String> backends = listProperty(
+                WanakuTestConstants.PROP_BENCH_PERSIST_BACKENDS, WanakuTestConstants.DEFAULT_BENCH_PERSIST_BACKENDS);
+        List<Integer> sizes =
+                listProperty(
+                                WanakuTestConstants.PROP_BENCH_CATALOG_SIZES,
+                                WanakuTestConstants.DEFAULT_BENCH_CATALOG_SIZES)
+                        .stream()
+                        .map(Integer::parseInt)
+                        .toList();
+
+        List<String> measured = new ArrayList<>();
+        for (String backend : backends) {
+            for (int size : sizes) {
+                if (!measure(backend, size, metrics)) {
+                    break;
+                }
+                measured.add(backend + "@" + size);
+            }
+        }
+
+        assertThat(measured).as("At least one backend must be measured").isNotEmpty();
+    }
+
+    private boolean measure(String backend, int size, PerformanceMetrics metrics) throws IOException {
+        WanakuServerManager server = new WanakuServerManager(config);
+        server.setPersistBackend(backend);
+        server.prepare();
+        try {
+            server.start("persist-" + backend + "-" + size);
+        } catch (IllegalStateException e) {
+            LOG.warn("Backend '{}' is not supported by the server, skipping: {}", backend, e.getMessage());
+            server.stop();
+            return false;
+        }
+
+        try {
+            RouterClient client = new RouterClient(server.getBaseUrl(), null);
+            String toolUri = server.getBaseUrl() + WanakuTestConstants.SERVER_HEALTH_PATH;
+            String prefix = "persist." + backend + "." + size;
+
+            LoadResult registration = LoadGenerator.runBatch(
+                    size,
+                    concurrency(),
+                    index -> client.registerTool(HttpToolConfig.builder()
+                            .name("persist-tool-" + index)
+                            .uri(toolUri)
+                            .build()));
+            assertThat(registration.getFailures())
+                    .as("Registration failures for %s", prefix)
+                    .isZero();
+            metrics.recordThroughput(prefix + ".register.throughput", registration.getThroughput());
+            metrics.recordLatency(prefix + ".register", registration.getLatencies());
+
+            LoadResult reads = LoadGenerator.runBatch(
+                    READ_SAMPLES,
+                    concurrency(),
+                    index -> client.getToolInfo(
+                            "persist-tool-" + ThreadLocalRandom.current().nextInt(size)));
+            metrics.recordLatency(prefix + ".read", reads.getLatencies());
+
+            LatencyStats list = new LatencyStats();
+            for (int i = 0; i < LIST_SAMPLES; i++) {
+                long start = System.nanoTime();
+                assertThat(client.listTools()).hasSize(size);
+                list.record(System.nanoTime() - start);
+            }
+            metrics.recordLatency(prefix + ".list", list);
+
+            long footprint = directorySize(server.getPersistDir());
+            metrics.record(prefix + ".disk", footprint / 1024.0, "KiB", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+
+            LOG.info(
+                    "Backend {} with {} tools: register {}/s, read p50 {} ms, list p50 {} ms, disk {} KiB",
+                    backend,
+                    size,
+                    String.format("%.0f", registration.getThroughput()),
+                    String.format("%.2f", reads.getLatencies().p50Millis()),
+                    String.format("%.2f", list.p50Millis()),
+                    footprint / 1024);
+            return true;
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static int concurrency() {
+        return Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_CONCURRENCY, WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY);
+    }
+
+    private static List<String> listProperty(String property, String defaultValue) {
+        return Arrays.stream(System.getProperty(property, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    private static long directorySize(Path dir) throws IOException {
+        if (dir == null || !Files.isDirectory(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package ai.wanaku.test.router;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.config.PipelineFilter;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.managers.WanakuServerManager;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Measures the marginal latency and throughput cost of each filter in the MCP filter chain.
+ *
+ * <p>A dedicated server is started per step, beginning with only the terminal static response and
+ * adding the default chain's filters one at a time in front of it. Each step is loaded with
+ * {@code tools/list} over a session initialized per worker, so once the chain is complete the
+ * requests are served like a client's. Steps without the initialize filter answer the handshake
+ * with the terminal response; their workers call without a session and any HTTP 200 counts.
+ */
+@Benchmark
+@QuarkusTest
+class PipelineFilterBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelineFilterBenchmarkITCase.class);
+
+    @BeforeEach
+    void assumeServerBinaryAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(config.getServerBinaryPath())
+                .as("Server binary is required to start dedicated servers")
+                .isNotNull();
+        assumeThat(config.getServerBinaryPath().toFile().exists()).isTrue();
+    }
+
+    @DisplayName("Measure marginal cost of each pipeline filter")
+    @Test
+    void shouldMeasureMarginalFilterCost(PerformanceMetrics metrics) throws Exception {
+        List<PipelineFilter> defaultChain = PipelineFilter.defaultChain();
+        PipelineFilter terminal = defaultChain.get(defaultChain.size() - 1);
+        List<PipelineFilter> filters = defaultChain.subList(0, defaultChain.size() - 1);
+
+        List<PipelineFilter> chain = new ArrayList<>();
+        chain.add(terminal);
+
+        LoadResult previous = measure(chain, "terminal-only");
+        record(metrics, "00-" + terminal.getName(), previous, null);
+
+        for (int i = 0; i < filters.size(); i++) {
+            PipelineFilter filter = filters.get(i);
+            chain.add(chain.size() - 1, filter);
+            LoadResult result = measure(chain, "with-" + filter.getName());
+            record(metrics, String.format("%02d-%s", i + 1, filter.getName()), result, previous);
+            previous = result;
+        }
+    }
+
+    private LoadResult measure(List<PipelineFilter> chain, String label) throws Exception {
+        WanakuServerManager server = new WanakuServerManager(config);
+        server.setFilterChain(chain);
+        server.prepare();
+        server.start("pipeline-" + label);
+        try {
+            String mcpUrl = server.getMcpBaseUrl() + "/default/mcp";
+            LoadResult result = LoadGenerator.builder()
+                    .fromSystemProperties()
+                    .worker(() -> new MethodCaller(mcpUrl))
+                    .build()
+                    .run();
+
+            assertThat(result.getSuccesses())
+                    .as("Chain %s must answer requests", chain)
+                    .isPositive();
+            return result;
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void record(PerformanceMetrics metrics, String step, LoadResult result, LoadResult previous) {
+        String prefix = "pipeline." + step;
+        metrics.recordLatency(prefix, result.getLatencies());
+        metrics.recordThroughput(prefix + ".throughput", result.getThroughput());
+        if (previous != null) {
+            LOG.info(
+                    "Filter step {}: p50 {} ms ({} ms marginal), throughput {}/s ({}/s marginal)",
+                    step,
+                    String.format("%.3f", result.getLatencies().p50Millis()),
+                    String.format(
+                            "%+.3f",
+                            result.getLatencies().p50Millis()
+                                    - previous.getLatencies().p50Millis()),
+                    String.format("%.0f", result.getThroughput()),
+                    String.format("%+.0f", result.getThroughput() - previous.getThroughput()));
+        } else {
+            LOG.info("Filter step {}: {}", step, result.summary());
+        }
+    }
+
+    /**
+     * A load worker with its own client, closed by the load generator when the phase ends. Unlike
+     * {@link ai.wanaku.test.load.McpToolWorker} it tolerates chains that cannot initialize a
+     * session and accepts any HTTP 200, since partial chains answer with JSON-RPC errors.
+     */
+    private static final class MethodCaller implements LoadGenerator.Worker, AutoCloseable {
+        private final McpJsonRpcClient client;
+
+        MethodCaller(String mcpUrl) {
+            this.client = new McpJsonRpcClient(mcpUrl);
+            try {
+                client.initialize();
+            } catch (McpJsonRpcClient.McpClientException e) {
+                if (e.getCause() instanceof IOException) {
+                    client.close();
+                    throw e;
+                }
+                LOG.debug("Chain does not initialize sessions: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void execute() {
+            McpResponse response = client.call("tools/list", Map.of());
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.getStatusCode());
+            }
+        }
+
+        @Override
+        public void close() {
+            client.close();
+        }
+    }
+}
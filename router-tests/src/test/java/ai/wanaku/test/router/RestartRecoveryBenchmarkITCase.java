@@ -0,0 +1,168 @@
+package ai.wanaku.test.router;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.ForwardsClient;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.NamespaceClient;
+import ai.wanaku.test.client.PromptsClient;
+import ai.wanaku.test.client.RouterClient;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.managers.WanakuServerManager;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+import ai.wanaku.test.model.HttpToolConfig;
+import ai.wanaku.test.model.ResourceConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Measures how long a server takes to come back with a large persisted catalog: time until the
+ * health check passes and time until MCP serves the full catalog again.
+ *
+ * <p>For each size in {@code wanaku.test.bench.catalog.sizes} a dedicated server is seeded with
+ * that many tools, resources and prompts plus a fixed set of namespaces and forwards, stopped with
+ * its state retained, and restarted on the same ports and persist directory. The forwards point at
+ * an in-process MCP server that stays up across the restart.
+ */
+@Benchmark
+@QuarkusTest
+class RestartRecoveryBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestartRecoveryBenchmarkITCase.class);
+
+    private static final int NAMESPACES = 20;
+    private static final int FORWARDS = 5;
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofMinutes(10);
+
+    @BeforeEach
+    void assumeServerBinaryAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(config.getServerBinaryPath())
+                .as("Server binary is required to start dedicated servers")
+                .isNotNull();
+        assumeThat(config.getServerBinaryPath().toFile().exists()).isTrue();
+    }
+
+    @DisplayName("Measure restart recovery time with a large persisted catalog")
+    @Test
+    void shouldMeasureRestartRecovery(PerformanceMetrics metrics) throws Exception {
+        List<Integer> sizes = Arrays.stream(System.getProperty(
+                                WanakuTestConstants.PROP_BENCH_CATALOG_SIZES,
+                                WanakuTestConstants.DEFAULT_BENCH_CATALOG_SIZES)
+                        .split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Integer::parseInt)
+                .toList();
+
+        for (int size : sizes) {
+            measure(size, metrics);
+        }
+    }
+
+    private void measure(int size, PerformanceMetrics metrics) throws Exception {
+        WanakuServerManager server = new WanakuServerManager(config);
+        server.prepare();
+        server.start("restart-seed-" + size);
+        try (EmbeddedMcpServer upstream = new EmbeddedMcpServer("restart-upstream")
+                .tool("restart-upstream-tool", "Answers forwarded calls", (args, request) -> "ok")
+                .start()) {
+            int forwards = seed(server, upstream.getMcpUrl(), size);
+
+            Duration timeToHealthy = server.restart("restart-recover-" + size);
+            long restartedAt = System.nanoTime() - timeToHealthy.toNanos();
+
+            Duration timeToCatalog;
+            try (McpJsonRpcClient mcp = new McpJsonRpcClient(server.getMcpBaseUrl() + "/default/mcp")) {
+                Awaitility.await()
+                        .atMost(RECOVERY_TIMEOUT)
+                        .pollInterval(Duration.ofMillis(100))
+                        .ignoreExceptions()
+                        .until(() -> servesFullCatalog(mcp, size));
+                timeToCatalog = Duration.ofNanos(System.nanoTime() - restartedAt);
+            }
+
+            assertThat(new NamespaceClient(server.getBaseUrl(), null).list().size())
+                    .as("Namespaces after restart")
+                    .isGreaterThanOrEqualTo(NAMESPACES);
+            assertThat(new ForwardsClient(server.getBaseUrl(), null).list())
+                    .as("Forwards after restart")
+                    .hasSizeGreaterThanOrEqualTo(forwards);
+
+            metrics.recordLatency("restart." + size + ".healthy", timeToHealthy);
+            metrics.recordLatency("restart." + size + ".catalog", timeToCatalog);
+            LOG.info(
+                    "Restart with {} entries per kind: healthy after {} ms, full catalog after {} ms",
+                    size,
+                    timeToHealthy.toMillis(),
+                    timeToCatalog.toMillis());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private int seed(WanakuServerManager server, String upstreamUrl, int size) {
+        String baseUrl = server.getBaseUrl();
+        RouterClient router = new RouterClient(baseUrl, null);
+        PromptsClient prompts = new PromptsClient(baseUrl, null);
+        NamespaceClient namespaces = new NamespaceClient(baseUrl, null);
+        ForwardsClient forwards = new ForwardsClient(baseUrl, null);
+        int concurrency = Integer.getInteger(
+                WanakuTestConstants.PROP_BENCH_CONCURRENCY, WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY);
+        String toolUri = baseUrl + WanakuTestConstants.SERVER_HEALTH_PATH;
+
+        List<LoadResult> catalog = List.of(
+                LoadGenerator.runBatch(
+                        size,
+                        concurrency,
+                        index -> router.registerTool(HttpToolConfig.builder()
+                                .name("restart-tool-" + index)
+                                .uri(toolUri)
+                                .build())),
+                LoadGenerator.runBatch(
+                        size,
+                        concurrency,
+                        index -> router.exposeResource(ResourceConfig.builder()
+                                .name("restart-resource-" + index)
+                                .location("/tmp/restart-resource-" + index + ".txt")
+                                .build())),
+                LoadGenerator.runBatch(
+                        size, concurrency, index -> prompts.add("restart-prompt-" + index, "Prompt " + index)));
+        assertThat(catalog).as("Catalog seeding must not fail").allMatch(result -> result.getFailures() == 0);
+        LoadGenerator.runBatch(NAMESPACES, concurrency, index -> namespaces.create("restart-ns-" + index));
+
+        String forwardNamespace = namespaces.create("restart-fwd-ns");
+        AtomicInteger seededForwards = new AtomicInteger();
+        LoadGenerator.runBatch(FORWARDS, 1, index -> {
+            forwards.add("restart-fwd-" + index, upstreamUrl, forwardNamespace);
+            seededForwards.incrementAndGet();
+        });
+        if (seededForwards.get() < FORWARDS) {
+            LOG.warn("Only {} of {} forwards could be seeded", seededForwards.get(), FORWARDS);
+        }
+        return seededForwards.get();
+    }
+
+    private static boolean servesFullCatalog(McpJsonRpcClient mcp, int size) {
+        if (!mcp.isInitialized()) {
+            mcp.initialize();
+        }
+        return mcp.listAll("tools/list", "tools").size() >= size
+                && mcp.listAll("resources/list", "resources").size() >= size
+                && mcp.listAll("prompts/list", "prompts").size() >= size;
+    }
+}
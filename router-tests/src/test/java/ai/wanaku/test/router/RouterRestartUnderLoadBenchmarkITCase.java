@@ -0,0 +1,210 @@
+package ai.wanaku.test.router;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.ForwardsClient;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.managers.WanakuServerManager;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Restarts a dedicated server on the same ports and persist directory while {@code tools/call}
+ * load runs through a forward, and measures how clients ride through it.
+ *
+ * <p>The load generator replaces a worker's MCP session after every failed request, so clients
+ * reconnect on their own. Reported are the failed-request window (start of the first to end of the
+ * last failed request), the time from the restart until the first successful request, and the time
+ * until a one-second bucket is again free of failures with a p95 within 1.5x of steady state.
+ */
+@Benchmark
+@QuarkusTest
+class RouterRestartUnderLoadBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouterRestartUnderLoadBenchmarkITCase.class);
+
+    private static final String FORWARD_NAME = "restart-load-fwd";
+    private static final String TOOL_NAME = "restart-load-echo";
+    private static final Duration STEADY_STATE = Duration.ofSeconds(10);
+    private static final Duration BUCKET = Duration.ofSeconds(1);
+    private static final double BASELINE_FACTOR = 1.5;
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofMinutes(3);
+
+    private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void assumeServerBinaryAvailable() {
+        assumeThat(config).as("Test configuration must be available").isNotNull();
+        assumeThat(config.getServerBinaryPath())
+                .as("Server binary is required to start dedicated servers")
+                .isNotNull();
+        assumeThat(config.getServerBinaryPath().toFile().exists()).isTrue();
+    }
+
+    @DisplayName("Measure error window and client recovery across a router restart under load")
+    @Test
+    void shouldRecoverFromRestartUnderLoad(PerformanceMetrics metrics) throws Exception {
+        WanakuServerManager server = new WanakuServerManager(config);
+        EmbeddedMcpServer.ToolHandler echo = (args, request) -> "ok";
+        try (EmbeddedMcpServer upstream = new EmbeddedMcpServer(FORWARD_NAME)
+                .tool(TOOL_NAME, "Answers ok", echo)
+                .start()) {
+            server.prepare();
+            server.start("restart-load-seed");
+            new ForwardsClient(server.getBaseUrl(), null).add(FORWARD_NAME, upstream.getMcpUrl(), "default");
+            String mcpUrl = server.getMcpBaseUrl() + "/default/mcp";
+            String toolName =
+                    McpToolWorker.awaitToolListed(mcpUrl, name -> name.contains(TOOL_NAME), Duration.ofSeconds(60));
+
+            LoadGenerator generator = LoadGenerator.builder()
+                    .fromSystemProperties()
+                    .warmup(Duration.ZERO)
+                    .duration(RECOVERY_TIMEOUT.plus(STEADY_STATE).multipliedBy(2))
+                    .reconnectOnFailure(true)
+                    .observer((start, end, success) -> samples.add(new Sample(start, end, success)))
+                    .worker(() -> new McpToolWorker(mcpUrl, toolName, Map.of()))
+                    .build();
+            CompletableFuture<LoadResult> load = CompletableFuture.supplyAsync(generator::run);
+            try {
+                Thread.sleep(STEADY_STATE);
+                long restartedAt = System.nanoTime();
+                Duration startup = server.restart("restart-load-recover");
+                LOG.info("Server restarted and healthy after {} ms", startup.toMillis());
+
+                Awaitility.await("latency to return to steady state")
+                        .atMost(RECOVERY_TIMEOUT)
+                        .pollInterval(Duration.ofMillis(500))
+                        .until(() -> backToBaseline(restartedAt) > 0);
+
+                generator.stop();
+                LoadResult result = load.get(1, TimeUnit.MINUTES);
+                LOG.info("Load across the restart: {}", result.summary());
+                report(metrics, restartedAt, startup);
+            } finally {
+                generator.stop();
+                load.join();
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void report(PerformanceMetrics metrics, long restartedAt, Duration startup) {
+        LatencyStats steady = steadyState(restartedAt);
+        long disruptedAt = disruptedAt(restartedAt);
+        long lastFailureEnd = 0;
+        long failed = 0;
+        for (Sample sample : samples) {
+            if (!sample.ok && sample.end >= restartedAt) {
+                failed++;
+                lastFailureEnd = Math.max(lastFailureEnd, sample.end);
+            }
+        }
+        long firstSuccess = samples.stream()
+                .filter(sample -> sample.ok && sample.start >= disruptedAt)
+                .mapToLong(sample -> sample.end)
+                .min()
+                .orElseThrow();
+
+        Duration errorWindow = Duration.ofNanos(failed > 0 ? lastFailureEnd - disruptedAt : 0);
+        Duration toFirstSuccess = Duration.ofNanos(firstSuccess - restartedAt);
+        Duration toBaseline = Duration.ofNanos(backToBaseline(restartedAt) - restartedAt);
+        LOG.info(
+                "Restart under load: {} failed requests over {} ms, first success after {} ms,"
+                        + " back to baseline (p95 {} ms) after {} ms",
+                failed,
+                errorWindow.toMillis(),
+                toFirstSuccess.toMillis(),
+                String.format("%.1f", steady.p95Millis()),
+                toBaseline.toMillis());
+
+        metrics.recordLatency("restart-load.steady", steady);
+        metrics.recordLatency("restart-load.startup", startup);
+        metrics.recordLatency("restart-load.error-window", errorWindow);
+        metrics.recordLatency("restart-load.first-success", toFirstSuccess);
+        metrics.recordLatency("restart-load.baseline", toBaseline);
+        metrics.record(
+                "restart-load.failed-requests", failed, "requests", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+
+        assertThat(steady.count()).as("Successful requests before the restart").isPositive();
+    }
+
+    private LatencyStats steadyState(long restartedAt) {
+        LatencyStats steady = new LatencyStats();
+        samples.stream()
+                .filter(sample -> sample.ok && sample.end < restartedAt)
+                .forEach(sample -> steady.record(sample.end - sample.start));
+        return steady;
+    }
+
+    /**
+     * Returns the start of the first failed request since the restart, or the restart itself if
+     * no request failed.
+     */
+    private long disruptedAt(long restartedAt) {
+        return samples.stream()
+                .filter(sample -> !sample.ok && sample.end >= restartedAt)
+                .mapToLong(sample -> sample.start)
+                .min()
+                .orElse(restartedAt);
+    }
+
+    /**
+     * Returns the end of the first bucket from the disruption on that has completed requests, no
+     * failures and a p95 within {@link #BASELINE_FACTOR} of steady state, or 0 if there is none yet.
+     */
+    private long backToBaseline(long restartedAt) {
+        double limit = steadyState(restartedAt).p95Millis() * BASELINE_FACTOR;
+        List<Sample> after =
+                samples.stream().filter(sample -> sample.end >= restartedAt).toList();
+        long now = System.nanoTime();
+        for (long bucketStart = disruptedAt(restartedAt);
+                bucketStart + BUCKET.toNanos() <= now;
+                bucketStart += BUCKET.toNanos()) {
+            long from = bucketStart;
+            long to = bucketStart + BUCKET.toNanos();
+            List<Sample> bucket = after.stream()
+                    .filter(sample -> sample.end >= from && sample.end < to)
+                    .toList();
+            if (bucket.isEmpty() || bucket.stream().anyMatch(sample -> !sample.ok)) {
+                continue;
+            }
+            LatencyStats stats = new LatencyStats();
+            bucket.forEach(sample -> stats.record(sample.end - sample.start));
+            if (stats.p95Millis() <= limit) {
+                return to;
+            }
+        }
+        return 0;
+    }
+
+    private static final class Sample {
+        final long start;
+        final long end;
+        final boolean ok;
+
+        Sample(long start, long end, boolean ok) {
+            this.start = start;
+            this.end = end;
+            this.ok = ok;
+        }
+    }
+}
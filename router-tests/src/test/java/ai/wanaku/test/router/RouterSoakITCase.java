@@ -0,0 +1,225 @@
+package ai.wanaku.test.router;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.base.Soak;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.load.SoakReport;
+import ai.wanaku.test.load.SoakRunner;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedMcpServer;
+import ai.wanaku.test.model.HttpToolConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Repeatedly registers, uses and removes every kind of router entity and checks that the router's
+ * memory, file descriptors and latency stay flat.
+ *
+ * <p>Run with {@code -Psoak}; set {@code -Dwanaku.test.soak.duration=PT8H} for a longer run.
+ * Forwards and namespaces point at an {@link EmbeddedMcpServer} whose tool is called through the
+ * router in every cycle. Entity kinds whose management endpoint answers 404 or 405 (e.g. no data
+ * store) are left out; any other failure counts as a failed cycle.
+ */
+@Soak
+@QuarkusTest
+class RouterSoakITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouterSoakITCase.class);
+
+    private static final String UPSTREAM_TOOL = "soak-echo";
+
+    private McpJsonRpcClient rawMcpClient;
+    private EmbeddedMcpServer upstream;
+
+    @BeforeEach
+    void assumeRouterAvailable() throws Exception {
+        assumeThat(isServerRunning()).as("Router must be available").isTrue();
+        rawMcpClient = new McpJsonRpcClient(getServerMcpBaseUrl() + "/default/mcp");
+        rawMcpClient.initialize();
+        EmbeddedMcpServer.ToolHandler echo = (args, request) -> "ok";
+        upstream = new EmbeddedMcpServer("soak-upstream")
+                .tool(UPSTREAM_TOOL, "Answers ok", echo)
+                .start();
+    }
+
+    @AfterEach
+    void closeRawMcpClient() {
+        if (rawMcpClient != null) {
+            rawMcpClient.close();
+        }
+        if (upstream != null) {
+            upstream.close();
+        }
+    }
+
+    @DisplayName("Router resource usage stays flat over repeated register/use/remove cycles")
+    @Test
+    void shouldNotLeakOverRepeatedCycles(PerformanceMetrics metrics) throws Exception {
+        List<SoakStep> steps = new ArrayList<>();
+        steps.add(new SoakStep("tools", this::toolCycle));
+        addIfSupported(steps, "namespaces", WanakuTestConstants.NAMESPACES_PATH, this::namespaceCycle);
+        addIfSupported(steps, "prompts", WanakuTestConstants.PROMPTS_PATH, this::promptCycle);
+        addIfSupported(steps, "forwards", WanakuTestConstants.FORWARDS_PATH, this::forwardCycle);
+        addIfSupported(steps, "data-store", WanakuTestConstants.API_BASE_PATH + "/data-store", this::dataStoreCycle);
+
+        SoakReport report = SoakRunner.builder()
+                .fromSystemProperties()
+                .monitoredPid(serverManager::getPid)
+                .cycle(iteration -> {
+                    for (SoakStep step : steps) {
+                        step.action.run(iteration);
+                    }
+                })
+                .build()
+                .run();
+
+        report.writeCsv(Path.of(WanakuTestConstants.PERF_RESULTS_DIR, "router-soak.csv"));
+        metrics.recordLatency("router.soak.cycle", report.getCycleLatency());
+
+        LOG.info(
+                "Soak steps exercised: {}",
+                steps.stream().map(step -> step.name).toList());
+        assertThat(report.getFailedCycles())
+                .as("Failed cycles out of %d", report.getCycles())
+                .isLessThanOrEqualTo(report.getCycles() / 100);
+        assertThat(report.getLeakSuspects()).as(report.summary()).isEmpty();
+    }
+
+    private void toolCycle(int iteration) {
+        String name = "soak-tool-" + iteration;
+        routerClient.registerTool(HttpToolConfig.builder()
+                .name(name)
+                .uri(getServerBaseUrl() + WanakuTestConstants.SERVER_HEALTH_PATH)
+                .build());
+        try {
+            requireSuccess(rawMcpClient.listTools());
+            requireSuccess(rawMcpClient.callTool(name, Map.of()));
+        } finally {
+            routerClient.removeTool(name);
+        }
+    }
+
+    private void namespaceCycle(int iteration) {
+        String id = namespaceClient.create("soak-ns-" + iteration);
+        String forward = "soak-ns-fwd-" + iteration;
+        try {
+            forwardsClient.add(forward, upstream.getMcpUrl(), id);
+            try (McpJsonRpcClient client = new McpJsonRpcClient(getServerMcpBaseUrl() + "/" + id + "/mcp")) {
+                client.initialize();
+                requireSuccess(client.callTool(awaitUpstreamTool(client), Map.of()));
+            } finally {
+                forwardsClient.remove(forward);
+            }
+        } finally {
+            namespaceClient.delete(id);
+        }
+    }
+
+    private void promptCycle(int iteration) {
+        String name = "soak-prompt-" + iteration;
+        promptsClient.add(name, "Soak prompt " + iteration);
+        try {
+            requireSuccess(rawMcpClient.listPrompts());
+            requireSuccess(rawMcpClient.getPrompt(name, Map.of()));
+        } finally {
+            promptsClient.remove(name);
+        }
+    }
+
+    private void forwardCycle(int iteration) {
+        String name = "soak-fwd-" + iteration;
+        forwardsClient.add(name, upstream.getMcpUrl(), "default");
+        try {
+            requireSuccess(rawMcpClient.callTool(awaitUpstreamTool(rawMcpClient), Map.of()));
+        } finally {
+            forwardsClient.remove(name);
+        }
+    }
+
+    private void dataStoreCycle(int iteration) {
+        String name = "soak-entry-" + iteration;
+        dataStoreClient.upload(name, "soak payload " + iteration);
+        try {
+            dataStoreClient.download(name);
+        } finally {
+            dataStoreClient.removeByName(name);
+        }
+    }
+
+    /**
+     * Waits until the forwarded upstream tool is listed and returns its name on the router.
+     */
+    private static String awaitUpstreamTool(McpJsonRpcClient client) {
+        return Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .pollInterval(Duration.ofMillis(200))
+                .ignoreExceptions()
+                .until(
+                        () -> client.listAll("tools/list", "tools").stream()
+                                .map(t -> t.path("name").asText())
+                                .filter(name -> name.contains(UPSTREAM_TOOL))
+                                .findFirst()
+                                .orElse(null),
+                        name -> name != null);
+    }
+
+    /**
+     * Adds a step unless the router answers 404 or 405 on its management endpoint. Other answers,
+     * including errors, keep the step, so a broken entity kind fails cycles instead of being skipped.
+     */
+    private void addIfSupported(List<SoakStep> steps, String name, String path, StepAction action) throws Exception {
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(getServerBaseUrl() + path))
+                    .GET()
+                    .build();
+            int status = httpClient
+                    .send(request, HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+            if (status == 404 || status == 405) {
+                LOG.warn("Soak step '{}' is not supported by the router ({} on {}), excluding it", name, status, path);
+                return;
+            }
+        }
+        steps.add(new SoakStep(name, action));
+    }
+
+    private static void requireSuccess(McpResponse response) {
+        if (response.isError()) {
+            throw new IllegalStateException("MCP call failed: " + response);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StepAction {
+        void run(int iteration) throws Exception;
+    }
+
+    private static class SoakStep {
+        private final String name;
+        private final StepAction action;
+
+        SoakStep(String name, StepAction action) {
+            this.name = name;
+            this.action = action;
+        }
+    }
+}
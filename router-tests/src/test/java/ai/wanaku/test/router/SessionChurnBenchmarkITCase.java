@@ -0,0 +1,178 @@
+package ai.wanaku.test.router;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.quarkus.test.junit.QuarkusTest;
+import ai.wanaku.test.base.Benchmark;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.load.LoadGenerator;
+import ai.wanaku.test.load.LoadResult;
+import ai.wanaku.test.load.McpToolWorker;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+import ai.wanaku.test.mock.EmbeddedHttpBackend;
+import ai.wanaku.test.model.HttpToolConfig;
+import ai.wanaku.test.utils.ProcessStats;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Compares the cost of MCP session and connection churn on the router.
+ *
+ * <p>The same HTTP tool is called in three ways: from one long-lived session per worker, from a new
+ * session per call over the worker's pooled connections, and from a new session over a new TCP
+ * connection per call, as agent frameworks that reconnect for every call do. A call in the churn
+ * modes includes {@code initialize}, {@code notifications/initialized} and the session
+ * {@code DELETE}. Each mode reports throughput and, if the router process is managed by the test,
+ * router CPU time per call.
+ */
+@Benchmark
+@QuarkusTest
+class SessionChurnBenchmarkITCase extends RouterTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionChurnBenchmarkITCase.class);
+
+    private static final String TOOL_NAME = "churn-tool";
+
+    private static EmbeddedHttpBackend backend;
+
+    enum Mode {
+        SESSION_REUSE("session-reuse"),
+        SESSION_PER_CALL("session-per-call"),
+        CONNECTION_PER_CALL("connection-per-call");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    @BeforeAll
+    static void startBackend() throws IOException {
+        backend = new EmbeddedHttpBackend().start();
+        backend.when("/churn", EmbeddedHttpBackend.Behavior.ok());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        if (backend != null) {
+            backend.close();
+        }
+    }
+
+    @BeforeEach
+    void assumeServerAvailable() {
+        assumeThat(isServerRunning()).as("Router required for churn benchmark").isTrue();
+    }
+
+    @DisplayName("Compare session reuse with a new session or connection per call")
+    @Test
+    void shouldCompareSessionChurn(PerformanceMetrics metrics) throws Exception {
+        String mcpUrl = getServerMcpBaseUrl() + "/default/mcp";
+        routerClient.registerTool(HttpToolConfig.builder()
+                .name(TOOL_NAME)
+                .description("Answers immediately")
+                .uri(backend.getBaseUrl() + "/churn")
+                .build());
+        long pid = serverManager.getPid();
+
+        try {
+            for (Mode mode : Mode.values()) {
+                Duration cpuBefore = ProcessStats.cpuTime(pid);
+                long startedAt = System.nanoTime();
+                LoadResult result = LoadGenerator.builder()
+                        .fromSystemProperties()
+                        .worker(() -> worker(mode, mcpUrl))
+                        .build()
+                        .run();
+                Duration cpu = ProcessStats.cpuTime(pid).minus(cpuBefore);
+                double wallSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+                assertThat(result.getSuccesses())
+                        .as("Calls in mode %s", mode.label)
+                        .isPositive();
+                assertThat(result.getFailures())
+                        .as("Failed calls in mode %s", mode.label)
+                        .isZero();
+
+                String prefix = "session-churn." + mode.label;
+                metrics.recordLatency(prefix + ".latency", result.getLatencies());
+                metrics.recordThroughput(prefix + ".throughput", result.getThroughput());
+                if (pid > 0 && !cpu.isZero()) {
+                    // CPU time covers the warmup too, so it is spread over the calls of the whole run
+                    double cpuPerCall = cpu.toNanos() / 1e6 / (result.getThroughput() * wallSeconds);
+                    metrics.record(
+                            prefix + ".router-cpu", cpuPerCall, "ms", PerformanceMetrics.Direction.LOWER_IS_BETTER);
+                    LOG.info(
+                            "{}: {}, router CPU {} ms per call, {} cores",
+                            mode.label,
+                            result.summary(),
+                            String.format("%.3f", cpuPerCall),
+                            String.format("%.2f", cpu.toNanos() / 1e9 / wallSeconds));
+                } else {
+                    LOG.info("{}: {}, router CPU not available", mode.label, result.summary());
+                }
+            }
+        } finally {
+            routerClient.removeTool(TOOL_NAME);
+        }
+    }
+
+    private LoadGenerator.Worker worker(Mode mode, String mcpUrl) {
+        return switch (mode) {
+            case SESSION_REUSE -> new McpToolWorker(mcpUrl, TOOL_NAME, Map.of());
+            case SESSION_PER_CALL -> new PooledConnections(mcpUrl);
+            case CONNECTION_PER_CALL ->
+                () -> {
+                    try (HttpClient fresh = McpJsonRpcClient.newHttpClient();
+                            McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl, Map.of(), fresh)) {
+                        client.initialize();
+                        call(client);
+                    }
+                };
+        };
+    }
+
+    private static void call(McpJsonRpcClient client) {
+        McpResponse response = client.callTool(TOOL_NAME, Map.of());
+        if (response.isError()) {
+            throw new IllegalStateException("Tool call failed: " + response.getError());
+        }
+    }
+
+    /**
+     * A new session per call over the worker's pooled connections, closed when the run ends.
+     */
+    private static final class PooledConnections implements LoadGenerator.Worker, AutoCloseable {
+        private final String mcpUrl;
+        private final HttpClient pooled = McpJsonRpcClient.newHttpClient();
+
+        PooledConnections(String mcpUrl) {
+            this.mcpUrl = mcpUrl;
+        }
+
+        @Override
+        public void execute() {
+            try (McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl, Map.of(), pooled)) {
+                client.initialize();
+                call(client);
+            }
+        }
+
+        @Override
+        public void close() {
+            pooled.close();
+        }
+    }
+}
@@ -13,6 +13,29 @@ public final class WanakuTestConstants {
     public static final String PROP_CAMEL_CAPABILITY_JAR = "wanaku.test.camel-capability.jar";
     public static final String PROP_TIMEOUT = "wanaku.test.timeout";
     public static final String PROP_SKIP_THRESHOLD = "wanaku.test.skip.threshold";
+    public static final String PROP_PERF_BASELINE = "wanaku.test.perf.baseline";
+    public static final String PROP_PERF_TOLERANCE = "wanaku.test.perf.tolerance";
+    public static final String PROP_PERF_BASELINE_REQUIRED = "wanaku.test.perf.baseline.required";
+    public static final String PROP_SOAK_DURATION = "wanaku.test.soak.duration";
+    public static final String PROP_SOAK_SAMPLE_INTERVAL = "wanaku.test.soak.sample.interval";
+    public static final String PROP_PERSIST_BACKEND = "wanaku.test.persist.backend";
+    public static final String PROP_PERSIST_PATH = "wanaku.test.persist.path";
+    public static final String PROP_MOCK_LAUNCH_MODE = "wanaku.test.mock.launch-mode";
+    public static final String PROP_MOCK_NATIVE_BUILD = "wanaku.test.mock.native.build";
+    public static final String PROP_BENCH_DURATION = "wanaku.test.bench.duration";
+    public static final String PROP_BENCH_WARMUP = "wanaku.test.bench.warmup";
+    public static final String PROP_BENCH_CONCURRENCY = "wanaku.test.bench.concurrency";
+    public static final String PROP_BENCH_MOCK_INSTANCES = "wanaku.test.bench.mock.instances";
+    public static final String PROP_BENCH_FANOUT_SERVERS = "wanaku.test.bench.fanout.servers";
+    public static final String PROP_BENCH_PERSIST_BACKENDS = "wanaku.test.bench.persist.backends";
+    public static final String PROP_BENCH_CATALOG_SIZES = "wanaku.test.bench.catalog.sizes";
+    public static final String PROP_BENCH_POSTGRES_ROWS = "wanaku.test.bench.postgres.rows";
+    public static final String PROP_POSTGRES_REUSE = "wanaku.test.postgres.reuse";
+    public static final String PROP_CIC_POOL_SIZE = "wanaku.test.cic.pool.size";
+    public static final String PROP_CDS = "wanaku.test.cds";
+    public static final String PROP_REPLAY_LOG = "wanaku.test.replay.log";
+    public static final String PROP_HTTP_COMPRESSION = "wanaku.test.http.compression";
+    public static final String PROP_NAME_INDEX_TTL = "wanaku.test.name-index.ttl";
 
     // Default values
     public static final String DEFAULT_ARTIFACTS_DIR = "artifacts";
@@ -22,6 +45,20 @@ public final class WanakuTestConstants {
     public static final Duration DEFAULT_REGISTRATION_POLL_INTERVAL = Duration.ofMillis(100);
     public static final int DEFAULT_SKIP_THRESHOLD = 30;
     public static final int MIN_SKIP_THRESHOLD_SAMPLE = 5;
+    public static final int DEFAULT_PERF_TOLERANCE = 20;
+    public static final String DEFAULT_PERF_BASELINE_RESOURCE = "performance-baseline.properties";
+    public static final Duration DEFAULT_SOAK_DURATION = Duration.ofHours(1);
+    public static final Duration DEFAULT_SOAK_SAMPLE_INTERVAL = Duration.ofSeconds(30);
+    public static final String DEFAULT_PERSIST_BACKEND = "file";
+    public static final Duration DEFAULT_BENCH_DURATION = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_BENCH_WARMUP = Duration.ofSeconds(2);
+    public static final int DEFAULT_BENCH_CONCURRENCY = 8;
+    public static final int DEFAULT_BENCH_MOCK_INSTANCES = 10;
+    public static final int DEFAULT_BENCH_FANOUT_SERVERS = 100;
+    public static final String DEFAULT_BENCH_PERSIST_BACKENDS = "file,memory";
+    public static final String DEFAULT_BENCH_CATALOG_SIZES = "1000,10000,100000";
+    public static final int DEFAULT_BENCH_POSTGRES_ROWS = 2_000_000;
+    public static final Duration DEFAULT_NAME_INDEX_TTL = Duration.ZERO;
 
     // Health check
     public static final String SERVER_HEALTH_PATH = "/healthz";
@@ -44,4 +81,10 @@ public final class WanakuTestConstants {
 
     // Log directory
     public static final String LOG_DIR = "target/logs";
+
+    // Performance results directory
+    public static final String PERF_RESULTS_DIR = "target/performance";
+
+    // Class data sharing archives
+    public static final String CDS_ARCHIVE_DIR = "target/cds";
 }
@@ -0,0 +1,23 @@
+package ai.wanaku.test.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Marks a test class as a benchmark.
+ *
+ * <p>Benchmarks are tagged {@code benchmark}, which the default failsafe run excludes; enable them
+ * with {@code -Pbenchmark}. Metrics recorded through an injected
+ * {@link ai.wanaku.test.metrics.PerformanceMetrics} are checked by
+ * {@link PerformanceRegressionExtension}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@ExtendWith(PerformanceRegressionExtension.class)
+public @interface Benchmark {}
@@ -0,0 +1,212 @@
+package ai.wanaku.test.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.metrics.PerformanceMetrics;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * JUnit 5 extension that fails the build when a recorded performance metric regresses
+ * beyond a configurable tolerance against a stored baseline.
+ *
+ * <p>Test methods declare a {@link PerformanceMetrics} parameter and record named latency and
+ * throughput values into it. Metrics are collected per Maven module's failsafe execution and
+ * compared when the root store is closed, like {@link SkipThresholdExtension}. The recorded
+ * values are also written to {@code target/performance/metrics.properties}; copy that file over
+ * the baseline to accept new numbers.
+ *
+ * <p>The baseline is read from the file named by system property {@code wanaku.test.perf.baseline},
+ * falling back to the classpath resource {@code performance-baseline.properties}. Each entry maps a
+ * metric name to its baseline value. Configure the allowed regression via
+ * {@code wanaku.test.perf.tolerance} (percent, default 20). A module that records metrics without a
+ * baseline only records them and logs a warning; set {@code wanaku.test.perf.baseline.required=true}
+ * to fail it instead, so a missing or misnamed file cannot silently disable the check.
+ */
+public class PerformanceRegressionExtension implements BeforeAllCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PerformanceRegressionExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        getTracker(context);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == PerformanceMetrics.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return getTracker(extensionContext).getMetrics();
+    }
+
+    private MetricTracker getTracker(ExtensionContext context) {
+        return context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(MetricTracker.class, key -> new MetricTracker(), MetricTracker.class);
+    }
+
+    static class MetricTracker implements ExtensionContext.Store.CloseableResource {
+
+        private static final Logger LOG = LoggerFactory.getLogger(MetricTracker.class);
+
+        private final PerformanceMetrics metrics = new PerformanceMetrics();
+
+        PerformanceMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public void close() {
+            if (metrics.isEmpty()) {
+                return;
+            }
+
+            Map<String, PerformanceMetrics.Metric> recorded = metrics.snapshot();
+            writeResults(recorded);
+
+            Properties baseline = loadBaseline();
+            if (baseline == null) {
+                String message = String.format(
+                        "No performance baseline found for %d recorded metrics; copy %s to"
+                                + " src/test/resources/%s to accept them",
+                        recorded.size(),
+                        Path.of(WanakuTestConstants.PERF_RESULTS_DIR, "metrics.properties"),
+                        WanakuTestConstants.DEFAULT_PERF_BASELINE_RESOURCE);
+                if (Boolean.getBoolean(WanakuTestConstants.PROP_PERF_BASELINE_REQUIRED)) {
+                    throw new AssertionError(message);
+                }
+                LOG.warn("{}; regression check skipped", message);
+                return;
+            }
+
+            int tolerance = WanakuTestConstants.DEFAULT_PERF_TOLERANCE;
+            String raw = System.getProperty(WanakuTestConstants.PROP_PERF_TOLERANCE);
+            if (raw != null) {
+                try {
+                    tolerance = Math.max(0, Integer.parseInt(raw));
+                } catch (NumberFormatException e) {
+                    LOG.warn(
+                            "Invalid performance tolerance '{}', using default {}%",
+                            raw, WanakuTestConstants.DEFAULT_PERF_TOLERANCE);
+                }
+            }
+
+            List<String> regressions = new ArrayList<>();
+            for (PerformanceMetrics.Metric metric : recorded.values()) {
+                String expected = baseline.getProperty(metric.getName());
+                if (expected == null) {
+                    LOG.info(
+                            "Metric {}: {} {} (no baseline)",
+                            metric.getName(),
+                            format(metric.getValue()),
+                            metric.getUnit());
+                    continue;
+                }
+
+                double baselineValue;
+                try {
+                    baselineValue = Double.parseDouble(expected.trim());
+                } catch (NumberFormatException e) {
+                    LOG.warn("Invalid baseline value '{}' for metric {}", expected, metric.getName());
+                    continue;
+                }
+
+                double regression = metric.getDirection().regressionPercent(baselineValue, metric.getValue());
+                LOG.info(
+                        "Metric {}: {} {} (baseline {}, {}{}%)",
+                        metric.getName(),
+                        format(metric.getValue()),
+                        metric.getUnit(),
+                        format(baselineValue),
+                        regression > 0 ? "+" : "",
+                        format(regression));
+
+                if (regression > tolerance) {
+                    regressions.add(String.format(
+                            "%s regressed %.1f%% (%s %s vs baseline %s)",
+                            metric.getName(),
+                            regression,
+                            format(metric.getValue()),
+                            metric.getUnit(),
+                            format(baselineValue)));
+                }
+            }
+
+            if (!regressions.isEmpty()) {
+                throw new AssertionError(String.format(
+                        "Performance regression beyond %d%% tolerance: %s", tolerance, String.join("; ", regressions)));
+            }
+        }
+
+        private Properties loadBaseline() {
+            Properties baseline = new Properties();
+            String explicitPath = System.getProperty(WanakuTestConstants.PROP_PERF_BASELINE);
+            try {
+                if (explicitPath != null) {
+                    Path path = Path.of(explicitPath);
+                    if (!Files.exists(path)) {
+                        LOG.warn("Performance baseline file not found: {}", path.toAbsolutePath());
+                        return null;
+                    }
+                    try (InputStream in = Files.newInputStream(path)) {
+                        baseline.load(in);
+                    }
+                    return baseline;
+                }
+
+                try (InputStream in = Thread.currentThread()
+                        .getContextClassLoader()
+                        .getResourceAsStream(WanakuTestConstants.DEFAULT_PERF_BASELINE_RESOURCE)) {
+                    if (in == null) {
+                        return null;
+                    }
+                    baseline.load(in);
+                }
+                return baseline;
+            } catch (IOException e) {
+                LOG.warn("Failed to read performance baseline: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        private void writeResults(Map<String, PerformanceMetrics.Metric> recorded) {
+            Path resultsFile = Path.of(WanakuTestConstants.PERF_RESULTS_DIR, "metrics.properties");
+            try {
+                Files.createDirectories(resultsFile.getParent());
+                try (Writer writer = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8)) {
+                    writer.write("# Recorded performance metrics; copy to performance-baseline.properties to accept\n");
+                    for (PerformanceMetrics.Metric metric : recorded.values()) {
+                        writer.write("# " + metric.getUnit() + ", "
+                                + metric.getDirection().name().toLowerCase().replace('_', '-') + "\n");
+                        writer.write(metric.getName() + "=" + format(metric.getValue()) + "\n");
+                    }
+                }
+                LOG.debug("Wrote {} performance metrics to {}", recorded.size(), resultsFile.toAbsolutePath());
+            } catch (IOException e) {
+                LOG.warn("Failed to write performance metrics: {}", e.getMessage());
+            }
+        }
+
+        private static String format(double value) {
+            return String.format("%.3f", value);
+        }
+    }
+}
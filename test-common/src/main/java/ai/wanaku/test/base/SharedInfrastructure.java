@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
 import ai.wanaku.test.config.TestConfiguration;
 import ai.wanaku.test.managers.WanakuServerManager;
 
@@ -55,6 +56,10 @@ public class SharedInfrastructure implements ExtensionContext.Store.CloseableRes
         }
 
         serverManager = new WanakuServerManager(config);
+        String persistPath = System.getProperty(WanakuTestConstants.PROP_PERSIST_PATH);
+        if (persistPath != null && !persistPath.isBlank()) {
+            serverManager.setPersistPath(Path.of(persistPath.trim()).toAbsolutePath());
+        }
         serverManager.prepare();
         serverManager.start("shared");
         LOG.info(
@@ -0,0 +1,22 @@
+package ai.wanaku.test.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Marks a test class as a long-running soak test.
+ *
+ * <p>Soak tests are tagged {@code soak} and only run with {@code -Psoak}. They run for
+ * {@code wanaku.test.soak.duration} (default one hour) and may record metrics through an injected
+ * {@link ai.wanaku.test.metrics.PerformanceMetrics}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("soak")
+@ExtendWith(PerformanceRegressionExtension.class)
+public @interface Soak {}
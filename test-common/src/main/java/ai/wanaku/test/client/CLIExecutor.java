@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.utils.ClassDataSharing;
 
 /**
  * Utility for executing Wanaku CLI commands.
@@ -26,6 +27,7 @@ public class CLIExecutor {
     private final String cliPath;
     private final Map<String, String> environment = new HashMap<>();
     private Duration timeout = Duration.ofSeconds(30);
+    private boolean classDataSharing = ClassDataSharing.isEnabled();
 
     public CLIExecutor(String cliPath) {
         this.cliPath = cliPath;
@@ -35,6 +37,13 @@ public class CLIExecutor {
         environment.put(key, value);
     }
 
+    /**
+     * Enables or disables launching JAR CLIs with an AppCDS archive (default: {@code wanaku.test.cds}).
+     */
+    public void setClassDataSharing(boolean classDataSharing) {
+        this.classDataSharing = classDataSharing;
+    }
+
     /**
      * Creates a CLIExecutor with default CLI path from system properties.
      */
@@ -60,10 +69,15 @@ public class CLIExecutor {
     public CLIResult execute(String... args) {
         List<String> command = new ArrayList<>();
         Path effectiveWorkingDir = null;
+        ClassDataSharing.Launch classDataSharingLaunch = null;
 
         // Auto-detect CLI type
         if (cliPath.endsWith(".jar")) {
             command.add("java");
+            if (classDataSharing) {
+                classDataSharingLaunch = ClassDataSharing.launch(Path.of(cliPath));
+                command.addAll(classDataSharingLaunch.options());
+            }
             command.add("-jar");
 
             // Quarkus fast-jar format: need to run from the directory containing quarkus-run.jar
@@ -102,6 +116,9 @@ public class CLIExecutor {
                 pb.environment().putAll(environment);
             }
             Process process = pb.start();
+            if (classDataSharingLaunch != null) {
+                classDataSharingLaunch.publishOnExit(process);
+            }
 
             // Close subprocess stdin so JLine doesn't block reading from System.in
             process.getOutputStream().close();
@@ -1,6 +1,8 @@
 package ai.wanaku.test.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -13,6 +15,8 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -35,6 +39,7 @@ public class DataStoreClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
 
     /**
      * Creates a new DataStoreClient with bearer token authentication.
@@ -110,7 +115,7 @@ public class DataStoreClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Data store entry uploaded: {}", name);
@@ -142,7 +147,7 @@ public class DataStoreClient {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 200) {
                 JsonNode root = objectMapper.readTree(response.body());
@@ -197,7 +202,7 @@ public class DataStoreClient {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Download response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -259,42 +264,28 @@ public class DataStoreClient {
      * @return a list of entry names
      */
     public List<String> list() {
-        LOG.debug("Listing data store entries");
-
-        try {
-            HttpRequest request = buildRequest("/api/v1/data-store").GET().build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            LOG.debug("List response: {} - {}", response.statusCode(), response.body());
-
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                JsonNode dataNode = root.has("data") ? root.get("data") : root;
-
-                if (dataNode == null || dataNode.isNull()) {
-                    return new ArrayList<>();
-                }
-
-                List<String> names = new ArrayList<>();
-                if (dataNode.isArray()) {
-                    for (JsonNode entry : dataNode) {
-                        if (entry.has("name")) {
-                            names.add(entry.get("name").asText());
-                        }
-                    }
-                }
-                return names;
-            } else {
-                throw new DataStoreClientException("Failed to list data store entries: " + response.statusCode());
-            }
-        } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
+        try (Stream<String> names = streamNames()) {
+            List<String> list = names.collect(Collectors.toCollection(ArrayList::new));
+            LOG.debug("Listed {} data store entries", list.size());
+            return list;
+        } catch (UncheckedIOException e) {
             throw new DataStoreClientException("Failed to list data store entries", e);
         }
     }
 
+    /**
+     * Streams the entry names, parsing the response as the stream is consumed. Only the entry
+     * being read is held in memory, not the content of all entries. The stream must be closed;
+     * closing it early, for example after {@code findFirst}, stops reading the response. Read
+     * errors surface as {@link UncheckedIOException}.
+     */
+    public Stream<String> streamNames() {
+        LOG.debug("Streaming data store entries");
+        return openList("/api/v1/data-store", JsonNode.class).stream()
+                .filter(entry -> entry.has("name"))
+                .map(entry -> entry.get("name").asText());
+    }
+
     /**
      * Removes a data store entry by name.
      *
@@ -310,7 +301,7 @@ public class DataStoreClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Remove response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -356,7 +347,7 @@ public class DataStoreClient {
         try {
             HttpRequest request = buildRequest("/api/v1/data-store").GET().build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             return response.statusCode() == 200;
         } catch (IOException | InterruptedException e) {
             if (e instanceof InterruptedException) {
@@ -367,12 +358,46 @@ public class DataStoreClient {
         }
     }
 
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Sends the list request and returns an iterator over the elements of the response body.
+     */
+    private <T> JsonListIterator<T> openList(String path, Class<T> type) {
+        try {
+            HttpRequest request = buildRequest(path).GET().build();
+
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = HttpCompression.decode(response.body(), response.headers());
+            if (response.statusCode() != 200) {
+                try (body) {
+                    throw new DataStoreClientException("Failed to list data store entries: " + response.statusCode());
+                }
+            }
+            return JsonListIterator.open(objectMapper, body, type, false);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new DataStoreClientException("Failed to list data store entries", e);
+        }
+    }
+
     private HttpRequest.Builder buildRequest(String path) {
         HttpRequest.Builder builder =
                 HttpRequest.newBuilder().uri(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
@@ -0,0 +1,422 @@
+package ai.wanaku.test.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.load.LatencyDistribution;
+
+/**
+ * TCP proxy that injects network faults between a client and the router, or between the router
+ * and a downstream server.
+ *
+ * <p>Where {@link SessionIdProxy} rewrites MCP responses, this proxy relays raw bytes, so it works
+ * for any HTTP traffic and can express faults an HTTP-level proxy cannot: added latency drawn from
+ * a {@link LatencyDistribution}, bandwidth throttling, mid-stream stalls, connection resets and
+ * half-open connections that accept but never answer. The {@link FaultProfile} can be swapped
+ * while traffic flows, so one proxy can alternate between healthy and degraded phases.
+ *
+ * <p>Usage example:
+ * <pre>
+ * try (FaultProxy proxy = new FaultProxy("localhost", downstreamPort).start()) {
+ *     forwardsClient.add("slow", proxy.proxiedUrl(downstreamMcpUrl), "default");
+ *     proxy.setProfile(FaultProxy.FaultProfile.builder()
+ *             .latency(Duration.ofMillis(200), LatencyDistribution.EXPONENTIAL)
+ *             .build());
+ * }
+ * </pre>
+ */
+public class FaultProxy implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FaultProxy.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * The faults a {@link FaultProxy} injects. Probabilities are in the range 0-1.
+     */
+    public static class FaultProfile {
+        private Duration latency = Duration.ZERO;
+        private LatencyDistribution distribution = LatencyDistribution.FIXED;
+        private long bytesPerSecond;
+        private double stallProbability;
+        private Duration stallDuration = Duration.ZERO;
+        private double resetProbability;
+        private double halfOpenProbability;
+
+        private FaultProfile() {}
+
+        /**
+         * Returns a profile that relays traffic untouched.
+         */
+        public static FaultProfile none() {
+            return new FaultProfile();
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public Duration getLatency() {
+            return latency;
+        }
+
+        public LatencyDistribution getDistribution() {
+            return distribution;
+        }
+
+        public long getBytesPerSecond() {
+            return bytesPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return "FaultProfile{latency=" + latency.toMillis() + "ms " + distribution + ", bytesPerSecond="
+                    + bytesPerSecond + ", stall=" + stallProbability + "/" + stallDuration.toMillis() + "ms, reset="
+                    + resetProbability + ", halfOpen=" + halfOpenProbability + "}";
+        }
+
+        public static class Builder {
+            private final FaultProfile profile = new FaultProfile();
+
+            /**
+             * Delays every response by a latency drawn around {@code mean}.
+             */
+            public Builder latency(Duration mean, LatencyDistribution distribution) {
+                profile.latency = mean;
+                profile.distribution = distribution;
+                return this;
+            }
+
+            /**
+             * Limits each direction of each connection to {@code bytesPerSecond}.
+             */
+            public Builder bandwidth(long bytesPerSecond) {
+                profile.bytesPerSecond = bytesPerSecond;
+                return this;
+            }
+
+            /**
+             * Pauses a relayed segment for {@code duration} with the given probability.
+             */
+            public Builder stalls(double probability, Duration duration) {
+                profile.stallProbability = probability;
+                profile.stallDuration = duration;
+                return this;
+            }
+
+            /**
+             * Resets the connection instead of relaying a request with the given probability.
+             */
+            public Builder resets(double probability) {
+                profile.resetProbability = probability;
+                return this;
+            }
+
+            /**
+             * Accepts a new connection but never relays it with the given probability.
+             */
+            public Builder halfOpen(double probability) {
+                profile.halfOpenProbability = probability;
+                return this;
+            }
+
+            public FaultProfile build() {
+                return profile;
+            }
+        }
+    }
+
+    private final String targetHost;
+    private final int targetPort;
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong halfOpen = new AtomicLong();
+    private volatile FaultProfile profile = FaultProfile.none();
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+
+    public FaultProxy(String targetHost, int targetPort) {
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+    }
+
+    /**
+     * Creates a proxy for the host and port of the given URL.
+     */
+    public static FaultProxy forUrl(String url) {
+        URI uri = URI.create(url);
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+        return new FaultProxy(uri.getHost(), port);
+    }
+
+    /**
+     * Starts listening on an ephemeral port.
+     *
+     * @return this proxy
+     */
+    public FaultProxy start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        running = true;
+        Thread.ofVirtual().name("fault-proxy-acceptor").start(this::acceptLoop);
+        LOG.debug("FaultProxy started on port {}, forwarding to {}:{}", getPort(), targetHost, targetPort);
+        return this;
+    }
+
+    /**
+     * Replaces the active fault profile. Applies to data relayed from now on, including on
+     * connections that are already open.
+     */
+    public void setProfile(FaultProfile profile) {
+        this.profile = profile != null ? profile : FaultProfile.none();
+        LOG.debug("FaultProxy on port {} now injects {}", getPort(), this.profile);
+    }
+
+    public FaultProfile getProfile() {
+        return profile;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    /**
+     * Rewrites a URL of the proxied target so it goes through this proxy.
+     */
+    public String proxiedUrl(String targetUrl) {
+        URI uri = URI.create(targetUrl);
+        String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+        String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+        return getBaseUrl() + path + query;
+    }
+
+    public long getConnectionCount() {
+        return connections.get();
+    }
+
+    public long getResetCount() {
+        return resets.get();
+    }
+
+    public long getStallCount() {
+        return stalls.get();
+    }
+
+    public long getHalfOpenCount() {
+        return halfOpen.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to close proxy socket: {}", e.getMessage());
+        }
+        sockets.forEach(FaultProxy::closeQuietly);
+        sockets.clear();
+        LOG.debug("FaultProxy stopped");
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket client = serverSocket.accept();
+                client.setTcpNoDelay(true);
+                sockets.add(client);
+                connections.incrementAndGet();
+                Thread.ofVirtual().name("fault-proxy-conn").start(() -> relay(client));
+            } catch (IOException e) {
+                if (running) {
+                    LOG.debug("Proxy accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void relay(Socket client) {
+        if (chance(profile.halfOpenProbability)) {
+            halfOpen.incrementAndGet();
+            drain(client);
+            return;
+        }
+
+        Socket upstream = new Socket();
+        try {
+            upstream.setTcpNoDelay(true);
+            upstream.connect(new InetSocketAddress(targetHost, targetPort), 10_000);
+            sockets.add(upstream);
+        } catch (IOException e) {
+            LOG.debug("Proxy could not reach {}:{}: {}", targetHost, targetPort, e.getMessage());
+            closeQuietly(upstream);
+            closeQuietly(client);
+            sockets.remove(client);
+            return;
+        }
+
+        Connection connection = new Connection(client, upstream);
+        Thread.ofVirtual().name("fault-proxy-up").start(connection::pumpRequests);
+        connection.pumpResponses();
+    }
+
+    private void drain(Socket socket) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = socket.getInputStream()) {
+            while (in.read(buffer) != -1) {
+                // Swallow the request and never answer
+            }
+        } catch (IOException e) {
+            LOG.trace("Half-open connection closed: {}", e.getMessage());
+        } finally {
+            closeQuietly(socket);
+            sockets.remove(socket);
+        }
+    }
+
+    private static boolean chance(double probability) {
+        return probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            Thread.sleep(Duration.ofNanos(nanos));
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+
+    /**
+     * One relayed client connection. Latency is added once per request, on the first response
+     * segment after the client sent data.
+     */
+    private class Connection {
+        private final Socket client;
+        private final Socket upstream;
+        private volatile boolean awaitingResponse;
+
+        Connection(Socket client, Socket upstream) {
+            this.client = client;
+            this.upstream = upstream;
+        }
+
+        void pumpRequests() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                InputStream in = client.getInputStream();
+                OutputStream out = upstream.getOutputStream();
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    FaultProfile current = profile;
+                    if (!awaitingResponse && chance(current.resetProbability)) {
+                        resets.incrementAndGet();
+                        reset();
+                        return;
+                    }
+                    awaitingResponse = true;
+                    write(out, buffer, read, current);
+                }
+                upstream.shutdownOutput();
+            } catch (IOException e) {
+                shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shutdown();
+            }
+        }
+
+        void pumpResponses() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                InputStream in = upstream.getInputStream();
+                OutputStream out = client.getOutputStream();
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    FaultProfile current = profile;
+                    if (awaitingResponse) {
+                        awaitingResponse = false;
+                        sleepNanos(current.distribution.sample(current.latency.toNanos(), ThreadLocalRandom.current()));
+                    }
+                    write(out, buffer, read, current);
+                }
+            } catch (IOException e) {
+                LOG.trace("Proxy connection closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                shutdown();
+            }
+        }
+
+        private void write(OutputStream out, byte[] buffer, int length, FaultProfile current)
+                throws IOException, InterruptedException {
+            if (chance(current.stallProbability)) {
+                stalls.incrementAndGet();
+                sleepNanos(current.stallDuration.toNanos());
+            }
+            if (current.bytesPerSecond <= 0) {
+                out.write(buffer, 0, length);
+                out.flush();
+                return;
+            }
+            // Throttled data goes out in slices of ~50 ms worth of bandwidth to keep the rate smooth
+            int slice = (int) Math.max(1, Math.min(length, current.bytesPerSecond / 20));
+            for (int offset = 0; offset < length; offset += slice) {
+                int n = Math.min(slice, length - offset);
+                long start = System.nanoTime();
+                out.write(buffer, offset, n);
+                out.flush();
+                sleepNanos(n * 1_000_000_000L / current.bytesPerSecond - (System.nanoTime() - start));
+            }
+        }
+
+        /**
+         * Closes both ends with SO_LINGER 0, so the client and the upstream each see a reset
+         * instead of an orderly close.
+         */
+        private void reset() {
+            for (Socket socket : new Socket[] {client, upstream}) {
+                try {
+                    socket.setSoLinger(true, 0);
+                } catch (IOException e) {
+                    LOG.trace("Failed to arm reset: {}", e.getMessage());
+                }
+            }
+            shutdown();
+        }
+
+        private void shutdown() {
+            closeQuietly(client);
+            closeQuietly(upstream);
+            sockets.remove(client);
+            sockets.remove(upstream);
+        }
+    }
+}
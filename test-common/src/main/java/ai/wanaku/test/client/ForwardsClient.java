@@ -1,6 +1,8 @@
 package ai.wanaku.test.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -12,6 +14,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
@@ -26,6 +31,8 @@ public class ForwardsClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
+    private final NameIndex names = new NameIndex(this::loadNames);
 
     public ForwardsClient(String baseUrl, String accessToken) {
         this.baseUrl = baseUrl;
@@ -51,7 +58,8 @@ public class ForwardsClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Forward added: {}", name);
@@ -70,44 +78,25 @@ public class ForwardsClient {
     }
 
     public List<JsonNode> list() {
-        LOG.debug("Listing forwards");
-
-        try {
-            HttpRequest request =
-                    buildRequest(WanakuTestConstants.FORWARDS_PATH).GET().build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            LOG.debug("List forwards response: {} - {}", response.statusCode(), response.body());
-
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                JsonNode dataNode = root.has("data") ? root.get("data") : root;
-
-                if (dataNode == null || dataNode.isNull()) {
-                    return new ArrayList<>();
-                }
-
-                List<JsonNode> forwards = new ArrayList<>();
-                if (dataNode.isArray()) {
-                    for (JsonNode fwd : dataNode) {
-                        forwards.add(fwd);
-                    }
-                } else if (dataNode.isObject()) {
-                    forwards.add(dataNode);
-                }
-                return forwards;
-            } else {
-                throw new ForwardsClientException(
-                        "Failed to list forwards: " + response.statusCode() + " - " + response.body());
-            }
-        } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
+        try (Stream<JsonNode> forwards = stream()) {
+            List<JsonNode> list = forwards.collect(Collectors.toCollection(ArrayList::new));
+            LOG.debug("Listed {} forwards", list.size());
+            return list;
+        } catch (UncheckedIOException e) {
             throw new ForwardsClientException("Failed to list forwards", e);
         }
     }
 
+    /**
+     * Streams the forwards, parsing the response as the stream is consumed. The stream must be
+     * closed; closing it early, for example after {@code findFirst}, stops reading the response.
+     * Read errors surface as {@link UncheckedIOException}.
+     */
+    public Stream<JsonNode> stream() {
+        LOG.debug("Streaming forwards");
+        return openList(WanakuTestConstants.FORWARDS_PATH, JsonNode.class).stream();
+    }
+
     public boolean remove(String name) {
         LOG.debug("Removing forward: {}", name);
 
@@ -117,7 +106,8 @@ public class ForwardsClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
             LOG.debug("Remove forward response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -146,7 +136,7 @@ public class ForwardsClient {
                     .POST(HttpRequest.BodyPublishers.noBody())
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 200 || response.statusCode() == 204) {
                 LOG.debug("Forward refreshed: {}", name);
@@ -179,9 +169,62 @@ public class ForwardsClient {
         LOG.debug("Cleared {} forwards", forwards.size());
     }
 
+    /**
+     * Checks whether a forward with the given name exists, using the client's short-lived name index.
+     * Writes through this client are visible immediately, others after at most the index TTL.
+     */
     public boolean exists(String name) {
-        return list().stream()
-                .anyMatch(f -> f.has("name") && f.get("name").asText().equals(name));
+        return names.contains(name);
+    }
+
+    /**
+     * Drops the name index, so the next {@link #exists(String)} lists again. Use after changes made
+     * by other clients when the answer must reflect them.
+     */
+    public void invalidateNames() {
+        names.invalidate();
+    }
+
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    private Set<String> loadNames() {
+        try (Stream<JsonNode> forwards = stream()) {
+            return forwards.filter(f -> f.has("name"))
+                    .map(f -> f.get("name").asText())
+                    .collect(Collectors.toSet());
+        } catch (UncheckedIOException e) {
+            throw new ForwardsClientException("Failed to list forwards", e);
+        }
+    }
+
+    /**
+     * Sends the list request and returns an iterator over the elements of the response body.
+     */
+    private <T> JsonListIterator<T> openList(String path, Class<T> type) {
+        try {
+            HttpRequest request = buildRequest(path).GET().build();
+
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = HttpCompression.decode(response.body(), response.headers());
+            if (response.statusCode() != 200) {
+                try (body) {
+                    throw new ForwardsClientException("Failed to list forwards: " + response.statusCode() + " - "
+                            + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            return JsonListIterator.open(objectMapper, body, type, true);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ForwardsClientException("Failed to list forwards", e);
+        }
     }
 
     private HttpRequest.Builder buildRequest(String path) {
@@ -190,6 +233,9 @@ public class ForwardsClient {
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
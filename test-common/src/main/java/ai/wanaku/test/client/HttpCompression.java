@@ -0,0 +1,235 @@
+package ai.wanaku.test.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import ai.wanaku.test.WanakuTestConstants;
+
+/**
+ * Utility class for HTTP response compression in the test clients.
+ *
+ * <p>Clients with compression enabled send {@code Accept-Encoding: gzip, deflate}. Their body
+ * handlers decode a {@code gzip} or {@code deflate} response transparently and pass any other body
+ * through unchanged, so they are safe to use whether or not compression was negotiated.
+ * Compression is off unless {@code -Dwanaku.test.http.compression=true} is set or a client enables
+ * it with {@code setCompression(true)}.
+ */
+public final class HttpCompression {
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+    public static final String SUPPORTED_ENCODINGS = "gzip, deflate";
+
+    private HttpCompression() {
+        // Utility class
+    }
+
+    /**
+     * Returns whether clients ask for compressed responses by default.
+     */
+    public static boolean enabledByDefault() {
+        return Boolean.getBoolean(WanakuTestConstants.PROP_HTTP_COMPRESSION);
+    }
+
+    /**
+     * Returns a body handler that decodes the response and reads it as a string, using the charset
+     * of the {@code Content-Type} (default UTF-8).
+     */
+    public static HttpResponse.BodyHandler<String> ofString() {
+        return info -> HttpResponse.BodySubscribers.mapping(
+                HttpResponse.BodySubscribers.ofByteArray(),
+                bytes -> new String(decode(bytes, info.headers()), charset(info.headers())));
+    }
+
+    /**
+     * Returns the {@code Content-Encoding} of a response, or null for identity.
+     */
+    public static String contentEncoding(HttpHeaders headers) {
+        return headers.firstValue(CONTENT_ENCODING)
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty() && !"identity".equals(value))
+                .orElse(null);
+    }
+
+    /**
+     * Decodes a body according to the response's {@code Content-Encoding}.
+     */
+    public static byte[] decode(byte[] body, HttpHeaders headers) {
+        return decode(body, contentEncoding(headers));
+    }
+
+    /**
+     * Decodes a body in the given encoding; null or an unknown encoding returns it unchanged.
+     *
+     * @throws UncheckedIOException if the body is not valid in the given encoding
+     */
+    public static byte[] decode(byte[] body, String encoding) {
+        if (encoding == null || body.length == 0) {
+            return body;
+        }
+        try {
+            return switch (encoding) {
+                case "gzip", "x-gzip" -> gunzip(body);
+                case "deflate" -> inflate(body);
+                default -> body;
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode " + encoding + " response body", e);
+        }
+    }
+
+    /**
+     * Wraps a response body stream so it reads decoded bytes according to the response's
+     * {@code Content-Encoding}. For use with {@code BodyHandlers.ofInputStream()} once the response
+     * has arrived; decoding may read the first bytes of the body. The body is closed on failure.
+     */
+    public static InputStream decode(InputStream body, HttpHeaders headers) throws IOException {
+        String encoding = contentEncoding(headers);
+        if (encoding == null) {
+            return body;
+        }
+        try {
+            return switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(body, 8192);
+                case "deflate" -> inflating(body);
+                default -> body;
+            };
+        } catch (IOException | RuntimeException e) {
+            body.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether an {@code Accept-Encoding} request header value accepts the given encoding.
+     * An entry naming the encoding takes precedence over {@code *}, and a weight of zero
+     * ({@code q=0}, {@code q=0.0}, ...) refuses it.
+     */
+    public static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double named = -1;
+        double wildcard = -1;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equalsIgnoreCase(encoding)) {
+                named = quality(parts);
+            } else if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        double weight = named >= 0 ? named : wildcard;
+        return weight > 0;
+    }
+
+    /**
+     * Returns the {@code q} weight of an {@code Accept-Encoding} entry, 1 if absent, or 0 if
+     * malformed so that an unreadable weight never enables an encoding.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().replace(" ", "");
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Inflates a {@code deflate} body. The encoding is specified as zlib-wrapped, but some servers
+     * send raw deflate data, so that is tried second.
+     */
+    private static byte[] inflate(byte[] body) throws IOException {
+        try {
+            return inflate(body, false);
+        } catch (DataFormatException e) {
+            try {
+                return inflate(body, true);
+            } catch (DataFormatException raw) {
+                throw new IOException("Invalid deflate data", raw);
+            }
+        }
+    }
+
+    /**
+     * Inflates a {@code deflate} stream, telling zlib-wrapped from raw data by the zlib header.
+     */
+    private static InputStream inflating(InputStream body) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body);
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        boolean zlib = first >= 0 && second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(in, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private static byte[] inflate(byte[] body, boolean nowrap) throws DataFormatException {
+        Inflater inflater = new Inflater(nowrap);
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated deflate data");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Charset charset(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
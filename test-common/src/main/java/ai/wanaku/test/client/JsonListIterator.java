@@ -0,0 +1,138 @@
+package ai.wanaku.test.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Iterates over the elements of a list response with Jackson's streaming parser, so only the
+ * current element is held in memory instead of a tree of the whole body.
+ *
+ * <p>Accepts the same shapes as the tree-based parsing in the REST clients: a {@code WanakuResponse}
+ * wrapper whose {@code data} is an array, or a bare array. Elements are read as they are consumed;
+ * closing the iterator before the end closes the response body, which stops the transfer.
+ * Read errors surface as {@link UncheckedIOException}.
+ */
+final class JsonListIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private JsonParser parser;
+    private T next;
+
+    private JsonListIterator(ObjectMapper objectMapper, Class<T> type, JsonParser parser, T single) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.parser = parser;
+        this.next = single;
+    }
+
+    /**
+     * Opens a list response and positions the parser on the first element.
+     *
+     * @param objectAsElement whether a {@code data} object, or a body without {@code data}, is
+     *     returned as a single element rather than as an empty list
+     */
+    static <T> JsonListIterator<T> open(
+            ObjectMapper objectMapper, InputStream body, Class<T> type, boolean objectAsElement) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(body);
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return new JsonListIterator<>(objectMapper, type, parser, null);
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.close();
+                return empty(objectMapper, type);
+            }
+            // Fields before "data" are small (status, error), so they are kept in case there is no "data"
+            ObjectNode root = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field)) {
+                    if (value == JsonToken.START_ARRAY) {
+                        return new JsonListIterator<>(objectMapper, type, parser, null);
+                    }
+                    T single = value == JsonToken.START_OBJECT && objectAsElement
+                            ? objectMapper.readValue(parser, type)
+                            : null;
+                    parser.close();
+                    return new JsonListIterator<>(objectMapper, type, null, single);
+                }
+                root.set(field, objectMapper.readTree(parser));
+            }
+            parser.close();
+            return new JsonListIterator<>(
+                    objectMapper, type, null, objectAsElement ? objectMapper.treeToValue(root, type) : null);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    private static <T> JsonListIterator<T> empty(ObjectMapper objectMapper, Class<T> type) {
+        return new JsonListIterator<>(objectMapper, type, null, null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            // null elements are skipped, as they carry nothing to return
+            while (next == null && parser != null) {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    close();
+                } else {
+                    next = objectMapper.readValue(parser, type);
+                }
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read list element", e);
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        return element;
+    }
+
+    /**
+     * Returns the remaining elements as a sequential stream that closes this iterator when closed.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Closing only releases the connection
+            } finally {
+                parser = null;
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ public class ManagementClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
 
     public ManagementClient(String baseUrl, String accessToken) {
         this.baseUrl = baseUrl;
@@ -36,7 +37,7 @@ public class ManagementClient {
             HttpRequest request =
                     buildRequest("/api/v1/management/info/version").GET().build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Info response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -62,7 +63,7 @@ public class ManagementClient {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Statistics response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -94,12 +95,23 @@ public class ManagementClient {
         }
     }
 
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
     private HttpRequest.Builder buildRequest(String path) {
         HttpRequest.Builder builder =
                 HttpRequest.newBuilder().uri(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
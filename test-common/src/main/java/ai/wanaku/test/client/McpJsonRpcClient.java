@@ -0,0 +1,485 @@
+package ai.wanaku.test.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal MCP Streamable HTTP client speaking raw JSON-RPC over {@link HttpClient}.
+ *
+ * <p>Unlike {@link McpTestClient}, it does not assert on responses and does not need the
+ * {@code Mcp-Session-Id} header, so it talks to the router directly without a
+ * {@link SessionIdProxy}. Every call returns an {@link McpResponse} carrying the latency and body
+ * size, which makes it the building block for load, soak and benchmark scenarios.
+ *
+ * <p>Usage example:
+ * <pre>
+ * try (McpJsonRpcClient client = new McpJsonRpcClient(serverManager.getMcpBaseUrl() + "/default/mcp")) {
+ *     client.initialize();
+ *     McpResponse tools = client.listTools();
+ *     McpResponse result = client.callTool("echo", Map.of("message", "hi"));
+ * }
+ * </pre>
+ */
+public class McpJsonRpcClient implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpJsonRpcClient.class);
+
+    public static final String PROTOCOL_VERSION = "2025-03-26";
+
+    private final HttpClient httpClient;
+    private final boolean ownsHttpClient;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final Map<String, String> headers;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private volatile String sessionId;
+    private volatile boolean initialized;
+    private volatile boolean compression = HttpCompression.enabledByDefault();
+
+    /**
+     * Creates a client for the given MCP endpoint (e.g., "http://localhost:8081/default/mcp").
+     */
+    public McpJsonRpcClient(String mcpUrl) {
+        this(mcpUrl, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a client that sends the given HTTP headers with every request. The client owns its
+     * {@link HttpClient} and closes it in {@link #close()}.
+     */
+    public McpJsonRpcClient(String mcpUrl, Map<String, String> headers) {
+        this(mcpUrl, headers, newHttpClient(), true);
+    }
+
+    /**
+     * Creates a client on a caller-supplied {@link HttpClient}, so several sessions can share
+     * (or deliberately not share) one connection pool. The caller remains responsible for closing it.
+     */
+    public McpJsonRpcClient(String mcpUrl, Map<String, String> headers, HttpClient httpClient) {
+        this(mcpUrl, headers, httpClient, false);
+    }
+
+    private McpJsonRpcClient(String mcpUrl, Map<String, String> headers, HttpClient httpClient, boolean owned) {
+        this.endpoint = URI.create(mcpUrl);
+        this.headers = headers != null ? new HashMap<>(headers) : new HashMap<>();
+        this.httpClient = httpClient;
+        this.ownsHttpClient = owned;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Creates an {@link HttpClient} configured like the other test clients.
+     */
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Performs the MCP initialize handshake and sends {@code notifications/initialized}.
+     *
+     * @return the initialize response
+     */
+    public McpResponse initialize() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("protocolVersion", PROTOCOL_VERSION);
+        params.put("capabilities", Map.of());
+        params.put("clientInfo", Map.of("name", "wanaku-tests", "version", "1.0.0"));
+
+        McpResponse response = call("initialize", params);
+        if (response.isError()) {
+            throw new McpClientException("MCP initialize failed: " + response);
+        }
+        initialized = true;
+        notify("notifications/initialized", null);
+        LOG.debug("MCP session initialized against {} (session: {})", endpoint, sessionId);
+        return response;
+    }
+
+    public McpResponse listTools() {
+        return call("tools/list", Map.of());
+    }
+
+    public McpResponse callTool(String name, Map<String, Object> arguments) {
+        return call("tools/call", Map.of("name", name, "arguments", arguments != null ? arguments : Map.of()));
+    }
+
+    /**
+     * Calls a tool with a progress token and reads the response incrementally, timing the first
+     * byte and every server-sent event as it arrives.
+     *
+     * @param name      the tool name
+     * @param arguments the tool arguments, or null
+     * @return the response with per-event arrival times
+     * @throws McpClientException on transport failures
+     */
+    public McpStreamingResponse callToolStreaming(String name, Map<String, Object> arguments) {
+        long id = nextId.getAndIncrement();
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("arguments", arguments != null ? arguments : Map.of());
+        params.put("_meta", Map.of("progressToken", "progress-" + id));
+        Map<String, Object> message = new HashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("id", id);
+        message.put("method", "tools/call");
+        message.put("params", params);
+
+        HttpRequest request;
+        try {
+            request = buildRequest(false)
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(message)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new McpClientException("Failed to serialize MCP message", e);
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            long headersNanos = System.nanoTime() - start;
+            response.headers().firstValue("Mcp-Session-Id").ifPresent(sid -> sessionId = sid);
+            boolean sse =
+                    response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream");
+
+            long firstByteNanos = -1;
+            long bodyBytes = 0;
+            List<String> events = new ArrayList<>();
+            List<Long> eventNanos = new ArrayList<>();
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            StringBuilder data = new StringBuilder();
+            try (InputStream in = response.body()) {
+                int b;
+                while ((b = in.read()) != -1) {
+                    if (firstByteNanos < 0) {
+                        firstByteNanos = System.nanoTime() - start;
+                    }
+                    bodyBytes++;
+                    if (sse && b == '\n') {
+                        String text = line.toString(StandardCharsets.UTF_8);
+                        line.reset();
+                        if (text.endsWith("\r")) {
+                            text = text.substring(0, text.length() - 1);
+                        }
+                        if (text.isEmpty() && data.length() > 0) {
+                            events.add(data.toString());
+                            eventNanos.add(System.nanoTime() - start);
+                            data.setLength(0);
+                        } else if (text.startsWith("data:")) {
+                            if (data.length() > 0) {
+                                data.append('\n');
+                            }
+                            data.append(text.substring(text.startsWith("data: ") ? 6 : 5));
+                        }
+                    } else {
+                        line.write(b);
+                    }
+                }
+            }
+            long latency = System.nanoTime() - start;
+            if (!sse && line.size() > 0) {
+                events.add(line.toString(StandardCharsets.UTF_8));
+                eventNanos.add(latency);
+            } else if (data.length() > 0) {
+                events.add(data.toString());
+                eventNanos.add(latency);
+            }
+
+            JsonNode result = null;
+            List<JsonNode> notifications = new ArrayList<>();
+            for (String event : events) {
+                JsonNode node = objectMapper.readTree(event);
+                if (node.has("id") && node.get("id").asLong() == id) {
+                    result = node;
+                } else {
+                    notifications.add(node);
+                }
+            }
+            return new McpStreamingResponse(
+                    response.statusCode(),
+                    result,
+                    notifications,
+                    latency,
+                    bodyBytes,
+                    headersNanos,
+                    firstByteNanos,
+                    eventNanos);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new McpClientException("MCP request to " + endpoint + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    public McpResponse listResources() {
+        return call("resources/list", Map.of());
+    }
+
+    public McpResponse readResource(String uri) {
+        return call("resources/read", Map.of("uri", uri));
+    }
+
+    public McpResponse listPrompts() {
+        return call("prompts/list", Map.of());
+    }
+
+    public McpResponse getPrompt(String name, Map<String, String> arguments) {
+        return call("prompts/get", Map.of("name", name, "arguments", arguments != null ? arguments : Map.of()));
+    }
+
+    /**
+     * Follows {@code nextCursor} through every page of a list method and collects the entries.
+     *
+     * @param method the list method (e.g., "tools/list")
+     * @param field  the result member holding the entries (e.g., "tools")
+     * @return all entries across pages
+     * @throws McpClientException if any page returns an error
+     */
+    public List<JsonNode> listAll(String method, String field) {
+        List<JsonNode> entries = new ArrayList<>();
+        String cursor = null;
+        do {
+            McpResponse response = call(method, cursor != null ? Map.of("cursor", cursor) : Map.of());
+            JsonNode result = response.getResult();
+            if (response.isError() || result == null) {
+                throw new McpClientException(method + " failed: " + response);
+            }
+            result.path(field).forEach(entries::add);
+            cursor = result.hasNonNull("nextCursor") ? result.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return entries;
+    }
+
+    /**
+     * Sends a JSON-RPC request and waits for its response.
+     *
+     * @param method the JSON-RPC method (e.g., "tools/list")
+     * @param params the request parameters, or null
+     * @return the response with timing information
+     * @throws McpClientException on transport failures
+     */
+    public McpResponse call(String method, Object params) {
+        long id = nextId.getAndIncrement();
+        Map<String, Object> request = new HashMap<>();
+        request.put("jsonrpc", "2.0");
+        request.put("id", id);
+        request.put("method", method);
+        if (params != null) {
+            request.put("params", params);
+        }
+        return send(request, id);
+    }
+
+    /**
+     * Sends a JSON-RPC notification (no response expected).
+     */
+    public void notify(String method, Object params) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("jsonrpc", "2.0");
+        notification.put("method", method);
+        if (params != null) {
+            notification.put("params", params);
+        }
+        send(notification, -1);
+    }
+
+    /**
+     * Sends a pre-built JSON-RPC message as-is and returns the message matching {@code expectedId}.
+     *
+     * @param body       the serialized JSON-RPC message
+     * @param expectedId the request id to match in a streamed response, or -1 for notifications
+     */
+    public McpResponse sendRaw(String body, long expectedId) {
+        HttpRequest request =
+                buildRequest().POST(HttpRequest.BodyPublishers.ofString(body)).build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - start;
+
+            response.headers().firstValue("Mcp-Session-Id").ifPresent(id -> sessionId = id);
+
+            byte[] wire = response.body();
+            byte[] bytes = HttpCompression.decode(wire, response.headers());
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            return parseResponse(response.statusCode(), contentType, bytes, wire.length, latency, expectedId);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new McpClientException("MCP request to " + endpoint + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    private McpResponse send(Map<String, Object> message, long expectedId) {
+        try {
+            return sendRaw(objectMapper.writeValueAsString(message), expectedId);
+        } catch (JsonProcessingException e) {
+            throw new McpClientException("Failed to serialize MCP message", e);
+        }
+    }
+
+    private McpResponse parseResponse(
+            int status, String contentType, byte[] bytes, long wireBytes, long latency, long expectedId)
+            throws IOException {
+        if (bytes.length == 0) {
+            return new McpResponse(status, null, List.of(), latency, 0);
+        }
+
+        String body = new String(bytes, StandardCharsets.UTF_8);
+        if (!contentType.startsWith("text/event-stream")) {
+            JsonNode message = body.isBlank() ? null : objectMapper.readTree(body);
+            return new McpResponse(status, message, List.of(), latency, wireBytes);
+        }
+
+        JsonNode message = null;
+        List<JsonNode> notifications = new ArrayList<>();
+        for (String data : parseSseData(body)) {
+            JsonNode event = objectMapper.readTree(data);
+            if (event.has("id") && event.get("id").asLong() == expectedId) {
+                message = event;
+            } else {
+                notifications.add(event);
+            }
+        }
+        return new McpResponse(status, message, notifications, latency, wireBytes);
+    }
+
+    /**
+     * Splits an SSE stream into the concatenated {@code data:} payload of each event.
+     */
+    static List<String> parseSseData(String stream) {
+        List<String> events = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : stream.split("\r?\n", -1)) {
+            if (line.isEmpty()) {
+                if (current.length() > 0) {
+                    events.add(current.toString());
+                    current.setLength(0);
+                }
+            } else if (line.startsWith("data:")) {
+                if (current.length() > 0) {
+                    current.append('\n');
+                }
+                current.append(line.substring(line.startsWith("data: ") ? 6 : 5));
+            }
+        }
+        if (current.length() > 0) {
+            events.add(current.toString());
+        }
+        return events;
+    }
+
+    private HttpRequest.Builder buildRequest() {
+        return buildRequest(compression);
+    }
+
+    private HttpRequest.Builder buildRequest(boolean acceptCompression) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(endpoint)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream");
+        if (sessionId != null) {
+            builder.header("Mcp-Session-Id", sessionId);
+        }
+        if (initialized) {
+            builder.header("MCP-Protocol-Version", PROTOCOL_VERSION);
+        }
+        if (acceptCompression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
+        headers.forEach(builder::header);
+        return builder;
+    }
+
+    /**
+     * Asks the server for gzip or deflate responses, which are decoded transparently;
+     * {@link McpResponse#getBodyBytes()} then reports the compressed size. Streaming tool calls
+     * never ask for compression, so events are not held back by the encoder. Defaults to
+     * {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Returns true once {@link #initialize()} succeeded and until {@link #close()}.
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getEndpoint() {
+        return endpoint.toString();
+    }
+
+    /**
+     * Terminates the MCP session if the server issued one, then closes the {@link HttpClient} if
+     * this client created it.
+     */
+    @Override
+    public void close() {
+        try {
+            terminateSession();
+        } finally {
+            if (ownsHttpClient) {
+                httpClient.close();
+            }
+        }
+    }
+
+    private void terminateSession() {
+        if (sessionId == null) {
+            return;
+        }
+        try {
+            HttpRequest request = buildRequest().DELETE().build();
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.debug("Failed to terminate MCP session {}: {}", sessionId, e.getMessage());
+        } finally {
+            sessionId = null;
+            initialized = false;
+        }
+    }
+
+    public static class McpClientException extends RuntimeException {
+        public McpClientException(String message) {
+            super(message);
+        }
+
+        public McpClientException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ai.wanaku.test.client;
+
+import java.time.Duration;
+import java.util.List;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A JSON-RPC response received by {@link McpJsonRpcClient}, with transport timing and size.
+ */
+public class McpResponse {
+
+    private final int statusCode;
+    private final JsonNode message;
+    private final List<JsonNode> notifications;
+    private final long latencyNanos;
+    private final long bodyBytes;
+
+    McpResponse(int statusCode, JsonNode message, List<JsonNode> notifications, long latencyNanos, long bodyBytes) {
+        this.statusCode = statusCode;
+        this.message = message;
+        this.notifications = notifications;
+        this.latencyNanos = latencyNanos;
+        this.bodyBytes = bodyBytes;
+    }
+
+    /**
+     * Returns the HTTP status code.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the JSON-RPC response message, or null if the server sent none (e.g., 202 Accepted).
+     */
+    public JsonNode getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the {@code result} member, or null.
+     */
+    public JsonNode getResult() {
+        return message != null && message.has("result") ? message.get("result") : null;
+    }
+
+    /**
+     * Returns the {@code error} member, or null.
+     */
+    public JsonNode getError() {
+        return message != null && message.hasNonNull("error") ? message.get("error") : null;
+    }
+
+    /**
+     * Returns server-sent messages other than the response (progress and log notifications).
+     */
+    public List<JsonNode> getNotifications() {
+        return notifications;
+    }
+
+    public Duration getLatency() {
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Returns the response body size in bytes as received on the wire.
+     */
+    public long getBodyBytes() {
+        return bodyBytes;
+    }
+
+    /**
+     * Returns true for a non-2xx status, a JSON-RPC error, a missing result (e.g. a stream that
+     * ended without the response to the request), or a tool result flagged {@code isError}.
+     */
+    public boolean isError() {
+        if (statusCode < 200 || statusCode >= 300) {
+            return true;
+        }
+        if (getError() != null) {
+            return true;
+        }
+        JsonNode result = getResult();
+        return result == null || result.path("isError").asBoolean(false);
+    }
+
+    @Override
+    public String toString() {
+        return "McpResponse{status=" + statusCode + ", latency=" + latencyNanos / 1_000_000 + "ms, bytes=" + bodyBytes
+                + ", message=" + message + "}";
+    }
+}
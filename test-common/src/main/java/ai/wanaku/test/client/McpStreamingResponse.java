@@ -0,0 +1,114 @@
+package ai.wanaku.test.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import ai.wanaku.test.metrics.LatencyStats;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A JSON-RPC response read incrementally by {@link McpJsonRpcClient#callToolStreaming}, with the
+ * arrival time of the first byte and of every server-sent event.
+ *
+ * <p>All times are measured from the moment the request was sent. If the server (or anything in
+ * between) buffers the stream, the events arrive together at the end and
+ * {@link #getStreamSpread()} collapses towards zero even though the tool paced its output.
+ */
+public class McpStreamingResponse extends McpResponse {
+
+    private final long headersNanos;
+    private final long firstByteNanos;
+    private final List<Long> eventNanos;
+
+    McpStreamingResponse(
+            int statusCode,
+            JsonNode message,
+            List<JsonNode> notifications,
+            long latencyNanos,
+            long bodyBytes,
+            long headersNanos,
+            long firstByteNanos,
+            List<Long> eventNanos) {
+        super(statusCode, message, notifications, latencyNanos, bodyBytes);
+        this.headersNanos = headersNanos;
+        this.firstByteNanos = firstByteNanos;
+        this.eventNanos = eventNanos;
+    }
+
+    /**
+     * Returns the time until the response headers arrived.
+     */
+    public Duration getTimeToHeaders() {
+        return Duration.ofNanos(headersNanos);
+    }
+
+    /**
+     * Returns the time until the first body byte arrived, or the total latency for an empty body.
+     */
+    public Duration getTimeToFirstByte() {
+        return Duration.ofNanos(firstByteNanos >= 0 ? firstByteNanos : getLatencyNanos());
+    }
+
+    /**
+     * Returns the time until the first complete event (notification or response) arrived.
+     */
+    public Duration getTimeToFirstEvent() {
+        return eventNanos.isEmpty() ? getLatency() : Duration.ofNanos(eventNanos.get(0));
+    }
+
+    /**
+     * Returns the arrival time of every event, in stream order.
+     */
+    public List<Duration> getEventOffsets() {
+        List<Duration> offsets = new ArrayList<>(eventNanos.size());
+        eventNanos.forEach(nanos -> offsets.add(Duration.ofNanos(nanos)));
+        return offsets;
+    }
+
+    public int getEventCount() {
+        return eventNanos.size();
+    }
+
+    /**
+     * Returns the gaps between consecutive events.
+     */
+    public LatencyStats getInterChunkLatencies() {
+        LatencyStats stats = new LatencyStats();
+        for (int i = 1; i < eventNanos.size(); i++) {
+            stats.record(eventNanos.get(i) - eventNanos.get(i - 1));
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the time between the first and the last event.
+     */
+    public Duration getStreamSpread() {
+        if (eventNanos.size() < 2) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(eventNanos.get(eventNanos.size() - 1) - eventNanos.get(0));
+    }
+
+    /**
+     * Returns the {@code notifications/progress} messages received before the response.
+     */
+    public List<JsonNode> getProgressNotifications() {
+        List<JsonNode> progress = new ArrayList<>();
+        for (JsonNode notification : getNotifications()) {
+            if ("notifications/progress".equals(notification.path("method").asText())) {
+                progress.add(notification);
+            }
+        }
+        return progress;
+    }
+
+    @Override
+    public String toString() {
+        return "McpStreamingResponse{status=" + getStatusCode() + ", ttfb="
+                + getTimeToFirstByte().toMillis()
+                + "ms, events=" + eventNanos.size() + ", spread="
+                + getStreamSpread().toMillis() + "ms, latency="
+                + getLatency().toMillis() + "ms}";
+    }
+}
@@ -0,0 +1,56 @@
+package ai.wanaku.test.client;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+import ai.wanaku.test.WanakuTestConstants;
+
+/**
+ * Short-lived set of the names a list endpoint returns, for existence checks on entities the
+ * server can list but not look up by name.
+ *
+ * <p>The TTL is read from {@code -Dwanaku.test.name-index.ttl} in milliseconds and defaults to 0,
+ * which lists on every lookup, so no read is ever stale. With a positive TTL the names are loaded on
+ * the first lookup and reused until the TTL expires, so polling loops that check existence many
+ * times per second list the entities only once per TTL. The owning client invalidates the index
+ * after each of its own writes; changes made by other clients (the CLI, the router itself) then
+ * become visible after at most the TTL.
+ */
+final class NameIndex {
+
+    private final Supplier<Set<String>> loader;
+    private final long ttlNanos;
+    private Set<String> names;
+    private long loadedAt;
+
+    NameIndex(Supplier<Set<String>> loader) {
+        this(
+                loader,
+                Duration.ofMillis(Long.getLong(
+                        WanakuTestConstants.PROP_NAME_INDEX_TTL,
+                        WanakuTestConstants.DEFAULT_NAME_INDEX_TTL.toMillis())));
+    }
+
+    NameIndex(Supplier<Set<String>> loader, Duration ttl) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns whether the name was listed, loading the names if the index is empty or expired.
+     */
+    synchronized boolean contains(String name) {
+        if (names == null || System.nanoTime() - loadedAt >= ttlNanos) {
+            names = loader.get();
+            loadedAt = System.nanoTime();
+        }
+        return names.contains(name);
+    }
+
+    /**
+     * Drops the loaded names, so the next lookup lists again.
+     */
+    synchronized void invalidate() {
+        names = null;
+    }
+}
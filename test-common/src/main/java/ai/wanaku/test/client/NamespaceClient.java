@@ -1,6 +1,8 @@
 package ai.wanaku.test.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -12,6 +14,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
@@ -26,6 +31,8 @@ public class NamespaceClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
+    private final NameIndex names = new NameIndex(this::loadNames);
 
     public NamespaceClient(String baseUrl, String accessToken) {
         this.baseUrl = baseUrl;
@@ -52,7 +59,8 @@ public class NamespaceClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Namespace created: {}", name);
@@ -77,44 +85,25 @@ public class NamespaceClient {
     }
 
     public List<JsonNode> list() {
-        LOG.debug("Listing namespaces");
-
-        try {
-            HttpRequest request =
-                    buildRequest(WanakuTestConstants.NAMESPACES_PATH).GET().build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            LOG.debug("List namespaces response: {} - {}", response.statusCode(), response.body());
-
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                JsonNode dataNode = root.has("data") ? root.get("data") : root;
-
-                if (dataNode == null || dataNode.isNull()) {
-                    return new ArrayList<>();
-                }
-
-                List<JsonNode> namespaces = new ArrayList<>();
-                if (dataNode.isArray()) {
-                    for (JsonNode ns : dataNode) {
-                        namespaces.add(ns);
-                    }
-                } else if (dataNode.isObject()) {
-                    namespaces.add(dataNode);
-                }
-                return namespaces;
-            } else {
-                throw new NamespaceClientException(
-                        "Failed to list namespaces: " + response.statusCode() + " - " + response.body());
-            }
-        } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
+        try (Stream<JsonNode> namespaces = stream()) {
+            List<JsonNode> list = namespaces.collect(Collectors.toCollection(ArrayList::new));
+            LOG.debug("Listed {} namespaces", list.size());
+            return list;
+        } catch (UncheckedIOException e) {
             throw new NamespaceClientException("Failed to list namespaces", e);
         }
     }
 
+    /**
+     * Streams the namespaces, parsing the response as the stream is consumed. The stream must be
+     * closed; closing it early, for example after {@code findFirst}, stops reading the response.
+     * Read errors surface as {@link UncheckedIOException}.
+     */
+    public Stream<JsonNode> stream() {
+        LOG.debug("Streaming namespaces");
+        return openList(WanakuTestConstants.NAMESPACES_PATH, JsonNode.class).stream();
+    }
+
     /**
      * Shows a namespace by its server-generated ID.
      */
@@ -127,7 +116,7 @@ public class NamespaceClient {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Show namespace response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -164,7 +153,8 @@ public class NamespaceClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
             LOG.debug("Delete namespace response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -199,7 +189,8 @@ public class NamespaceClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 200 || response.statusCode() == 204) {
                 LOG.debug("Namespace updated: {}", id);
@@ -228,7 +219,8 @@ public class NamespaceClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 200 || response.statusCode() == 204) {
                 LOG.debug("Stale namespaces cleaned up");
@@ -245,24 +237,70 @@ public class NamespaceClient {
     }
 
     /**
-     * Checks whether a namespace with the given name exists by listing all namespaces.
+     * Checks whether a namespace with the given name exists, using the client's short-lived name index.
+     * Writes through this client are visible immediately, others after at most the index TTL.
      */
     public boolean exists(String name) {
-        List<JsonNode> namespaces = list();
-        return namespaces.stream()
-                .anyMatch(ns -> ns.has("name") && name.equals(ns.get("name").asText()));
+        return names.contains(name);
     }
 
     /**
-     * Finds a namespace by name and returns its name if it exists, or null if not found.
+     * Drops the name index, so the next {@link #exists(String)} lists again. Use after changes made
+     * by other clients when the answer must reflect them.
+     */
+    public void invalidateNames() {
+        names.invalidate();
+    }
+
+    /**
+     * Finds a namespace by name and returns its name if it exists, or null if not found. Uses the
+     * same name index as {@link #exists(String)}.
      */
     public String findByName(String name) {
-        List<JsonNode> namespaces = list();
-        return namespaces.stream()
-                .filter(ns -> ns.has("name") && name.equals(ns.get("name").asText()))
-                .findFirst()
-                .map(ns -> ns.get("name").asText())
-                .orElse(null);
+        return names.contains(name) ? name : null;
+    }
+
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    private Set<String> loadNames() {
+        try (Stream<JsonNode> namespaces = stream()) {
+            return namespaces
+                    .filter(ns -> ns.has("name"))
+                    .map(ns -> ns.get("name").asText())
+                    .collect(Collectors.toSet());
+        } catch (UncheckedIOException e) {
+            throw new NamespaceClientException("Failed to list namespaces", e);
+        }
+    }
+
+    /**
+     * Sends the list request and returns an iterator over the elements of the response body.
+     */
+    private <T> JsonListIterator<T> openList(String path, Class<T> type) {
+        try {
+            HttpRequest request = buildRequest(path).GET().build();
+
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = HttpCompression.decode(response.body(), response.headers());
+            if (response.statusCode() != 200) {
+                try (body) {
+                    throw new NamespaceClientException("Failed to list namespaces: " + response.statusCode() + " - "
+                            + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            return JsonListIterator.open(objectMapper, body, type, true);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new NamespaceClientException("Failed to list namespaces", e);
+        }
     }
 
     private HttpRequest.Builder buildRequest(String path) {
@@ -271,6 +309,9 @@ public class NamespaceClient {
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
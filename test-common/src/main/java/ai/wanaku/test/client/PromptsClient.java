@@ -12,6 +12,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
@@ -26,6 +28,8 @@ public class PromptsClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
+    private final NameIndex names = new NameIndex(this::loadNames);
 
     public PromptsClient(String baseUrl, String accessToken) {
         this.baseUrl = baseUrl;
@@ -50,7 +54,8 @@ public class PromptsClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Prompt added: {}", name);
@@ -75,7 +80,7 @@ public class PromptsClient {
             HttpRequest request =
                     buildRequest(WanakuTestConstants.PROMPTS_PATH).GET().build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("List prompts response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -116,7 +121,8 @@ public class PromptsClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
             LOG.debug("Remove prompt response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -149,7 +155,8 @@ public class PromptsClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 200 || response.statusCode() == 204) {
                 LOG.debug("Prompt edited: {}", name);
@@ -184,9 +191,35 @@ public class PromptsClient {
         LOG.debug("Cleared {} prompts", prompts.size());
     }
 
+    /**
+     * Checks whether a prompt with the given name exists, using the client's short-lived name index.
+     * Writes through this client are visible immediately, others after at most the index TTL.
+     */
     public boolean exists(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Drops the name index, so the next {@link #exists(String)} lists again. Use after changes made
+     * by other clients when the answer must reflect them.
+     */
+    public void invalidateNames() {
+        names.invalidate();
+    }
+
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    private Set<String> loadNames() {
         return list().stream()
-                .anyMatch(p -> p.has("name") && p.get("name").asText().equals(name));
+                .filter(p -> p.has("name"))
+                .map(p -> p.get("name").asText())
+                .collect(Collectors.toSet());
     }
 
     private HttpRequest.Builder buildRequest(String path) {
@@ -195,6 +228,9 @@ public class PromptsClient {
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
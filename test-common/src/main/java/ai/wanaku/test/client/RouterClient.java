@@ -1,6 +1,8 @@
 package ai.wanaku.test.client;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -12,6 +14,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
@@ -19,7 +23,6 @@ import ai.wanaku.test.model.HttpToolConfig;
 import ai.wanaku.test.model.ResourceConfig;
 import ai.wanaku.test.model.ResourceReference;
 import ai.wanaku.test.model.ToolInfo;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -44,6 +47,7 @@ public class RouterClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
 
     public RouterClient(String baseUrl) {
         this(baseUrl, null);
@@ -82,7 +86,7 @@ public class RouterClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 JsonNode root = objectMapper.readTree(response.body());
@@ -106,45 +110,44 @@ public class RouterClient {
      * Lists all registered tools.
      */
     public List<ToolInfo> listTools() {
-        LOG.debug("Listing tools");
-
-        try {
-            HttpRequest request =
-                    buildRequest(WanakuTestConstants.TOOLS_PATH).GET().build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            LOG.debug("List response: {} - {}", response.statusCode(), response.body());
-
-            if (response.statusCode() == 200) {
-                // Parse WanakuResponse wrapper
-                JsonNode root = objectMapper.readTree(response.body());
-                JsonNode dataNode = root.has("data") ? root.get("data") : root;
-
-                if (dataNode == null || dataNode.isNull()) {
-                    return new ArrayList<>();
-                }
-
-                if (dataNode.isArray()) {
-                    return objectMapper.convertValue(dataNode, new TypeReference<List<ToolInfo>>() {});
-                }
-                return new ArrayList<>();
-            } else {
-                throw new RouterClientException("Failed to list tools: " + response.statusCode());
-            }
-        } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
+        try (Stream<ToolInfo> tools = streamTools()) {
+            List<ToolInfo> list = tools.collect(Collectors.toCollection(ArrayList::new));
+            LOG.debug("Listed {} tools", list.size());
+            return list;
+        } catch (UncheckedIOException e) {
             throw new RouterClientException("Failed to list tools", e);
         }
     }
 
+    /**
+     * Streams the registered tools, parsing the response as the stream is consumed. The stream
+     * must be closed; closing it early, for example after {@code findFirst}, stops reading the
+     * response. Read errors surface as {@link UncheckedIOException}.
+     */
+    public Stream<ToolInfo> streamTools() {
+        LOG.debug("Streaming tools");
+        return openList(WanakuTestConstants.TOOLS_PATH, ToolInfo.class, "tools").stream();
+    }
+
     /**
      * Gets information about a specific tool.
      *
      * @throws ToolNotFoundException if the tool does not exist
      */
     public ToolInfo getToolInfo(String name) {
+        ToolInfo tool = findTool(name);
+        if (tool == null) {
+            throw new ToolNotFoundException("Tool '" + name + "' not found");
+        }
+        return tool;
+    }
+
+    /**
+     * Looks a tool up by name on the name-keyed endpoint.
+     *
+     * @return the tool, or null if it does not exist
+     */
+    private ToolInfo findTool(String name) {
         LOG.debug("Getting tool info: {}", name);
 
         try {
@@ -153,7 +156,7 @@ public class RouterClient {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Get tool response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -162,12 +165,12 @@ public class RouterClient {
                 JsonNode dataNode = root.has("data") ? root.get("data") : root;
 
                 if (dataNode == null || dataNode.isNull()) {
-                    throw new ToolNotFoundException("Tool '" + name + "' not found");
+                    return null;
                 }
 
                 return objectMapper.treeToValue(dataNode, ToolInfo.class);
             } else if (response.statusCode() == 404) {
-                throw new ToolNotFoundException("Tool '" + name + "' not found");
+                return null;
             } else {
                 // Check if response contains error
                 try {
@@ -177,7 +180,7 @@ public class RouterClient {
                                 ? root.get("error").get("message").asText()
                                 : root.get("error").asText();
                         if (errorMsg.contains("not found")) {
-                            throw new ToolNotFoundException("Tool '" + name + "' not found");
+                            return null;
                         }
                     }
                 } catch (IOException ignored) {
@@ -206,7 +209,7 @@ public class RouterClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Remove response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -244,15 +247,10 @@ public class RouterClient {
     }
 
     /**
-     * Checks if a tool exists.
+     * Checks if a tool exists with a single lookup on the name-keyed endpoint.
      */
     public boolean toolExists(String name) {
-        try {
-            getToolInfo(name);
-            return true;
-        } catch (ToolNotFoundException e) {
-            return false;
-        }
+        return findTool(name) != null;
     }
 
     /**
@@ -287,7 +285,7 @@ public class RouterClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 JsonNode root = objectMapper.readTree(response.body());
@@ -328,7 +326,7 @@ public class RouterClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Resource exposed: {}", config.getName());
@@ -350,38 +348,24 @@ public class RouterClient {
      * Lists all registered resources.
      */
     public List<ResourceReference> listResources() {
-        LOG.debug("Listing resources");
-
-        try {
-            HttpRequest request =
-                    buildRequest(WanakuTestConstants.RESOURCES_PATH).GET().build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            LOG.debug("List resources response: {} - {}", response.statusCode(), response.body());
-
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                JsonNode dataNode = root.has("data") ? root.get("data") : root;
-
-                if (dataNode == null || dataNode.isNull()) {
-                    return new ArrayList<>();
-                }
-
-                if (dataNode.isArray()) {
-                    return objectMapper.convertValue(dataNode, new TypeReference<List<ResourceReference>>() {});
-                }
-                return new ArrayList<>();
-            } else {
-                throw new RouterClientException("Failed to list resources: " + response.statusCode());
-            }
-        } catch (IOException | InterruptedException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
+        try (Stream<ResourceReference> resources = streamResources()) {
+            List<ResourceReference> list = resources.collect(Collectors.toCollection(ArrayList::new));
+            LOG.debug("Listed {} resources", list.size());
+            return list;
+        } catch (UncheckedIOException e) {
             throw new RouterClientException("Failed to list resources", e);
         }
     }
 
+    /**
+     * Streams the registered resources, parsing the response as the stream is consumed. The stream
+     * must be closed; see {@link #streamTools()}.
+     */
+    public Stream<ResourceReference> streamResources() {
+        LOG.debug("Streaming resources");
+        return openList(WanakuTestConstants.RESOURCES_PATH, ResourceReference.class, "resources").stream();
+    }
+
     /**
      * Removes a registered resource.
      *
@@ -396,7 +380,7 @@ public class RouterClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("Remove resource response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -424,11 +408,14 @@ public class RouterClient {
     public ResourceReference getResourceInfo(String name) {
         LOG.debug("Getting resource info: {}", name);
 
-        List<ResourceReference> resources = listResources();
-        return resources.stream()
-                .filter(r -> name.equals(r.getName()))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Resource '" + name + "' not found"));
+        try (Stream<ResourceReference> resources = streamResources()) {
+            return resources
+                    .filter(r -> name.equals(r.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Resource '" + name + "' not found"));
+        } catch (UncheckedIOException e) {
+            throw new RouterClientException("Failed to get resource", e);
+        }
     }
 
     /**
@@ -452,8 +439,11 @@ public class RouterClient {
      * Checks if a resource with the given name exists.
      */
     public boolean resourceExists(String name) {
-        List<ResourceReference> resources = listResources();
-        return resources.stream().anyMatch(r -> name.equals(r.getName()));
+        try (Stream<ResourceReference> resources = streamResources()) {
+            return resources.anyMatch(r -> name.equals(r.getName()));
+        } catch (UncheckedIOException e) {
+            throw new RouterClientException("Failed to list resources", e);
+        }
     }
 
     /**
@@ -477,7 +467,7 @@ public class RouterClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Resource exposed with config: {}", config.getName());
@@ -495,12 +485,45 @@ public class RouterClient {
         }
     }
 
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Sends a list request and returns an iterator over the elements of the response body.
+     */
+    private <T> JsonListIterator<T> openList(String path, Class<T> type, String what) {
+        try {
+            HttpRequest request = buildRequest(path).GET().build();
+
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = HttpCompression.decode(response.body(), response.headers());
+            if (response.statusCode() != 200) {
+                body.close();
+                throw new RouterClientException("Failed to list " + what + ": " + response.statusCode());
+            }
+            return JsonListIterator.open(objectMapper, body, type, false);
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RouterClientException("Failed to list " + what, e);
+        }
+    }
+
     private HttpRequest.Builder buildRequest(String path) {
         HttpRequest.Builder builder =
                 HttpRequest.newBuilder().uri(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
         if (accessToken != null) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
@@ -12,6 +12,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -25,6 +27,8 @@ public class ServiceCatalogClient {
     private final ObjectMapper objectMapper;
     private final String baseUrl;
     private final String accessToken;
+    private boolean compression = HttpCompression.enabledByDefault();
+    private final NameIndex names = new NameIndex(this::loadNames);
 
     public ServiceCatalogClient(String baseUrl, String accessToken) {
         this.baseUrl = baseUrl;
@@ -49,7 +53,8 @@ public class ServiceCatalogClient {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
 
             if (response.statusCode() == 201 || response.statusCode() == 200) {
                 LOG.debug("Service catalog deployed: {}", name);
@@ -73,7 +78,7 @@ public class ServiceCatalogClient {
         try {
             HttpRequest request = buildRequest("/api/v1/service-catalog").GET().build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
             LOG.debug("List service catalogs response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 200) {
@@ -114,7 +119,8 @@ public class ServiceCatalogClient {
                     .DELETE()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(request, HttpCompression.ofString());
+            names.invalidate();
             LOG.debug("Remove service catalog response: {} - {}", response.statusCode(), response.body());
 
             if (response.statusCode() == 204 || response.statusCode() == 200) {
@@ -151,9 +157,35 @@ public class ServiceCatalogClient {
         LOG.debug("Cleared {} service catalogs", catalogs.size());
     }
 
+    /**
+     * Checks whether a service catalog with the given name exists, using the client's short-lived name index.
+     * Writes through this client are visible immediately, others after at most the index TTL.
+     */
     public boolean exists(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Drops the name index, so the next {@link #exists(String)} lists again. Use after changes made
+     * by other clients when the answer must reflect them.
+     */
+    public void invalidateNames() {
+        names.invalidate();
+    }
+
+    /**
+     * Asks the server for gzip or deflate responses. Compressed responses are decoded
+     * transparently either way. Defaults to {@code wanaku.test.http.compression}.
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    private Set<String> loadNames() {
         return list().stream()
-                .anyMatch(c -> c.has("name") && c.get("name").asText().equals(name));
+                .filter(c -> c.has("name"))
+                .map(c -> c.get("name").asText())
+                .collect(Collectors.toSet());
     }
 
     private HttpRequest.Builder buildRequest(String path) {
@@ -162,6 +194,9 @@ public class ServiceCatalogClient {
         if (accessToken != null && !accessToken.isEmpty()) {
             builder.header("Authorization", "Bearer " + accessToken);
         }
+        if (compression) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.SUPPORTED_ENCODINGS);
+        }
         return builder;
     }
 
@@ -1,5 +1,6 @@
 package ai.wanaku.test.client;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
@@ -7,17 +8,32 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.utils.PortUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.net.httpserver.HttpServer;
 
 /**
  * Lightweight HTTP proxy that forwards MCP requests to Wanaku server and injects
  * {@code Mcp-Session-Id} into responses. Needed because the quarkus-mcp-server-test
  * library requires this header but the server does not return it.
+ *
+ * <p>To test against a degraded network, point it at a {@link FaultProxy} in front of the server.
+ *
+ * <p>{@link #startRecording(Path)} additionally writes every JSON-RPC exchange to a traffic log
+ * (one {@link TrafficRecord} per line) that {@link ai.wanaku.test.load.TrafficReplayer} can send
+ * back to a router later.
+ *
+ * <p>Request headers, including {@code Accept-Encoding}, are passed upstream as they are. A compressed
+ * response is passed through to a client that accepts its encoding and decoded for one that does
+ * not; recorded responses are always decoded.
  */
 public class SessionIdProxy implements AutoCloseable {
 
@@ -28,6 +44,10 @@ public class SessionIdProxy implements AutoCloseable {
     private final String targetBaseUrl;
     private final int port;
     private final String sessionId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Object recordingLock = new Object();
+    private BufferedWriter recording;
+    private long recordingStart;
 
     public SessionIdProxy(String targetBaseUrl) throws IOException {
         this.targetBaseUrl = targetBaseUrl.endsWith("/") ? targetBaseUrl : targetBaseUrl + "/";
@@ -61,18 +81,38 @@ public class SessionIdProxy implements AutoCloseable {
                     }
                 });
 
+                long requestStart = System.nanoTime();
                 HttpResponse<byte[]> resp =
                         httpClient.send(reqBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+                if ("POST".equals(method)) {
+                    record(requestStart, requestBody, resp);
+                }
+
+                byte[] body = resp.body();
+                String encoding = HttpCompression.contentEncoding(resp.headers());
+                boolean decode = encoding != null
+                        && !HttpCompression.accepts(
+                                exchange.getRequestHeaders().getFirst(HttpCompression.ACCEPT_ENCODING), encoding);
+                if (decode) {
+                    body = HttpCompression.decode(body, encoding);
+                }
 
                 resp.headers().map().forEach((name, values) -> {
-                    for (String v : values) {
-                        exchange.getResponseHeaders().add(name, v);
+                    if (!"Content-Length".equalsIgnoreCase(name)
+                            && !"Transfer-Encoding".equalsIgnoreCase(name)
+                            && !(decode && HttpCompression.CONTENT_ENCODING.equalsIgnoreCase(name))) {
+                        for (String v : values) {
+                            exchange.getResponseHeaders().add(name, v);
+                        }
                     }
                 });
-                exchange.getResponseHeaders().add("Mcp-Session-Id", sessionId);
+                if (resp.headers().firstValue("Mcp-Session-Id").isEmpty()) {
+                    String requestSession = exchange.getRequestHeaders().getFirst("Mcp-Session-Id");
+                    exchange.getResponseHeaders()
+                            .add("Mcp-Session-Id", requestSession != null ? requestSession : sessionId);
+                }
 
-                byte[] body = resp.body();
-                exchange.sendResponseHeaders(resp.statusCode(), body.length);
+                exchange.sendResponseHeaders(resp.statusCode(), body.length > 0 ? body.length : -1);
                 try (OutputStream os = exchange.getResponseBody()) {
                     os.write(body);
                 }
@@ -95,6 +135,96 @@ public class SessionIdProxy implements AutoCloseable {
         LOG.debug("SessionIdProxy started on port {}, forwarding to {}", port, targetBaseUrl);
     }
 
+    /**
+     * Starts writing every JSON-RPC exchange to the given file, replacing its contents. Offsets
+     * in the log are relative to this call.
+     *
+     * @param log the traffic log to write
+     * @throws IOException if the file cannot be created
+     */
+    public void startRecording(Path log) throws IOException {
+        if (log.getParent() != null) {
+            Files.createDirectories(log.getParent());
+        }
+        BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8);
+        synchronized (recordingLock) {
+            stopRecording();
+            recording = writer;
+            recordingStart = System.nanoTime();
+        }
+        LOG.debug("SessionIdProxy recording traffic to {}", log);
+    }
+
+    /**
+     * Stops recording and flushes the traffic log. Does nothing if not recording.
+     */
+    public void stopRecording() {
+        synchronized (recordingLock) {
+            if (recording == null) {
+                return;
+            }
+            try {
+                recording.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close traffic log: {}", e.getMessage());
+            }
+            recording = null;
+        }
+    }
+
+    public boolean isRecording() {
+        synchronized (recordingLock) {
+            return recording != null;
+        }
+    }
+
+    private void record(long requestStart, byte[] requestBody, HttpResponse<byte[]> resp) {
+        long latency = System.nanoTime() - requestStart;
+        synchronized (recordingLock) {
+            if (recording == null) {
+                return;
+            }
+            try {
+                String request = new String(requestBody, StandardCharsets.UTF_8);
+                TrafficRecord entry = new TrafficRecord();
+                entry.setOffsetMillis(Math.max(0, (requestStart - recordingStart) / 1_000_000));
+                entry.setRequest(request);
+                entry.setStatus(resp.statusCode());
+                entry.setLatencyMicros(latency / 1_000);
+
+                JsonNode message = objectMapper.readTree(request);
+                if (message != null && message.has("method")) {
+                    entry.setMethod(message.get("method").asText());
+                }
+                if (message != null && message.has("id")) {
+                    String contentType =
+                            resp.headers().firstValue("Content-Type").orElse("");
+                    byte[] body = HttpCompression.decode(resp.body(), resp.headers());
+                    entry.setResponse(responseMessage(contentType, body, message.get("id")));
+                }
+
+                recording.write(objectMapper.writeValueAsString(entry));
+                recording.newLine();
+            } catch (IOException e) {
+                LOG.warn("Failed to record exchange: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String responseMessage(String contentType, byte[] body, JsonNode id) throws IOException {
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (!contentType.startsWith("text/event-stream")) {
+            return text.isBlank() ? null : text;
+        }
+        for (String data : McpJsonRpcClient.parseSseData(text)) {
+            JsonNode event = objectMapper.readTree(data);
+            if (id.equals(event.get("id"))) {
+                return data;
+            }
+        }
+        return null;
+    }
+
     public int getPort() {
         return port;
     }
@@ -105,6 +235,7 @@ public class SessionIdProxy implements AutoCloseable {
 
     @Override
     public void close() {
+        stopRecording();
         server.stop(0);
         LOG.debug("SessionIdProxy stopped");
     }
@@ -0,0 +1,118 @@
+package ai.wanaku.test.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One JSON-RPC exchange captured by a recording {@link SessionIdProxy}. A traffic log holds one
+ * record per line, in the order the requests arrived.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrafficRecord {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private long offsetMillis;
+    private String method;
+    private String request;
+    private int status;
+    private String response;
+    private long latencyMicros;
+
+    public TrafficRecord() {}
+
+    /**
+     * Reads a traffic log written by {@link SessionIdProxy#startRecording(Path)}.
+     *
+     * @param log the log file
+     * @return the records in arrival order
+     * @throws IOException if the file cannot be read or a line is not a record
+     */
+    public static List<TrafficRecord> readAll(Path log) throws IOException {
+        List<TrafficRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(MAPPER.readValue(line, TrafficRecord.class));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the time between the start of the recording and the arrival of this request.
+     */
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public void setOffsetMillis(long offsetMillis) {
+        this.offsetMillis = offsetMillis;
+    }
+
+    /**
+     * Returns the JSON-RPC method, or null if the body was not a JSON-RPC message.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    /**
+     * Returns the request body as sent by the client.
+     */
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the JSON-RPC response message, unwrapped from the event stream if the server
+     * streamed it, or null for notifications.
+     */
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public void setLatencyMicros(long latencyMicros) {
+        this.latencyMicros = latencyMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "TrafficRecord{+" + offsetMillis + "ms " + method + ", status=" + status + "}";
+    }
+}
@@ -0,0 +1,119 @@
+package ai.wanaku.test.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A filter entry of the server's MCP filter chain, rendered into the generated pipeline config.
+ *
+ * <p>Options are raw YAML lines relative to the filter entry, e.g.
+ * {@code PipelineFilter.of("mcp", "on_invalid: continue")}. Nested options keep their own
+ * indentation. Use {@link #defaultChain()} for the chain the tests normally run against.
+ */
+public class PipelineFilter {
+
+    public static final String CORS = "cors";
+    public static final String MCP = "mcp";
+    public static final String WANAKU_NAMESPACE = "wanaku_namespace";
+    public static final String WANAKU_WELL_KNOWN = "wanaku_well_known";
+    public static final String WANAKU_MCP_INIT = "wanaku_mcp_init";
+    public static final String WANAKU_TOOL_LIST = "wanaku_tool_list";
+    public static final String WANAKU_TOOL_CALL = "wanaku_tool_call";
+    public static final String WANAKU_RESOURCE_LIST = "wanaku_resource_list";
+    public static final String WANAKU_RESOURCE_READ = "wanaku_resource_read";
+    public static final String WANAKU_PROMPT_LIST = "wanaku_prompt_list";
+    public static final String WANAKU_PROMPT_GET = "wanaku_prompt_get";
+    public static final String STATIC_RESPONSE = "static_response";
+
+    private final String name;
+    private final List<String> options;
+
+    private PipelineFilter(String name, List<String> options) {
+        this.name = name;
+        this.options = List.copyOf(options);
+    }
+
+    /**
+     * Creates a filter entry.
+     *
+     * @param name    the filter type (e.g., "wanaku_tool_call")
+     * @param options raw YAML option lines, relative to the filter entry
+     */
+    public static PipelineFilter of(String name, String... options) {
+        return new PipelineFilter(name, List.of(options));
+    }
+
+    public static PipelineFilter cors() {
+        return of(
+                CORS,
+                "allow_origins: [\"*\"]",
+                "allow_methods: [\"GET\", \"POST\", \"OPTIONS\"]",
+                "allow_headers: [\"Content-Type\", \"Accept\", \"Mcp-Session-Id\","
+                        + " \"Mcp-Protocol-Version\", \"Authorization\"]");
+    }
+
+    public static PipelineFilter mcp() {
+        return of(MCP, "on_invalid: continue");
+    }
+
+    /**
+     * Terminal filter answering every request that no earlier filter handled with a JSON-RPC
+     * "method not supported" error.
+     */
+    public static PipelineFilter methodNotSupported() {
+        return of(
+                STATIC_RESPONSE,
+                "status: 200",
+                "headers:",
+                "  - name: content-type",
+                "    value: application/json",
+                "body: '{\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32601,"
+                        + "\"message\":\"method not supported\"},\"id\":null}'");
+    }
+
+    /**
+     * Returns the full Wanaku chain: CORS, MCP parsing, all Wanaku handlers and the terminal
+     * static response.
+     */
+    public static List<PipelineFilter> defaultChain() {
+        List<PipelineFilter> chain = new ArrayList<>();
+        chain.add(cors());
+        chain.add(mcp());
+        chain.add(of(WANAKU_NAMESPACE));
+        chain.add(of(WANAKU_WELL_KNOWN));
+        chain.add(of(WANAKU_MCP_INIT));
+        chain.add(of(WANAKU_TOOL_LIST));
+        chain.add(of(WANAKU_TOOL_CALL));
+        chain.add(of(WANAKU_RESOURCE_LIST));
+        chain.add(of(WANAKU_RESOURCE_READ));
+        chain.add(of(WANAKU_PROMPT_LIST));
+        chain.add(of(WANAKU_PROMPT_GET));
+        chain.add(methodNotSupported());
+        return chain;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    /**
+     * Renders this filter as lines of a {@code filters:} list at the given indentation.
+     */
+    public List<String> toYamlLines(String indent) {
+        List<String> lines = new ArrayList<>();
+        lines.add(indent + "- filter: " + name);
+        for (String option : options) {
+            lines.add(indent + "  " + option);
+        }
+        return lines;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -11,8 +11,14 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,12 +37,18 @@ import org.slf4j.LoggerFactory;
  *
  * // Copy with variable substitution
  * Path fixtureDir = TestFixtures.load("my-fixture", tempDir, Map.of("JDBC_URL", jdbcUrl));
+ *
+ * // Rendered once per JVM, shared read-only afterwards
+ * Path fixtureDir = TestFixtures.render("my-fixture", Map.of("JDBC_URL", jdbcUrl));
  * </pre>
  */
 public final class TestFixtures {
 
     private static final Logger LOG = LoggerFactory.getLogger(TestFixtures.class);
 
+    private static final Path CACHE_DIR = Path.of("target", "fixture-cache");
+    private static final Map<String, Path> RENDERED = new ConcurrentHashMap<>();
+
     private TestFixtures() {
         // Utility class
     }
@@ -100,6 +112,74 @@ public final class TestFixtures {
         return destDir;
     }
 
+    /**
+     * Returns a rendered copy of a fixture without placeholders substituted.
+     *
+     * @see #render(String, Map)
+     */
+    public static Path render(String fixtureName) {
+        return render(fixtureName, Collections.emptyMap());
+    }
+
+    /**
+     * Returns a rendered copy of a fixture, rendering it only on the first request.
+     *
+     * <p>Rendered fixtures are cached under {@code target/fixture-cache/}, in a directory named
+     * after the fixture and a hash of the variable map. The first request in a JVM renders the
+     * fixture there as {@link #load(String, Path, Map)} would; every later request with the same
+     * name and variables returns that directory without touching the file system. The directory is
+     * shared, so callers must not modify it.</p>
+     *
+     * @param fixtureName the name of the fixture directory (e.g., "my-fixture")
+     * @param vars        a map of variable names to replacement values
+     * @return the path to the rendered fixture directory
+     * @throws IllegalArgumentException if the fixture directory is not found on the classpath
+     * @throws UncheckedIOException     if an I/O error occurs while rendering
+     */
+    public static Path render(String fixtureName, Map<String, String> vars) {
+        String key = cacheKey(fixtureName, vars);
+        return RENDERED.computeIfAbsent(key, k -> {
+            Path cacheEntry = CACHE_DIR.resolve(k).toAbsolutePath();
+            deleteRecursively(cacheEntry);
+            Path rendered = load(fixtureName, cacheEntry, vars);
+            LOG.debug("Rendered fixture '{}' into cache entry {}", fixtureName, cacheEntry);
+            return rendered;
+        });
+    }
+
+    private static String cacheKey(String fixtureName, Map<String, String> vars) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(fixtureName.getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, String> entry : new TreeMap<>(vars).entrySet()) {
+                digest.update((byte) 0);
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '=');
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            return fixtureName + "-" + HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to delete stale fixture file: " + path, e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear fixture cache entry: " + dir, e);
+        }
+    }
+
     /**
      * Copies fixture files from the classpath resource to the destination directory.
      */
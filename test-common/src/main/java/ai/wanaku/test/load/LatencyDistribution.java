@@ -0,0 +1,43 @@
+package ai.wanaku.test.load;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shape of an injected latency around a configured mean, shared by the fault proxy and the
+ * synthetic-load settings of the test MCP server.
+ *
+ * <p>The test MCP server runs outside this library, so {@code SyntheticLoadServer.sampleLatency}
+ * in the fixture implements the same shapes; keep the two in step.
+ */
+public enum LatencyDistribution {
+    FIXED,
+    UNIFORM,
+    EXPONENTIAL,
+    /**
+     * Lognormal with sigma = 1 and mu chosen so that the mean equals the configured one.
+     */
+    LOGNORMAL;
+
+    /**
+     * Draws a latency in the unit of {@code mean}; 0 if the mean is not positive.
+     */
+    public long sample(long mean, RandomGenerator random) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return switch (this) {
+            case FIXED -> mean;
+            case UNIFORM -> random.nextLong(2 * mean + 1);
+            case EXPONENTIAL -> Math.round(-mean * Math.log(1 - random.nextDouble()));
+            case LOGNORMAL -> Math.round(Math.exp(Math.log(mean) - 0.5 + random.nextGaussian()));
+        };
+    }
+
+    /**
+     * Returns the name the test MCP server expects, e.g. {@code exponential}.
+     */
+    public String wireName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
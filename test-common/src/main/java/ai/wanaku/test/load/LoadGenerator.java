@@ -0,0 +1,428 @@
+package ai.wanaku.test.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.metrics.LatencyStats;
+
+/**
+ * Closed-loop load generator: a fixed number of workers, each issuing requests back to back on a
+ * virtual thread for a fixed duration.
+ *
+ * <p>Every worker gets its own {@link Worker} from the factory, so per-worker state such as an MCP
+ * session stays thread-confined. Requests during the warmup period are executed but not measured.
+ * With a think time, each worker pauses for an exponentially distributed time between requests;
+ * pauses are not part of the measured latency. With {@code reconnectOnFailure}, a worker whose
+ * request failed is closed and replaced, so load keeps flowing across a server restart. Without
+ * it, a worker the factory fails to create counts as one failed request and its thread ends.
+ *
+ * <p>Usage example:
+ * <pre>
+ * LoadResult result = LoadGenerator.builder()
+ *         .concurrency(16)
+ *         .duration(Duration.ofSeconds(30))
+ *         .worker(() -&gt; {
+ *             McpJsonRpcClient client = new McpJsonRpcClient(mcpUrl);
+ *             client.initialize();
+ *             return () -&gt; client.listTools();
+ *         })
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadGenerator.class);
+
+    /**
+     * Issues one request. A thrown exception counts as a failed request.
+     */
+    @FunctionalInterface
+    public interface Worker {
+        void execute() throws Exception;
+
+        /**
+         * Returns the label of the request just executed (e.g., its JSON-RPC method), under which
+         * it is additionally counted in {@link LoadResult#getLabelLatencies()}, or null.
+         */
+        default String label() {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the worker for one load thread.
+     */
+    @FunctionalInterface
+    public interface WorkerFactory {
+        Worker create() throws Exception;
+    }
+
+    /**
+     * Receives the timing and outcome of every measured request, e.g. to build a timeline.
+     */
+    @FunctionalInterface
+    public interface RequestObserver {
+        void onRequest(long startNanos, long endNanos, boolean success);
+    }
+
+    /**
+     * Performs the operation with the given index, as part of a fixed-size batch.
+     */
+    @FunctionalInterface
+    public interface IndexedTask {
+        void execute(int index) throws Exception;
+    }
+
+    private int concurrency = WanakuTestConstants.DEFAULT_BENCH_CONCURRENCY;
+    private Duration duration = WanakuTestConstants.DEFAULT_BENCH_DURATION;
+    private Duration warmup = WanakuTestConstants.DEFAULT_BENCH_WARMUP;
+    private Duration thinkTime = Duration.ZERO;
+    private boolean reconnectOnFailure;
+    private Duration reconnectBackoff = Duration.ofMillis(100);
+    private RequestObserver observer;
+    private WorkerFactory workerFactory;
+    private volatile boolean stopped;
+
+    private LoadGenerator() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the load and blocks until the duration has elapsed and all workers have stopped.
+     *
+     * @return the measured result
+     */
+    public LoadResult run() {
+        LatencyStats latencies = new LatencyStats();
+        AtomicLong successes = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        Map<String, LatencyStats> labelLatencies = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> labelFailures = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            threads.add(Thread.ofVirtual()
+                    .name("load-worker-" + index)
+                    .start(() -> runWorker(
+                            index,
+                            measureFrom,
+                            deadline,
+                            latencies,
+                            successes,
+                            failures,
+                            labelLatencies,
+                            labelFailures)));
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threads.forEach(Thread::interrupt);
+        }
+
+        Duration measured = Duration.ofNanos(Math.max(0, System.nanoTime() - measureFrom));
+        Map<String, Long> failuresByLabel = new HashMap<>();
+        labelFailures.forEach((label, count) -> failuresByLabel.put(label, count.get()));
+        LoadResult result = new LoadResult(
+                concurrency, measured, latencies, successes.get(), failures.get(), labelLatencies, failuresByLabel);
+        LOG.info("Load run finished: {}", result.summary());
+        return result;
+    }
+
+    /**
+     * Asks a running load to end early: every worker finishes its current request and exits, and
+     * {@link #run()} returns the result so far.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Executes a fixed number of indexed operations across {@code concurrency} virtual threads,
+     * e.g. to seed a catalog, and measures every one of them.
+     *
+     * @param count       the number of operations
+     * @param concurrency the number of parallel workers
+     * @param task        the operation, called once for each index in {@code [0, count)}
+     * @return the measured result; throughput is operations per second over the whole batch
+     */
+    public static LoadResult runBatch(int count, int concurrency, IndexedTask task) {
+        LatencyStats latencies = new LatencyStats();
+        AtomicLong successes = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            threads.add(Thread.ofVirtual().name("batch-worker-" + i).start(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < count
+                        && !Thread.currentThread().isInterrupted()) {
+                    long requestStart = System.nanoTime();
+                    try {
+                        task.execute(index);
+                        latencies.record(System.nanoTime() - requestStart);
+                        successes.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        long failed = failures.incrementAndGet();
+                        if (failed <= 10) {
+                            LOG.warn("Batch operation {} failed: {}", index, e.getMessage());
+                        }
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threads.forEach(Thread::interrupt);
+        }
+
+        LoadResult result = new LoadResult(
+                concurrency, Duration.ofNanos(System.nanoTime() - start), latencies, successes.get(), failures.get());
+        LOG.info("Batch of {} finished: {}", count, result.summary());
+        return result;
+    }
+
+    private void runWorker(
+            int index,
+            long measureFrom,
+            long deadline,
+            LatencyStats latencies,
+            AtomicLong successes,
+            AtomicLong failures,
+            Map<String, LatencyStats> labelLatencies,
+            Map<String, AtomicLong> labelFailures) {
+        Worker worker = null;
+        if (!reconnectOnFailure) {
+            long createStart = System.nanoTime();
+            try {
+                worker = workerFactory.create();
+            } catch (Exception e) {
+                // Counted regardless of the warmup, so a run whose workers never started cannot pass
+                LOG.warn("Load worker {} failed to start: {}", index, e.getMessage());
+                if (observer != null) {
+                    observer.onRequest(createStart, System.nanoTime(), false);
+                }
+                failures.incrementAndGet();
+                return;
+            }
+        }
+
+        while (!Thread.currentThread().isInterrupted() && !stopped) {
+            long requestStart = System.nanoTime();
+            if (requestStart >= deadline) {
+                break;
+            }
+            boolean ok;
+            try {
+                if (worker == null) {
+                    worker = workerFactory.create();
+                    // Reconnecting is not part of the request; a failed reconnect is timed from the start
+                    requestStart = System.nanoTime();
+                }
+                worker.execute();
+                ok = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                ok = false;
+                LOG.trace("Load worker {} request failed: {}", index, e.getMessage());
+            }
+            long end = System.nanoTime();
+            if (requestStart >= measureFrom) {
+                if (observer != null) {
+                    observer.onRequest(requestStart, end, ok);
+                }
+                String label = worker != null ? worker.label() : null;
+                if (ok) {
+                    latencies.record(end - requestStart);
+                    successes.incrementAndGet();
+                    if (label != null) {
+                        labelLatencies
+                                .computeIfAbsent(label, l -> new LatencyStats())
+                                .record(end - requestStart);
+                    }
+                } else {
+                    failures.incrementAndGet();
+                    if (label != null) {
+                        labelFailures
+                                .computeIfAbsent(label, l -> new AtomicLong())
+                                .incrementAndGet();
+                    }
+                }
+            }
+            if (!ok && reconnectOnFailure) {
+                close(worker, index);
+                worker = null;
+                if (!pause(reconnectBackoff.toNanos(), deadline)) {
+                    break;
+                }
+            } else if (!think(deadline)) {
+                break;
+            }
+        }
+
+        close(worker, index);
+    }
+
+    private static void close(Worker worker, int index) {
+        if (worker instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOG.debug("Failed to close load worker {}: {}", index, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Pauses for an exponentially distributed think time, cut short at the deadline.
+     *
+     * @return false if interrupted
+     */
+    private boolean think(long deadline) {
+        if (thinkTime.isZero()) {
+            return true;
+        }
+        double sample = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * thinkTime.toNanos();
+        return pause((long) sample, deadline);
+    }
+
+    /**
+     * Sleeps for the given time, cut short at the deadline.
+     *
+     * @return false if interrupted
+     */
+    private static boolean pause(long nanos, long deadline) {
+        long pause = Math.min(nanos, deadline - System.nanoTime());
+        if (pause <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(pause));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static class Builder {
+        private final LoadGenerator generator = new LoadGenerator();
+
+        public Builder concurrency(int concurrency) {
+            generator.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            generator.duration = duration;
+            return this;
+        }
+
+        public Builder warmup(Duration warmup) {
+            generator.warmup = warmup;
+            return this;
+        }
+
+        /**
+         * Sets the mean pause of each worker between two requests (default none).
+         */
+        public Builder thinkTime(Duration thinkTime) {
+            generator.thinkTime = thinkTime;
+            return this;
+        }
+
+        /**
+         * Replaces a worker after each failed request: it is closed and a new one is created from
+         * the factory before the next request, after a short backoff. Use it to let clients
+         * reconnect when the server goes away. The time to create the new worker is not part of
+         * the next request's latency; a failure to create it counts as a failed request instead of
+         * ending the worker thread.
+         */
+        public Builder reconnectOnFailure(boolean reconnectOnFailure) {
+            generator.reconnectOnFailure = reconnectOnFailure;
+            return this;
+        }
+
+        /**
+         * Sets the pause before a replaced worker is created (default 100 ms).
+         */
+        public Builder reconnectBackoff(Duration backoff) {
+            generator.reconnectBackoff = backoff;
+            return this;
+        }
+
+        /**
+         * Registers an observer called after every measured request, from the worker thread.
+         */
+        public Builder observer(RequestObserver observer) {
+            generator.observer = observer;
+            return this;
+        }
+
+        public Builder worker(WorkerFactory workerFactory) {
+            generator.workerFactory = workerFactory;
+            return this;
+        }
+
+        /**
+         * Reads concurrency, duration and warmup from the {@code wanaku.test.bench.*} system
+         * properties (durations in ISO-8601, e.g. {@code PT30S}).
+         */
+        public Builder fromSystemProperties() {
+            String concurrency = System.getProperty(WanakuTestConstants.PROP_BENCH_CONCURRENCY);
+            if (concurrency != null && !concurrency.isBlank()) {
+                generator.concurrency = Integer.parseInt(concurrency.trim());
+            }
+            String duration = System.getProperty(WanakuTestConstants.PROP_BENCH_DURATION);
+            if (duration != null && !duration.isBlank()) {
+                generator.duration = Duration.parse(duration.trim());
+            }
+            String warmup = System.getProperty(WanakuTestConstants.PROP_BENCH_WARMUP);
+            if (warmup != null && !warmup.isBlank()) {
+                generator.warmup = Duration.parse(warmup.trim());
+            }
+            return this;
+        }
+
+        public LoadGenerator build() {
+            if (generator.workerFactory == null) {
+                throw new IllegalStateException("Worker factory is required");
+            }
+            if (generator.concurrency < 1) {
+                throw new IllegalStateException("Concurrency must be at least 1");
+            }
+            return generator;
+        }
+    }
+}
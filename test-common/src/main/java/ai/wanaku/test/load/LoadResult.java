@@ -0,0 +1,108 @@
+package ai.wanaku.test.load;
+
+import java.time.Duration;
+import java.util.Map;
+import ai.wanaku.test.metrics.LatencyStats;
+
+/**
+ * Result of a {@link LoadGenerator} run. Only requests issued after warmup are counted.
+ */
+public class LoadResult {
+
+    private final int concurrency;
+    private final Duration elapsed;
+    private final LatencyStats latencies;
+    private final long successes;
+    private final long failures;
+    private final Map<String, LatencyStats> labelLatencies;
+    private final Map<String, Long> labelFailures;
+
+    LoadResult(int concurrency, Duration elapsed, LatencyStats latencies, long successes, long failures) {
+        this(concurrency, elapsed, latencies, successes, failures, Map.of(), Map.of());
+    }
+
+    LoadResult(
+            int concurrency,
+            Duration elapsed,
+            LatencyStats latencies,
+            long successes,
+            long failures,
+            Map<String, LatencyStats> labelLatencies,
+            Map<String, Long> labelFailures) {
+        this.concurrency = concurrency;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+        this.successes = successes;
+        this.failures = failures;
+        this.labelLatencies = Map.copyOf(labelLatencies);
+        this.labelFailures = Map.copyOf(labelFailures);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the latency of successful requests.
+     */
+    public LatencyStats getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the latency of successful requests per {@link LoadGenerator.Worker#label() label};
+     * empty if the workers do not label their requests.
+     */
+    public Map<String, LatencyStats> getLabelLatencies() {
+        return labelLatencies;
+    }
+
+    /**
+     * Returns the number of failed requests per label.
+     */
+    public Map<String, Long> getLabelFailures() {
+        return labelFailures;
+    }
+
+    public long getSuccesses() {
+        return successes;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns successful requests per second.
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? successes / seconds : 0;
+    }
+
+    /**
+     * Returns the fraction of failed requests (0–1).
+     */
+    public double getErrorRate() {
+        long total = successes + failures;
+        return total > 0 ? failures / (double) total : 0;
+    }
+
+    /**
+     * Returns a one-line summary suitable for logging.
+     */
+    public String summary() {
+        return String.format(
+                "concurrency=%d ok=%d failed=%d throughput=%.1f/s %s",
+                concurrency, successes, failures, getThroughput(), latencies.summary());
+    }
+
+    @Override
+    public String toString() {
+        return "LoadResult{" + summary() + "}";
+    }
+}
@@ -0,0 +1,125 @@
+package ai.wanaku.test.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.awaitility.Awaitility;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+
+/**
+ * Load worker that calls MCP tools over its own session, and helpers to wait until the tools are
+ * listed before loading them.
+ *
+ * <p>The session is initialized when the worker is created and terminated when the load generator
+ * closes the worker at the end of the run. A call whose response is an error, including a tool
+ * result with {@code isError: true}, throws and counts as a failed request.
+ *
+ * <p>Usage example:
+ * <pre>
+ * String tool = McpToolWorker.awaitToolListed(mcpUrl, "echo"::equals, Duration.ofSeconds(30));
+ * LoadResult result = LoadGenerator.builder()
+ *         .fromSystemProperties()
+ *         .worker(() -&gt; new McpToolWorker(mcpUrl, tool, Map.of("message", "hi")))
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class McpToolWorker implements LoadGenerator.Worker, AutoCloseable {
+
+    private static final Duration LIST_POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final McpJsonRpcClient client;
+    private final Supplier<String> tool;
+    private final Map<String, Object> arguments;
+    private BiConsumer<String, McpResponse> onSuccess = (name, response) -> {};
+
+    /**
+     * Creates a worker that always calls the same tool.
+     */
+    public McpToolWorker(String mcpUrl, String tool, Map<String, Object> arguments) {
+        this(mcpUrl, () -> tool, arguments);
+    }
+
+    /**
+     * Creates a worker that asks {@code tool} for the name to call before every request, e.g. to
+     * spread calls over several tools.
+     */
+    public McpToolWorker(String mcpUrl, Supplier<String> tool, Map<String, Object> arguments) {
+        this.client = new McpJsonRpcClient(mcpUrl);
+        this.tool = tool;
+        this.arguments = arguments;
+        try {
+            client.initialize();
+        } catch (RuntimeException e) {
+            client.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Receives the tool name and response of every successful call, e.g. to record latencies of a
+     * subset of the tools.
+     */
+    public McpToolWorker onSuccess(BiConsumer<String, McpResponse> onSuccess) {
+        this.onSuccess = onSuccess;
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        String name = tool.get();
+        McpResponse response = client.callTool(name, arguments);
+        if (response.isError()) {
+            throw new IllegalStateException("Call of tool " + name + " failed: " + response);
+        }
+        onSuccess.accept(name, response);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    /**
+     * Waits until the endpoint lists a tool whose name matches, and returns that name. Useful when
+     * the router may list a forwarded tool under a derived name.
+     *
+     * @throws org.awaitility.core.ConditionTimeoutException if no such tool is listed in time
+     */
+    public static String awaitToolListed(String mcpUrl, Predicate<String> name, Duration timeout) {
+        return awaitToolsListed(mcpUrl, name, 1, timeout).get(0);
+    }
+
+    /**
+     * Waits until the endpoint lists at least {@code minimum} tools whose names match, and returns
+     * all matching names in listing order.
+     *
+     * @throws org.awaitility.core.ConditionTimeoutException if fewer are listed in time
+     */
+    public static List<String> awaitToolsListed(String mcpUrl, Predicate<String> name, int minimum, Duration timeout) {
+        List<String> names = new ArrayList<>();
+        try (McpJsonRpcClient probe = new McpJsonRpcClient(mcpUrl)) {
+            Awaitility.await("tools listed on " + mcpUrl)
+                    .atMost(timeout)
+                    .pollInterval(LIST_POLL_INTERVAL)
+                    .ignoreExceptions()
+                    .until(() -> {
+                        if (!probe.isInitialized()) {
+                            probe.initialize();
+                        }
+                        names.clear();
+                        probe.listAll("tools/list", "tools").stream()
+                                .map(tool -> tool.path("name").asText())
+                                .filter(name)
+                                .forEach(names::add);
+                        return names.size() >= minimum;
+                    });
+        }
+        return List.copyOf(names);
+    }
+}
@@ -0,0 +1,315 @@
+package ai.wanaku.test.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+
+/**
+ * Worker factory for {@link LoadGenerator} that models agent traffic: a weighted mix of MCP
+ * operations, Zipf-distributed popularity of tools, resources and prompts, and sessions of
+ * limited length.
+ *
+ * <p>Popularity ranks are assigned by shuffling each catalog with the seed, so the hot items do not
+ * depend on naming. A session ends after a geometrically distributed number of operations and the
+ * worker opens a new one; the handshake is reported under the label {@code initialize}. Every
+ * other request is labelled with its JSON-RPC method (see {@link LoadResult#getLabelLatencies()}).
+ * Think time is set on the load generator.
+ *
+ * <p>Usage example:
+ * <pre>
+ * MixedWorkload workload = MixedWorkload.builder()
+ *         .target(mcpUrl)
+ *         .tools(toolNames)
+ *         .resources(resourceUris)
+ *         .weight(MixedWorkload.Operation.TOOLS_CALL, 70)
+ *         .weight(MixedWorkload.Operation.TOOLS_LIST, 10)
+ *         .weight(MixedWorkload.Operation.RESOURCES_READ, 20)
+ *         .zipfExponent(1.1)
+ *         .sessionLength(50)
+ *         .build();
+ * LoadResult result = LoadGenerator.builder()
+ *         .fromSystemProperties()
+ *         .thinkTime(Duration.ofMillis(20))
+ *         .worker(workload)
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class MixedWorkload implements LoadGenerator.WorkerFactory {
+
+    public static final String INITIALIZE_LABEL = "initialize";
+
+    /**
+     * An MCP operation of the mix.
+     */
+    public enum Operation {
+        TOOLS_LIST("tools/list"),
+        TOOLS_CALL("tools/call"),
+        RESOURCES_LIST("resources/list"),
+        RESOURCES_READ("resources/read"),
+        PROMPTS_LIST("prompts/list"),
+        PROMPTS_GET("prompts/get");
+
+        private final String method;
+
+        Operation(String method) {
+            this.method = method;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+    }
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    private final AtomicInteger workerIndex = new AtomicInteger();
+    private String targetUrl;
+    private List<String> tools = List.of();
+    private List<String> resources = List.of();
+    private List<String> prompts = List.of();
+    private Map<String, Object> toolArguments = Map.of();
+    private Map<String, String> promptArguments = Map.of();
+    private double zipfExponent = 1.0;
+    private long seed = 42;
+    private int sessionLength;
+    private Operation[] operations;
+    private int[] cumulativeWeights;
+    private ZipfDistribution toolPopularity;
+    private ZipfDistribution resourcePopularity;
+    private ZipfDistribution promptPopularity;
+
+    private MixedWorkload() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public LoadGenerator.Worker create() {
+        return new MixedWorker(new Random(seed + 31L * workerIndex.getAndIncrement()));
+    }
+
+    /**
+     * Returns the tools in popularity order, most popular first.
+     */
+    public List<String> getToolsByPopularity() {
+        return tools;
+    }
+
+    /**
+     * Returns the resources in popularity order, most popular first.
+     */
+    public List<String> getResourcesByPopularity() {
+        return resources;
+    }
+
+    public ZipfDistribution getToolPopularity() {
+        return toolPopularity;
+    }
+
+    private Operation pickOperation(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long nextSessionLength(Random random) {
+        if (sessionLength <= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (sessionLength == 1) {
+            return 1;
+        }
+        double u = 1 - random.nextDouble();
+        return 1 + (long) Math.floor(Math.log(u) / Math.log(1 - 1.0 / sessionLength));
+    }
+
+    private class MixedWorker implements LoadGenerator.Worker, AutoCloseable {
+
+        private final Random random;
+        private McpJsonRpcClient client;
+        private long remaining;
+        private String label;
+
+        MixedWorker(Random random) {
+            this.random = random;
+        }
+
+        @Override
+        public void execute() {
+            if (client == null || remaining <= 0) {
+                label = INITIALIZE_LABEL;
+                close();
+                client = new McpJsonRpcClient(targetUrl);
+                client.initialize();
+                remaining = nextSessionLength(random);
+                return;
+            }
+
+            Operation operation = pickOperation(random);
+            label = operation.getMethod();
+            remaining--;
+            McpResponse response =
+                    switch (operation) {
+                        case TOOLS_LIST -> client.listTools();
+                        case TOOLS_CALL -> client.callTool(tools.get(toolPopularity.sample(random)), toolArguments);
+                        case RESOURCES_LIST -> client.listResources();
+                        case RESOURCES_READ -> client.readResource(resources.get(resourcePopularity.sample(random)));
+                        case PROMPTS_LIST -> client.listPrompts();
+                        case PROMPTS_GET ->
+                            client.getPrompt(prompts.get(promptPopularity.sample(random)), promptArguments);
+                    };
+            if (response.isError()) {
+                throw new IllegalStateException(operation.getMethod() + " failed: " + response);
+            }
+        }
+
+        @Override
+        public String label() {
+            return label;
+        }
+
+        @Override
+        public void close() {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+    }
+
+    public static class Builder {
+        private final MixedWorkload workload = new MixedWorkload();
+
+        /**
+         * Sets the MCP endpoint (e.g., "http://localhost:8081/default/mcp").
+         */
+        public Builder target(String mcpUrl) {
+            workload.targetUrl = mcpUrl;
+            return this;
+        }
+
+        public Builder tools(List<String> tools) {
+            workload.tools = List.copyOf(tools);
+            return this;
+        }
+
+        public Builder resources(List<String> resourceUris) {
+            workload.resources = List.copyOf(resourceUris);
+            return this;
+        }
+
+        public Builder prompts(List<String> prompts) {
+            workload.prompts = List.copyOf(prompts);
+            return this;
+        }
+
+        /**
+         * Sets the relative weight of an operation in the mix (default 0 for all).
+         */
+        public Builder weight(Operation operation, int weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative");
+            }
+            workload.weights.put(operation, weight);
+            return this;
+        }
+
+        public Builder toolArguments(Map<String, Object> arguments) {
+            workload.toolArguments = Map.copyOf(arguments);
+            return this;
+        }
+
+        public Builder promptArguments(Map<String, String> arguments) {
+            workload.promptArguments = Map.copyOf(arguments);
+            return this;
+        }
+
+        /**
+         * Sets the Zipf exponent of tool, resource and prompt popularity; 0 makes it uniform
+         * (default 1.0).
+         */
+        public Builder zipfExponent(double exponent) {
+            workload.zipfExponent = exponent;
+            return this;
+        }
+
+        /**
+         * Sets the seed for popularity ranks and per-worker random choices (default 42).
+         */
+        public Builder seed(long seed) {
+            workload.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the mean number of operations per MCP session; 0 keeps one session per worker
+         * (default).
+         */
+        public Builder sessionLength(int meanOperations) {
+            workload.sessionLength = meanOperations;
+            return this;
+        }
+
+        public MixedWorkload build() {
+            if (workload.targetUrl == null) {
+                throw new IllegalStateException("Target URL is required");
+            }
+            requireCatalog(Operation.TOOLS_CALL, workload.tools, "tools");
+            requireCatalog(Operation.RESOURCES_READ, workload.resources, "resources");
+            requireCatalog(Operation.PROMPTS_GET, workload.prompts, "prompts");
+
+            List<Operation> operations = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (Map.Entry<Operation, Integer> entry : workload.weights.entrySet()) {
+                if (entry.getValue() > 0) {
+                    total += entry.getValue();
+                    operations.add(entry.getKey());
+                    cumulative.add(total);
+                }
+            }
+            if (total == 0) {
+                throw new IllegalStateException("At least one operation needs a positive weight");
+            }
+            workload.operations = operations.toArray(new Operation[0]);
+            workload.cumulativeWeights =
+                    cumulative.stream().mapToInt(Integer::intValue).toArray();
+
+            Random shuffle = new Random(workload.seed);
+            workload.tools = rank(workload.tools, shuffle);
+            workload.resources = rank(workload.resources, shuffle);
+            workload.prompts = rank(workload.prompts, shuffle);
+            workload.toolPopularity = popularity(workload.tools);
+            workload.resourcePopularity = popularity(workload.resources);
+            workload.promptPopularity = popularity(workload.prompts);
+            return workload;
+        }
+
+        private void requireCatalog(Operation operation, List<String> catalog, String kind) {
+            if (workload.weights.getOrDefault(operation, 0) > 0 && catalog.isEmpty()) {
+                throw new IllegalStateException(operation.getMethod() + " has a weight but no " + kind);
+            }
+        }
+
+        private List<String> rank(List<String> catalog, Random shuffle) {
+            List<String> ranked = new ArrayList<>(catalog);
+            Collections.shuffle(ranked, shuffle);
+            return List.copyOf(ranked);
+        }
+
+        private ZipfDistribution popularity(List<String> catalog) {
+            return catalog.isEmpty() ? null : new ZipfDistribution(catalog.size(), workload.zipfExponent);
+        }
+    }
+}
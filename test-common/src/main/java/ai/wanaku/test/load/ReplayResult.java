@@ -0,0 +1,136 @@
+package ai.wanaku.test.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import ai.wanaku.test.metrics.LatencyStats;
+
+/**
+ * Result of a {@link TrafficReplayer} run across all replayed sessions.
+ */
+public class ReplayResult {
+
+    private final int sessions;
+    private final double speed;
+    private final Duration elapsed;
+    private final LatencyStats latencies;
+    private final Map<String, LatencyStats> methodLatencies;
+    private final long requests;
+    private final long failures;
+    private final long mismatches;
+    private final List<String> mismatchSamples;
+    private final Duration maxLag;
+
+    ReplayResult(
+            int sessions,
+            double speed,
+            Duration elapsed,
+            LatencyStats latencies,
+            Map<String, LatencyStats> methodLatencies,
+            long requests,
+            long failures,
+            long mismatches,
+            List<String> mismatchSamples,
+            Duration maxLag) {
+        this.sessions = sessions;
+        this.speed = speed;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+        this.methodLatencies = Map.copyOf(methodLatencies);
+        this.requests = requests;
+        this.failures = failures;
+        this.mismatches = mismatches;
+        this.mismatchSamples = List.copyOf(mismatchSamples);
+        this.maxLag = maxLag;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Returns the replay speed factor; 0 means unthrottled.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the latency of all successful requests.
+     */
+    public LatencyStats getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the latency of successful requests per JSON-RPC method.
+     */
+    public Map<String, LatencyStats> getMethodLatencies() {
+        return methodLatencies;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Returns requests that failed in transport or got an HTTP error the recording did not have.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns responses whose result or error differed from the recorded one.
+     */
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * Returns descriptions of the first few mismatches.
+     */
+    public List<String> getMismatchSamples() {
+        return mismatchSamples;
+    }
+
+    /**
+     * Returns how far the slowest session fell behind the recorded schedule.
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Returns requests per second over the whole replay.
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? Math.max(0, requests - failures) / seconds : 0;
+    }
+
+    /**
+     * Returns a one-line summary suitable for logging.
+     */
+    public String summary() {
+        return String.format(
+                "sessions=%d speed=%s requests=%d failed=%d mismatched=%d maxLag=%dms throughput=%.1f/s %s",
+                sessions,
+                speed > 0 ? speed + "x" : "unthrottled",
+                requests,
+                failures,
+                mismatches,
+                maxLag.toMillis(),
+                getThroughput(),
+                latencies.summary());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayResult{" + summary() + "}";
+    }
+}
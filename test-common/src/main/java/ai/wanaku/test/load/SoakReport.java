@@ -0,0 +1,154 @@
+package ai.wanaku.test.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.metrics.LinearTrend;
+
+/**
+ * Result of a {@link SoakRunner} run: raw samples, fitted trends and leak suspects.
+ */
+public class SoakReport {
+
+    private final List<SoakSample> samples;
+    private final long cycles;
+    private final long failedCycles;
+    private final LatencyStats cycleLatency;
+    private final LinearTrend rssTrend;
+    private final LinearTrend fdTrend;
+    private final LinearTrend latencyTrend;
+    private final double trendStart;
+    private final double trendSpan;
+    private final List<String> leakSuspects = new ArrayList<>();
+
+    SoakReport(
+            List<SoakSample> samples,
+            long cycles,
+            long failedCycles,
+            LatencyStats cycleLatency,
+            double warmupFraction,
+            SoakThresholds thresholds) {
+        this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+        this.cycles = cycles;
+        this.failedCycles = failedCycles;
+        this.cycleLatency = cycleLatency;
+
+        List<SoakSample> steady = samples.subList((int) (samples.size() * warmupFraction), samples.size());
+        this.trendStart = steady.isEmpty() ? 0 : steady.get(0).getElapsedSeconds();
+        this.trendSpan = steady.isEmpty() ? 0 : steady.get(steady.size() - 1).getElapsedSeconds() - trendStart;
+        this.rssTrend = fit(steady, SoakSample::getResidentSetBytes);
+        this.fdTrend = fit(steady, SoakSample::getOpenFileDescriptors);
+        this.latencyTrend = fit(steady, SoakSample::getP50Millis);
+
+        if (isGrowing(rssTrend, thresholds)
+                && rssTrend.growthPercent(trendStart, trendSpan) > thresholds.getRssGrowthPercent()) {
+            leakSuspects.add(String.format(
+                    "RSS grew %.1f%% over %.0fs (%s)",
+                    rssTrend.growthPercent(trendStart, trendSpan), trendSpan, rssTrend));
+        }
+        if (isGrowing(fdTrend, thresholds) && fdTrend.getSlope() * trendSpan > thresholds.getFdGrowth()) {
+            leakSuspects.add(String.format(
+                    "Open file descriptors grew by %.0f over %.0fs (%s)",
+                    fdTrend.getSlope() * trendSpan, trendSpan, fdTrend));
+        }
+        if (isGrowing(latencyTrend, thresholds)
+                && latencyTrend.growthPercent(trendStart, trendSpan) > thresholds.getLatencyGrowthPercent()) {
+            leakSuspects.add(String.format(
+                    "Median cycle latency grew %.1f%% over %.0fs (%s)",
+                    latencyTrend.growthPercent(trendStart, trendSpan), trendSpan, latencyTrend));
+        }
+    }
+
+    private static boolean isGrowing(LinearTrend trend, SoakThresholds thresholds) {
+        return trend.getSampleCount() >= 3
+                && trend.getSlope() > 0
+                && trend.getRSquared() >= thresholds.getMinRSquared();
+    }
+
+    private static LinearTrend fit(List<SoakSample> samples, ToDoubleFunction<SoakSample> value) {
+        // Unavailable values are -1 (process stats) or NaN (latency of an empty window)
+        List<SoakSample> valid = samples.stream()
+                .filter(s -> {
+                    double v = value.applyAsDouble(s);
+                    return !Double.isNaN(v) && v >= 0;
+                })
+                .toList();
+        double[] x = new double[valid.size()];
+        double[] y = new double[valid.size()];
+        for (int i = 0; i < valid.size(); i++) {
+            x[i] = valid.get(i).getElapsedSeconds();
+            y[i] = value.applyAsDouble(valid.get(i));
+        }
+        return LinearTrend.fit(x, y);
+    }
+
+    public List<SoakSample> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the number of cycles run, successful or not.
+     */
+    public long getCycles() {
+        return cycles;
+    }
+
+    public long getFailedCycles() {
+        return failedCycles;
+    }
+
+    /**
+     * Returns the latency of every successful cycle over the whole run.
+     */
+    public LatencyStats getCycleLatency() {
+        return cycleLatency;
+    }
+
+    public LinearTrend getRssTrend() {
+        return rssTrend;
+    }
+
+    public LinearTrend getFdTrend() {
+        return fdTrend;
+    }
+
+    public LinearTrend getLatencyTrend() {
+        return latencyTrend;
+    }
+
+    /**
+     * Returns a description of every metric whose post-warmup trend exceeds its threshold.
+     */
+    public List<String> getLeakSuspects() {
+        return Collections.unmodifiableList(leakSuspects);
+    }
+
+    public boolean hasLeakSuspects() {
+        return !leakSuspects.isEmpty();
+    }
+
+    /**
+     * Writes the samples as CSV for offline plotting.
+     */
+    public void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("elapsed_s,cycles,rss_bytes,open_fds,p50_ms,p99_ms");
+        samples.forEach(s -> lines.add(s.toCsv()));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, lines);
+    }
+
+    /**
+     * Returns a one-line summary suitable for logging.
+     */
+    public String summary() {
+        return String.format(
+                "cycles=%d failed=%d samples=%d latency[%s] leakSuspects=%s",
+                cycles, failedCycles, samples.size(), cycleLatency.summary(), leakSuspects);
+    }
+}
@@ -0,0 +1,196 @@
+package ai.wanaku.test.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.metrics.LatencyStats;
+import ai.wanaku.test.utils.ProcessStats;
+
+/**
+ * Repeats a workload cycle for a long period while sampling the resource usage of a monitored
+ * process, then fits a trend to the samples to flag leaks.
+ *
+ * <p>A cycle is expected to leave the system in the state it found it (register, use, remove),
+ * so any steady growth in RSS, open file descriptors or cycle latency after warmup points at a
+ * leak rather than at accumulated data.
+ *
+ * <p>Usage example:
+ * <pre>
+ * SoakReport report = SoakRunner.builder()
+ *         .duration(Duration.ofHours(1))
+ *         .monitoredPid(serverManager::getPid)
+ *         .cycle(iteration -&gt; registerUseAndRemove(iteration))
+ *         .build()
+ *         .run();
+ * assertThat(report.getLeakSuspects()).isEmpty();
+ * </pre>
+ */
+public class SoakRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoakRunner.class);
+
+    /**
+     * A single unit of soak work.
+     */
+    @FunctionalInterface
+    public interface Cycle {
+        void run(int iteration) throws Exception;
+    }
+
+    private Duration duration = WanakuTestConstants.DEFAULT_SOAK_DURATION;
+    private Duration sampleInterval = WanakuTestConstants.DEFAULT_SOAK_SAMPLE_INTERVAL;
+    private double warmupFraction = 0.1;
+    private LongSupplier monitoredPid = () -> -1;
+    private Cycle cycle;
+    private SoakThresholds thresholds = new SoakThresholds();
+
+    private SoakRunner() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs cycles until the configured duration elapses.
+     *
+     * @return the report with samples and fitted trends
+     */
+    public SoakReport run() {
+        LOG.info("Starting soak run for {} (sample interval {})", duration, sampleInterval);
+
+        List<SoakSample> samples = new ArrayList<>();
+        LatencyStats overall = new LatencyStats();
+        LatencyStats window = new LatencyStats();
+        long completed = 0;
+        long failed = 0;
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long nextSample = start;
+        int iteration = 0;
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (now >= nextSample) {
+                samples.add(sample(start, now, completed, window));
+                window = new LatencyStats();
+                nextSample = now + sampleInterval.toNanos();
+            }
+
+            long cycleStart = System.nanoTime();
+            try {
+                cycle.run(iteration);
+                long latency = System.nanoTime() - cycleStart;
+                overall.record(latency);
+                window.record(latency);
+                completed++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                failed++;
+                if (failed <= 10 || failed % 100 == 0) {
+                    LOG.warn("Soak cycle {} failed ({} failures so far): {}", iteration, failed, e.getMessage());
+                }
+            }
+            iteration++;
+        }
+        samples.add(sample(start, System.nanoTime(), completed, window));
+
+        SoakReport report = new SoakReport(samples, completed + failed, failed, overall, warmupFraction, thresholds);
+        LOG.info("Soak run finished: {}", report.summary());
+        return report;
+    }
+
+    private SoakSample sample(long start, long now, long cycles, LatencyStats windowStats) {
+        long pid = monitoredPid.getAsLong();
+        // A window without completed cycles has no latency; 0 would pull the trend down
+        boolean empty = windowStats.count() == 0;
+        SoakSample sample = new SoakSample(
+                (now - start) / 1_000_000_000.0,
+                cycles,
+                ProcessStats.residentSetBytes(pid),
+                ProcessStats.openFileDescriptors(pid),
+                empty ? Double.NaN : windowStats.p50Millis(),
+                empty ? Double.NaN : windowStats.p99Millis());
+        LOG.debug(
+                "Soak sample at {}s: cycles={} rss={} fds={} p50={}ms",
+                String.format("%.0f", sample.getElapsedSeconds()),
+                cycles,
+                sample.getResidentSetBytes(),
+                sample.getOpenFileDescriptors(),
+                String.format("%.2f", sample.getP50Millis()));
+        return sample;
+    }
+
+    public static class Builder {
+        private final SoakRunner runner = new SoakRunner();
+
+        public Builder duration(Duration duration) {
+            runner.duration = duration;
+            return this;
+        }
+
+        public Builder sampleInterval(Duration sampleInterval) {
+            runner.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Sets the leading fraction of samples excluded from trend fitting (default 0.1).
+         */
+        public Builder warmupFraction(double warmupFraction) {
+            runner.warmupFraction = warmupFraction;
+            return this;
+        }
+
+        /**
+         * Sets the process whose RSS and file descriptors are sampled. The supplier is queried on
+         * every sample so a restarted process is followed.
+         */
+        public Builder monitoredPid(LongSupplier monitoredPid) {
+            runner.monitoredPid = monitoredPid;
+            return this;
+        }
+
+        public Builder cycle(Cycle cycle) {
+            runner.cycle = cycle;
+            return this;
+        }
+
+        public Builder thresholds(SoakThresholds thresholds) {
+            runner.thresholds = thresholds;
+            return this;
+        }
+
+        /**
+         * Reads the duration and sample interval from the {@code wanaku.test.soak.*} system properties
+         * (ISO-8601 durations, e.g. {@code PT2H}).
+         */
+        public Builder fromSystemProperties() {
+            String duration = System.getProperty(WanakuTestConstants.PROP_SOAK_DURATION);
+            if (duration != null && !duration.isBlank()) {
+                runner.duration = Duration.parse(duration.trim());
+            }
+            String interval = System.getProperty(WanakuTestConstants.PROP_SOAK_SAMPLE_INTERVAL);
+            if (interval != null && !interval.isBlank()) {
+                runner.sampleInterval = Duration.parse(interval.trim());
+            }
+            return this;
+        }
+
+        public SoakRunner build() {
+            if (runner.cycle == null) {
+                throw new IllegalStateException("Soak cycle is required");
+            }
+            if (runner.sampleInterval.compareTo(runner.duration) >= 0) {
+                throw new IllegalStateException("Sample interval must be shorter than the soak duration");
+            }
+            return runner;
+        }
+    }
+}
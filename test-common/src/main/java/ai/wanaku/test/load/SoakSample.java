@@ -0,0 +1,84 @@
+package ai.wanaku.test.load;
+
+import java.util.Locale;
+
+/**
+ * One resource-usage sample taken during a soak run.
+ */
+public class SoakSample {
+
+    private final double elapsedSeconds;
+    private final long cycles;
+    private final long residentSetBytes;
+    private final int openFileDescriptors;
+    private final double p50Millis;
+    private final double p99Millis;
+
+    SoakSample(
+            double elapsedSeconds,
+            long cycles,
+            long residentSetBytes,
+            int openFileDescriptors,
+            double p50Millis,
+            double p99Millis) {
+        this.elapsedSeconds = elapsedSeconds;
+        this.cycles = cycles;
+        this.residentSetBytes = residentSetBytes;
+        this.openFileDescriptors = openFileDescriptors;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    /**
+     * Returns the number of cycles completed successfully when the sample was taken.
+     */
+    public long getCycles() {
+        return cycles;
+    }
+
+    /**
+     * Returns the RSS of the monitored process in bytes, or -1 if unavailable.
+     */
+    public long getResidentSetBytes() {
+        return residentSetBytes;
+    }
+
+    /**
+     * Returns the open file descriptor count of the monitored process, or -1 if unavailable.
+     */
+    public int getOpenFileDescriptors() {
+        return openFileDescriptors;
+    }
+
+    /**
+     * Returns the median cycle latency within the sample window, or NaN if no cycle completed in
+     * it.
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * Returns the 99th percentile cycle latency within the sample window, or NaN if no cycle
+     * completed in it.
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    String toCsv() {
+        return String.format(
+                Locale.ROOT,
+                "%.1f,%d,%d,%d,%.3f,%.3f",
+                elapsedSeconds,
+                cycles,
+                residentSetBytes,
+                openFileDescriptors,
+                p50Millis,
+                p99Millis);
+    }
+}
@@ -0,0 +1,63 @@
+package ai.wanaku.test.load;
+
+/**
+ * Growth limits beyond which a soak trend is reported as a leak suspect.
+ *
+ * <p>A trend is only considered when its slope is positive and the fit explains at least
+ * {@link #minRSquared(double) minRSquared} of the variance, so noisy but flat series are ignored.
+ */
+public class SoakThresholds {
+
+    private double rssGrowthPercent = 10;
+    private double fdGrowth = 16;
+    private double latencyGrowthPercent = 25;
+    private double minRSquared = 0.5;
+
+    /**
+     * Sets the allowed fitted RSS growth over the run, in percent (default 10).
+     */
+    public SoakThresholds rssGrowthPercent(double rssGrowthPercent) {
+        this.rssGrowthPercent = rssGrowthPercent;
+        return this;
+    }
+
+    /**
+     * Sets the allowed fitted growth in open file descriptors over the run (default 16).
+     */
+    public SoakThresholds fdGrowth(double fdGrowth) {
+        this.fdGrowth = fdGrowth;
+        return this;
+    }
+
+    /**
+     * Sets the allowed fitted median latency growth over the run, in percent (default 25).
+     */
+    public SoakThresholds latencyGrowthPercent(double latencyGrowthPercent) {
+        this.latencyGrowthPercent = latencyGrowthPercent;
+        return this;
+    }
+
+    /**
+     * Sets the minimum goodness of fit for a trend to count (default 0.5).
+     */
+    public SoakThresholds minRSquared(double minRSquared) {
+        this.minRSquared = minRSquared;
+        return this;
+    }
+
+    public double getRssGrowthPercent() {
+        return rssGrowthPercent;
+    }
+
+    public double getFdGrowth() {
+        return fdGrowth;
+    }
+
+    public double getLatencyGrowthPercent() {
+        return latencyGrowthPercent;
+    }
+
+    public double getMinRSquared() {
+        return minRSquared;
+    }
+}
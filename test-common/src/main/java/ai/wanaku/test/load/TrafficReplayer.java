@@ -0,0 +1,287 @@
+package ai.wanaku.test.load;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.client.McpResponse;
+import ai.wanaku.test.client.TrafficRecord;
+import ai.wanaku.test.metrics.LatencyStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Replays a traffic log recorded by {@link ai.wanaku.test.client.SessionIdProxy} against a router,
+ * optionally in many parallel sessions, and compares every response with the recorded one.
+ *
+ * <p>Each session opens its own MCP session and then sends the recorded requests in order. At
+ * speed 1 requests keep their recorded spacing, at speed 10 the spacing shrinks tenfold, and at
+ * speed 0 they are sent back to back. Recorded {@code initialize} exchanges are replaced by the
+ * session's own handshake, and request ids are renumbered per session.
+ *
+ * <p>Usage example:
+ * <pre>
+ * ReplayResult result = TrafficReplayer.builder()
+ *         .log(Path.of("target", "traffic", "agent-session.jsonl"))
+ *         .target(serverManager.getMcpBaseUrl() + "/default/mcp")
+ *         .speed(10)
+ *         .sessions(32)
+ *         .build()
+ *         .run();
+ * </pre>
+ */
+public class TrafficReplayer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrafficReplayer.class);
+    private static final int MAX_MISMATCH_SAMPLES = 10;
+    private static final Set<String> HANDSHAKE_METHODS = Set.of("initialize", "notifications/initialized");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<TrafficRecord> records;
+    private String targetUrl;
+    private double speed = 1.0;
+    private int sessions = 1;
+    private final Set<String> ignoredFields = new HashSet<>();
+
+    private TrafficReplayer() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Replays the log in all sessions and blocks until every session has finished.
+     *
+     * @return the measured result
+     */
+    public ReplayResult run() {
+        LatencyStats latencies = new LatencyStats();
+        Map<String, LatencyStats> methodLatencies = new ConcurrentHashMap<>();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        AtomicLong mismatches = new AtomicLong();
+        AtomicLong maxLagNanos = new AtomicLong();
+        List<String> samples = Collections.synchronizedList(new ArrayList<>());
+
+        List<TrafficRecord> script = records.stream()
+                .filter(r -> !HANDSHAKE_METHODS.contains(r.getMethod()))
+                .toList();
+        long firstOffset = script.isEmpty() ? 0 : script.get(0).getOffsetMillis();
+
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            int index = i;
+            threads.add(Thread.ofVirtual().name("replay-session-" + index).start(() -> {
+                try (McpJsonRpcClient client = new McpJsonRpcClient(targetUrl)) {
+                    client.initialize();
+                    long sessionStart = System.nanoTime();
+                    long nextId = 1;
+                    for (TrafficRecord record : script) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                        maxLagNanos.accumulateAndGet(
+                                pace(sessionStart, record.getOffsetMillis() - firstOffset), Math::max);
+                        replay(client, record, nextId++, latencies, methodLatencies, failures, mismatches, samples);
+                        requests.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    LOG.warn("Replay session {} failed: {}", index, e.getMessage());
+                }
+            }));
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threads.forEach(Thread::interrupt);
+        }
+
+        ReplayResult result = new ReplayResult(
+                sessions,
+                speed,
+                Duration.ofNanos(System.nanoTime() - start),
+                latencies,
+                methodLatencies,
+                requests.get(),
+                failures.get(),
+                mismatches.get(),
+                samples,
+                Duration.ofNanos(maxLagNanos.get()));
+        LOG.info("Replay of {} requests finished: {}", script.size(), result.summary());
+        return result;
+    }
+
+    /**
+     * Waits until the scaled offset is due and returns how late the request is.
+     */
+    private long pace(long sessionStart, long offsetMillis) throws InterruptedException {
+        if (speed <= 0) {
+            return 0;
+        }
+        long due = sessionStart + (long) (offsetMillis * 1_000_000 / speed);
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+            Thread.sleep(Duration.ofNanos(wait));
+            return 0;
+        }
+        return -wait;
+    }
+
+    private void replay(
+            McpJsonRpcClient client,
+            TrafficRecord record,
+            long id,
+            LatencyStats latencies,
+            Map<String, LatencyStats> methodLatencies,
+            AtomicLong failures,
+            AtomicLong mismatches,
+            List<String> samples)
+            throws IOException {
+        JsonNode request = objectMapper.readTree(record.getRequest());
+        boolean expectsResponse = request instanceof ObjectNode && request.has("id");
+        if (expectsResponse) {
+            ((ObjectNode) request).put("id", id);
+        }
+
+        McpResponse response;
+        try {
+            response = client.sendRaw(objectMapper.writeValueAsString(request), expectsResponse ? id : -1);
+        } catch (McpJsonRpcClient.McpClientException e) {
+            failures.incrementAndGet();
+            LOG.debug("Replayed {} failed: {}", record.getMethod(), e.getMessage());
+            return;
+        }
+        if (response.getStatusCode() >= 400 && record.getStatus() < 400) {
+            failures.incrementAndGet();
+            return;
+        }
+
+        String method = record.getMethod() != null ? record.getMethod() : "unknown";
+        latencies.record(response.getLatencyNanos());
+        methodLatencies.computeIfAbsent(method, m -> new LatencyStats()).record(response.getLatencyNanos());
+
+        if (expectsResponse && record.getResponse() != null) {
+            JsonNode expected = normalize(objectMapper.readTree(record.getResponse()));
+            JsonNode actual = normalize(response.getMessage());
+            if (!expected.equals(actual)) {
+                mismatches.incrementAndGet();
+                if (samples.size() < MAX_MISMATCH_SAMPLES) {
+                    samples.add(method + ": expected " + expected + " but was " + actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps only the result or error of a response, without the ignored fields.
+     */
+    private JsonNode normalize(JsonNode message) {
+        ObjectNode normalized = objectMapper.createObjectNode();
+        if (message == null) {
+            return normalized;
+        }
+        if (message.has("result")) {
+            normalized.set("result", strip(message.get("result").deepCopy()));
+        }
+        if (message.has("error")) {
+            normalized.set("error", strip(message.get("error").deepCopy()));
+        }
+        return normalized;
+    }
+
+    private JsonNode strip(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.remove(ignoredFields);
+        }
+        node.forEach(this::strip);
+        return node;
+    }
+
+    public static class Builder {
+        private final TrafficReplayer replayer = new TrafficReplayer();
+
+        public Builder records(List<TrafficRecord> records) {
+            replayer.records = List.copyOf(records);
+            return this;
+        }
+
+        /**
+         * Reads the records to replay from a traffic log.
+         *
+         * @throws IOException if the log cannot be read
+         */
+        public Builder log(Path log) throws IOException {
+            return records(TrafficRecord.readAll(log));
+        }
+
+        /**
+         * Sets the MCP endpoint to replay against (e.g., "http://localhost:8081/default/mcp").
+         */
+        public Builder target(String mcpUrl) {
+            replayer.targetUrl = mcpUrl;
+            return this;
+        }
+
+        /**
+         * Sets the speed factor relative to the recording: 1 keeps the recorded pacing, 10 is ten
+         * times faster, 0 sends every request as soon as the previous one completed.
+         */
+        public Builder speed(double speed) {
+            replayer.speed = speed;
+            return this;
+        }
+
+        public Builder unthrottled() {
+            return speed(0);
+        }
+
+        public Builder sessions(int sessions) {
+            replayer.sessions = sessions;
+            return this;
+        }
+
+        /**
+         * Excludes fields with these names, at any depth, from the response comparison, e.g. for
+         * timestamps or generated identifiers.
+         */
+        public Builder ignoreFields(String... names) {
+            Collections.addAll(replayer.ignoredFields, names);
+            return this;
+        }
+
+        public TrafficReplayer build() {
+            if (replayer.records == null) {
+                throw new IllegalStateException("Records to replay are required");
+            }
+            if (replayer.targetUrl == null) {
+                throw new IllegalStateException("Target URL is required");
+            }
+            if (replayer.sessions < 1) {
+                throw new IllegalStateException("Sessions must be at least 1");
+            }
+            if (replayer.speed < 0) {
+                throw new IllegalStateException("Speed must not be negative");
+            }
+            return replayer;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ai.wanaku.test.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf distribution over ranks {@code 0..n-1}: rank {@code k} is drawn with a probability
+ * proportional to {@code 1 / (k + 1)^exponent}. An exponent of 0 is uniform; around 1 a small head
+ * of items receives most of the traffic, as with real agent workloads.
+ */
+public class ZipfDistribution {
+
+    private final double exponent;
+    private final double[] cumulative;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent must not be negative");
+        }
+        this.exponent = exponent;
+        this.cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= total;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     */
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * Returns the probability of drawing the given rank.
+     */
+    public double probability(int rank) {
+        return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+    }
+
+    /**
+     * Returns the share of draws that fall on the {@code count} most popular ranks.
+     */
+    public double headShare(int count) {
+        return count <= 0 ? 0 : cumulative[Math.min(count, cumulative.length) - 1];
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+}
@@ -38,11 +38,24 @@ public class CamelCapabilityManager extends ProcessManager {
         this.registrationUrl = registrationUrl;
     }
 
+    /**
+     * Enables Camel's route reloading for YAML routes in the given directory, so routes can be
+     * swapped by rewriting the file instead of restarting the JVM. Must be called before start.
+     */
+    public void enableRoutesReload(Path directory) {
+        addSystemProperty("camel.main.routes-reload-enabled", "true");
+        addSystemProperty(
+                "camel.main.routes-reload-directory", directory.toAbsolutePath().toString());
+        addSystemProperty("camel.main.routes-reload-pattern", "*.camel.yaml");
+        addSystemProperty("camel.main.routes-reload-remove-all-routes", "true");
+    }
+
     @Override
     protected List<String> buildCommand() {
         List<String> command = new ArrayList<>();
         command.add("java");
         command.addAll(jvmArgs);
+        command.addAll(classDataSharingOptions());
         command.add("-jar");
         command.add(getExecutablePath().toAbsolutePath().toString());
         command.addAll(getProcessArguments());
@@ -102,6 +115,14 @@ public class CamelCapabilityManager extends ProcessManager {
         return name;
     }
 
+    public String getRoutesRef() {
+        return routesRef;
+    }
+
+    public String getDependenciesRef() {
+        return dependenciesRef;
+    }
+
     public int getHttpPort() {
         return httpPort;
     }
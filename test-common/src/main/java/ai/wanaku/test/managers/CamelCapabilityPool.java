@@ -0,0 +1,381 @@
+package ai.wanaku.test.managers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.client.McpJsonRpcClient;
+import ai.wanaku.test.config.TestConfiguration;
+import ai.wanaku.test.metrics.LatencyStats;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Pool of pre-started Camel Integration Capability instances that tests lease instead of starting
+ * a JVM each.
+ *
+ * <p>Every instance watches its own routes file with Camel's route reloading. A lease copies the
+ * fixture's {@code routes.camel.yaml} over that file and waits until the instance serves the
+ * fixture's tools; releasing it swaps the idle route back in. Instances are recycled (restarted)
+ * after {@link #setMaxLeasesPerInstance(int) a number of leases} or when they die. If an instance
+ * does not pick up new routes in time, or the fixture lists extra dependencies, the lease falls
+ * back to restarting it, so pooled tests behave like unpooled ones, only slower.
+ *
+ * <p>Usage example:
+ * <pre>
+ * try (CamelCapabilityPool pool = new CamelCapabilityPool(config, 2, Path.of("target", "cic-pool"))) {
+ *     pool.start();
+ *     CamelCapabilityPool.Lease lease = pool.lease(fixtureDir);
+ *     forwardsClient.add("echo-svc", lease.getMcpUrl(), "default");
+ *     ...
+ *     pool.release(lease);
+ *     LOG.info(pool.summary());
+ * }
+ * </pre>
+ */
+public class CamelCapabilityPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelCapabilityPool.class);
+
+    private static final String ROUTES_FILE = "routes.camel.yaml";
+    private static final String IDLE_TOOL = "cic-pool-idle";
+    private static final String IDLE_ROUTES = "- route:\n"
+            + "    id: " + IDLE_TOOL + "\n"
+            + "    from:\n"
+            + "      uri: ai-tool:" + IDLE_TOOL + "\n"
+            + "      parameters:\n"
+            + "        description: \"Idle pooled instance\"\n"
+            + "      steps:\n"
+            + "        - setBody:\n"
+            + "            constant: idle\n";
+    private static final Pattern TOOL_URI = Pattern.compile("uri:\\s*[\"']?ai-tool:([\\w.-]+)");
+
+    private final TestConfiguration config;
+    private final int size;
+    private final Path workDir;
+    private final BlockingQueue<Slot> ready = new LinkedBlockingQueue<>();
+    private final List<Slot> slots = new ArrayList<>();
+    private final LatencyStats coldStarts = new LatencyStats();
+    private final LatencyStats hotSwaps = new LatencyStats();
+    private final LatencyStats restartedLeases = new LatencyStats();
+    private Duration reloadTimeout = Duration.ofSeconds(10);
+    private int maxLeasesPerInstance = 20;
+    private volatile boolean reloadSupported = true;
+
+    /**
+     * A leased instance. Register {@link #getMcpUrl()} as a forward and hand the lease back with
+     * {@link CamelCapabilityPool#release(Lease)}.
+     */
+    public static class Lease {
+        private final Slot slot;
+        private final Duration setupTime;
+        private final boolean hotSwapped;
+
+        Lease(Slot slot, Duration setupTime, boolean hotSwapped) {
+            this.slot = slot;
+            this.setupTime = setupTime;
+            this.hotSwapped = hotSwapped;
+        }
+
+        public CamelCapabilityManager getManager() {
+            return slot.manager;
+        }
+
+        public String getMcpUrl() {
+            return slot.manager.getMcpUrl();
+        }
+
+        /**
+         * Returns how long the lease took, from request until the fixture's tools were served.
+         */
+        public Duration getSetupTime() {
+            return setupTime;
+        }
+
+        /**
+         * Returns true if the routes were swapped into a running JVM, false if it was restarted.
+         */
+        public boolean isHotSwapped() {
+            return hotSwapped;
+        }
+    }
+
+    private static class Slot {
+        private final int index;
+        private final Path dir;
+        private CamelCapabilityManager manager;
+        private int leases;
+        private Set<String> tools = Set.of(IDLE_TOOL);
+        private boolean withDependencies;
+
+        Slot(int index, Path dir) {
+            this.index = index;
+            this.dir = dir;
+        }
+
+        String name() {
+            return "cic-pool-" + index;
+        }
+
+        Path routesFile() {
+            return dir.resolve(ROUTES_FILE);
+        }
+    }
+
+    public CamelCapabilityPool(TestConfiguration config, int size, Path workDir) {
+        this.config = config;
+        this.size = size;
+        this.workDir = workDir;
+    }
+
+    /**
+     * Sets how long a lease waits for an instance to serve new routes before restarting it.
+     */
+    public void setReloadTimeout(Duration reloadTimeout) {
+        this.reloadTimeout = reloadTimeout;
+    }
+
+    /**
+     * Sets after how many leases an instance is restarted to shed accumulated state.
+     */
+    public void setMaxLeasesPerInstance(int maxLeasesPerInstance) {
+        this.maxLeasesPerInstance = maxLeasesPerInstance;
+    }
+
+    /**
+     * Starts all instances in parallel and waits until they are healthy.
+     */
+    public void start() throws IOException {
+        for (int i = 0; i < size; i++) {
+            Slot slot = new Slot(i, workDir.resolve("slot-" + i).toAbsolutePath());
+            Files.createDirectories(slot.dir);
+            Files.writeString(slot.routesFile(), IDLE_ROUTES);
+            slots.add(slot);
+        }
+
+        List<Thread> starters = new ArrayList<>();
+        for (Slot slot : slots) {
+            starters.add(Thread.ofVirtual().name("cic-pool-start-" + slot.index).start(() -> {
+                try {
+                    launch(slot, null);
+                    ready.add(slot);
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Pooled CIC {} failed to start: {}", slot.name(), e.getMessage());
+                }
+            }));
+        }
+        for (Thread starter : starters) {
+            try {
+                starter.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while starting CIC pool", e);
+            }
+        }
+        if (ready.isEmpty()) {
+            throw new IllegalStateException("No pooled CIC instance could be started");
+        }
+        LOG.info("CIC pool started {} of {} instances ({})", ready.size(), size, coldStarts.summary());
+    }
+
+    /**
+     * Leases an instance serving the routes of the given fixture directory. Blocks until an
+     * instance is free.
+     *
+     * @param fixtureDir a directory with {@code routes.camel.yaml} and optionally
+     *                   {@code dependencies.txt}
+     * @return the lease
+     */
+    public Lease lease(Path fixtureDir) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Path routes = fixtureDir.resolve(ROUTES_FILE);
+        Path dependencies = fixtureDir.resolve("dependencies.txt");
+        Set<String> expectedTools = toolsOf(Files.readString(routes));
+        if (expectedTools.isEmpty()) {
+            throw new IllegalArgumentException("Fixture " + fixtureDir
+                    + " has no ai-tool: routes; the pool only supports fixtures whose tools are declared"
+                    + " by ai-tool: consumers, not by rules files");
+        }
+        boolean needsDependencies = hasDependencies(dependencies);
+
+        Slot slot = ready.poll(config.getDefaultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (slot == null) {
+            throw new IllegalStateException("No pooled CIC instance became free within " + config.getDefaultTimeout());
+        }
+
+        boolean hotSwapped = false;
+        try {
+            Files.copy(routes, slot.routesFile(), StandardCopyOption.REPLACE_EXISTING);
+            if (reloadSupported && !needsDependencies && slot.manager.isRunning()) {
+                hotSwapped = awaitTools(slot, expectedTools);
+                if (!hotSwapped) {
+                    LOG.warn(
+                            "Pooled CIC {} did not reload routes within {}, restarting instances from now on",
+                            slot.name(),
+                            reloadTimeout);
+                    reloadSupported = false;
+                }
+            }
+            if (!hotSwapped) {
+                slot.manager.stop();
+                launch(slot, needsDependencies ? "file://" + dependencies.toAbsolutePath() : null);
+            }
+        } catch (IOException | RuntimeException e) {
+            recycle(slot);
+            throw e;
+        }
+
+        slot.tools = expectedTools;
+        slot.leases++;
+        Duration setup = Duration.ofNanos(System.nanoTime() - start);
+        (hotSwapped ? hotSwaps : restartedLeases).record(setup);
+        LOG.debug("Leased {} in {} ms (hot swap: {})", slot.name(), setup.toMillis(), hotSwapped);
+        return new Lease(slot, setup, hotSwapped);
+    }
+
+    /**
+     * Returns a leased instance to the pool, swapping the idle route back in or recycling it.
+     */
+    public void release(Lease lease) {
+        Slot slot = lease.slot;
+        boolean restartDue = slot.leases >= maxLeasesPerInstance
+                || !slot.manager.isRunning()
+                || !reloadSupported
+                || slot.withDependencies;
+        if (!restartDue) {
+            try {
+                Files.writeString(slot.routesFile(), IDLE_ROUTES);
+                if (awaitTools(slot, Set.of(IDLE_TOOL))) {
+                    slot.tools = Set.of(IDLE_TOOL);
+                    ready.add(slot);
+                    return;
+                }
+            } catch (IOException e) {
+                LOG.debug("Failed to reset {}: {}", slot.name(), e.getMessage());
+            }
+        }
+        Thread.ofVirtual().name("cic-pool-recycle-" + slot.index).start(() -> recycle(slot));
+    }
+
+    /**
+     * Returns a one-line report of cold-start versus lease setup times and the time saved.
+     */
+    public String summary() {
+        int leases = hotSwaps.count() + restartedLeases.count();
+        double coldMean = coldStarts.meanMillis();
+        double leaseTotal =
+                hotSwaps.meanMillis() * hotSwaps.count() + restartedLeases.meanMillis() * restartedLeases.count();
+        double saved = coldMean * leases - leaseTotal;
+        return String.format(
+                "CIC pool: %d leases (%d hot-swapped), cold start mean %.0f ms, hot-swap %s, saved ~%.1f s",
+                leases, hotSwaps.count(), coldMean, hotSwaps.summary(), saved / 1000.0);
+    }
+
+    public LatencyStats getColdStarts() {
+        return coldStarts;
+    }
+
+    public LatencyStats getHotSwaps() {
+        return hotSwaps;
+    }
+
+    @Override
+    public void close() {
+        for (Slot slot : slots) {
+            if (slot.manager != null) {
+                slot.manager.stop();
+            }
+        }
+        slots.clear();
+        ready.clear();
+        LOG.info(summary());
+    }
+
+    private void launch(Slot slot, String dependenciesRef) throws IOException {
+        CamelCapabilityManager manager = new CamelCapabilityManager(config);
+        manager.prepare(slot.name(), "file://" + slot.routesFile(), dependenciesRef);
+        manager.enableRoutesReload(slot.dir);
+        manager.setLogContext("camel-capability", "CamelCapabilityPool", slot.name());
+        manager.start(slot.name());
+        slot.manager = manager;
+        slot.withDependencies = dependenciesRef != null;
+        slot.leases = 0;
+        coldStarts.record(manager.getStartupTime());
+    }
+
+    private void recycle(Slot slot) {
+        try {
+            if (slot.manager != null) {
+                slot.manager.stop();
+            }
+            Files.writeString(slot.routesFile(), IDLE_ROUTES);
+            launch(slot, null);
+            slot.tools = Set.of(IDLE_TOOL);
+            ready.add(slot);
+            LOG.debug("Recycled {}", slot.name());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to recycle pooled CIC {}: {}", slot.name(), e.getMessage());
+        }
+    }
+
+    /**
+     * Waits until the instance serves the expected tools and none of the previous routes' tools.
+     */
+    private boolean awaitTools(Slot slot, Set<String> expected) {
+        long deadline = System.nanoTime() + reloadTimeout.toNanos();
+        try (McpJsonRpcClient client = new McpJsonRpcClient(slot.manager.getMcpUrl())) {
+            while (System.nanoTime() < deadline) {
+                try {
+                    if (!client.isInitialized()) {
+                        client.initialize();
+                    }
+                    Set<String> served = new HashSet<>();
+                    for (JsonNode tool : client.listAll("tools/list", "tools")) {
+                        served.add(tool.path("name").asText());
+                    }
+                    Set<String> previous = new HashSet<>(slot.tools);
+                    previous.removeAll(expected);
+                    if (served.containsAll(expected) && Collections.disjoint(served, previous)) {
+                        return true;
+                    }
+                } catch (McpJsonRpcClient.McpClientException e) {
+                    LOG.trace("{} not serving yet: {}", slot.name(), e.getMessage());
+                }
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a fixture's dependencies file lists anything; a missing or blank file means
+     * the fixture runs on the capability's own classpath and can be hot-swapped.
+     */
+    static boolean hasDependencies(Path dependencies) throws IOException {
+        return Files.exists(dependencies) && !Files.readString(dependencies).isBlank();
+    }
+
+    static Set<String> toolsOf(String routesYaml) {
+        Set<String> tools = new LinkedHashSet<>();
+        Matcher matcher = TOOL_URI.matcher(routesYaml);
+        while (matcher.find()) {
+            tools.add(matcher.group(1));
+        }
+        return tools;
+    }
+}
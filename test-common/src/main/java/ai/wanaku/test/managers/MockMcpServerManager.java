@@ -1,11 +1,18 @@
 package ai.wanaku.test.managers;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
 import ai.wanaku.test.config.TestConfiguration;
+import ai.wanaku.test.model.SyntheticLoadConfig;
 import ai.wanaku.test.utils.HealthCheckUtils;
 import ai.wanaku.test.utils.PortUtils;
 
@@ -13,26 +20,80 @@ public class MockMcpServerManager extends ProcessManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(MockMcpServerManager.class);
 
+    private static final String NATIVE_RUNNER_SUFFIX = "-runner";
+    // Fine enough that the poll does not dominate the startup time of a native executable
+    private static final Duration PORT_POLL_INTERVAL = Duration.ofMillis(5);
+    private static final Object NATIVE_BUILD_LOCK = new Object();
+    private static Boolean nativeBuildSucceeded;
+
+    /**
+     * How the mock server is launched.
+     */
+    public enum LaunchMode {
+        /** {@code java -jar quarkus-run.jar}. */
+        JVM,
+        /** The fixture's GraalVM/Mandrel native executable, falling back to JVM when unavailable. */
+        NATIVE
+    }
+
     private final Path jarPath;
     private final TestConfiguration config;
     private int httpPort;
+    private LaunchMode launchMode = launchModeFromSystemProperties();
+    private LaunchMode effectiveLaunchMode = LaunchMode.JVM;
+    private Path nativeRunner;
 
     public MockMcpServerManager(Path jarPath, TestConfiguration config) {
         this.jarPath = jarPath;
         this.config = config;
     }
 
+    /**
+     * Selects the launch mode. Must be called before {@link #prepare()}. Defaults to system
+     * property {@code wanaku.test.mock.launch-mode} ({@code jvm} or {@code native}), or JVM; an
+     * unknown value falls back to JVM with a warning.
+     */
+    public void setLaunchMode(LaunchMode launchMode) {
+        this.launchMode = launchMode;
+    }
+
     public void prepare() {
         this.httpPort = PortUtils.findAvailablePort();
         addSystemProperty("quarkus.http.port", String.valueOf(httpPort));
-        LOG.debug("Mock MCP server prepared on port {}", httpPort);
+
+        effectiveLaunchMode = LaunchMode.JVM;
+        if (launchMode == LaunchMode.NATIVE) {
+            nativeRunner = resolveNativeRunner();
+            if (nativeRunner != null) {
+                effectiveLaunchMode = LaunchMode.NATIVE;
+            } else {
+                LOG.warn("Native mock MCP server executable not available, falling back to JVM");
+            }
+        }
+        LOG.debug("Mock MCP server prepared on port {} ({})", httpPort, effectiveLaunchMode);
+    }
+
+    /**
+     * Sets the server-wide defaults of the synthetic-load tools. Must be called before
+     * {@link #start(String)}; individual calls can still override them through tool arguments.
+     */
+    public void setSyntheticLoadDefaults(SyntheticLoadConfig syntheticLoad) {
+        syntheticLoad.toSystemProperties().forEach(this::addSystemProperty);
+        LOG.debug("Mock MCP server synthetic load defaults: {}", syntheticLoad);
     }
 
     @Override
     protected List<String> buildCommand() {
         List<String> command = new ArrayList<>();
+        if (effectiveLaunchMode == LaunchMode.NATIVE) {
+            command.add(nativeRunner.toAbsolutePath().toString());
+            // Quarkus native executables accept -D configuration but no JVM options
+            jvmArgs.stream().filter(arg -> arg.startsWith("-D")).forEach(command::add);
+            return command;
+        }
         command.add("java");
         command.addAll(jvmArgs);
+        command.addAll(classDataSharingOptions());
         command.add("-jar");
         command.add(jarPath.toAbsolutePath().toString());
         return command;
@@ -53,7 +114,7 @@ public class MockMcpServerManager extends ProcessManager {
 
     @Override
     protected Path getExecutablePath() {
-        return jarPath;
+        return effectiveLaunchMode == LaunchMode.NATIVE ? nativeRunner : jarPath;
     }
 
     @Override
@@ -63,7 +124,7 @@ public class MockMcpServerManager extends ProcessManager {
 
     @Override
     protected boolean performHealthCheck() {
-        return HealthCheckUtils.waitForPort("localhost", httpPort, config.getDefaultTimeout());
+        return HealthCheckUtils.waitForPort("localhost", httpPort, config.getDefaultTimeout(), PORT_POLL_INTERVAL);
     }
 
     public int getHttpPort() {
@@ -73,4 +134,100 @@ public class MockMcpServerManager extends ProcessManager {
     public String getMcpUrl() {
         return "http://localhost:" + httpPort + "/mcp";
     }
+
+    /**
+     * Returns the mode the server was actually prepared with, which is JVM when the native
+     * executable was requested but could not be found or built.
+     */
+    public LaunchMode getEffectiveLaunchMode() {
+        return effectiveLaunchMode;
+    }
+
+    /**
+     * Locates the native runner next to the fast-jar ({@code target/<artifact>-runner}), building it
+     * once per JVM with {@code mvnw package -Dnative} when {@code wanaku.test.mock.native.build} is
+     * true.
+     *
+     * @return the runner, or null if it is not available
+     */
+    private Path resolveNativeRunner() {
+        Path targetDir = jarPath.toAbsolutePath().getParent().getParent();
+        Path runner = findRunner(targetDir);
+        if (runner != null || !Boolean.getBoolean(WanakuTestConstants.PROP_MOCK_NATIVE_BUILD)) {
+            return runner;
+        }
+
+        synchronized (NATIVE_BUILD_LOCK) {
+            if (nativeBuildSucceeded == null) {
+                nativeBuildSucceeded = buildNative(targetDir.getParent());
+            }
+        }
+        return nativeBuildSucceeded ? findRunner(targetDir) : null;
+    }
+
+    private static Path findRunner(Path targetDir) {
+        if (!Files.isDirectory(targetDir)) {
+            return null;
+        }
+        try (var files = Files.list(targetDir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(NATIVE_RUNNER_SUFFIX))
+                    .filter(Files::isExecutable)
+                    .findFirst()
+                    .orElse(null);
+        } catch (IOException e) {
+            LOG.debug("Cannot list {}: {}", targetDir, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean buildNative(Path projectDir) {
+        Path mvnw = projectDir.resolve("mvnw");
+        if (!Files.isExecutable(mvnw)) {
+            LOG.warn("Cannot build native mock MCP server: {} not found", mvnw);
+            return false;
+        }
+
+        LOG.info("Building native mock MCP server in {} (this takes several minutes)", projectDir);
+        try {
+            Process build = new ProcessBuilder(mvnw.toString(), "-B", "-q", "package", "-Dnative", "-DskipTests")
+                    .directory(projectDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(projectDir
+                            .resolve("target")
+                            .resolve("native-build.log")
+                            .toFile())
+                    .start();
+            if (!build.waitFor(30, TimeUnit.MINUTES)) {
+                build.destroyForcibly();
+                LOG.warn("Native mock MCP server build timed out");
+                return false;
+            }
+            if (build.exitValue() != 0) {
+                LOG.warn(
+                        "Native mock MCP server build failed (exit {}), see target/native-build.log",
+                        build.exitValue());
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Native mock MCP server build failed: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static LaunchMode launchModeFromSystemProperties() {
+        String mode = System.getProperty(WanakuTestConstants.PROP_MOCK_LAUNCH_MODE, "jvm");
+        try {
+            return LaunchMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn(
+                    "Unknown {} '{}' (expected jvm or native), launching in JVM mode",
+                    WanakuTestConstants.PROP_MOCK_LAUNCH_MODE,
+                    mode);
+            return LaunchMode.JVM;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package ai.wanaku.test.managers;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.utils.ClassDataSharing;
 import ai.wanaku.test.utils.LogUtils;
 
 /**
@@ -24,8 +26,12 @@ public abstract class ProcessManager {
     protected Process process;
     protected File logFile;
     protected ProcessState state = ProcessState.STOPPED;
+    protected Duration startupTime;
     protected final Map<String, String> environment = new HashMap<>();
     protected final List<String> jvmArgs = new ArrayList<>();
+    protected boolean classDataSharing = ClassDataSharing.isEnabled();
+    protected Path classDataSharingArchive;
+    private ClassDataSharing.Launch classDataSharingLaunch;
 
     // Log context for structured logging
     protected String logProfile;
@@ -64,12 +70,43 @@ public abstract class ProcessManager {
         List<String> command = new ArrayList<>();
         command.add("java");
         command.addAll(jvmArgs);
+        command.addAll(classDataSharingOptions());
         command.add("-jar");
         command.add(getExecutablePath().getFileName().toString());
         command.addAll(getProcessArguments());
         return command;
     }
 
+    /**
+     * Returns the class-data-sharing JVM options for the executable, or none if disabled.
+     */
+    protected List<String> classDataSharingOptions() {
+        if (!classDataSharing) {
+            return List.of();
+        }
+        Path archive = classDataSharingArchive != null
+                ? classDataSharingArchive
+                : ClassDataSharing.archiveFor(getExecutablePath());
+        classDataSharingLaunch = ClassDataSharing.launch(getExecutablePath(), archive);
+        return classDataSharingLaunch.options();
+    }
+
+    /**
+     * Enables or disables launching with an AppCDS archive (default: {@code wanaku.test.cds}).
+     * Only applies to Java processes.
+     */
+    public void setClassDataSharing(boolean classDataSharing) {
+        this.classDataSharing = classDataSharing;
+    }
+
+    /**
+     * Uses the given AppCDS archive instead of the one shared by all launches of the executable,
+     * e.g. to measure a launch that creates it. Null restores the shared one.
+     */
+    public void setClassDataSharingArchive(Path archive) {
+        this.classDataSharingArchive = archive;
+    }
+
     /**
      * Gets the working directory for the process.
      * Default returns the parent of the executable path (for Quarkus fast-jar).
@@ -125,6 +162,7 @@ public abstract class ProcessManager {
 
         logFile = createLogFile(testName);
 
+        classDataSharingLaunch = null;
         List<String> command = buildCommand();
         Path workingDir = getWorkingDirectory();
 
@@ -143,14 +181,20 @@ public abstract class ProcessManager {
         pb.redirectOutput(logFile);
         pb.redirectErrorStream(true);
 
+        long launchedAt = System.nanoTime();
         process = pb.start();
         LOG.debug("{} started with PID: {}", getProcessName(), process.pid());
+        if (classDataSharingLaunch != null) {
+            classDataSharingLaunch.publishOnExit(process);
+        }
 
         if (performHealthCheck()) {
+            startupTime = Duration.ofNanos(System.nanoTime() - launchedAt);
             state = ProcessState.RUNNING;
-            LOG.debug("{} is healthy", getProcessName());
+            LOG.debug("{} is healthy after {} ms", getProcessName(), startupTime.toMillis());
         } else {
-            stop();
+            // Only the process: subclasses clean up data in stop(), which a restart must keep
+            stopProcess();
             throw new IllegalStateException(
                     getProcessName() + " failed health check. Check logs: " + logFile.getAbsolutePath());
         }
@@ -173,6 +217,14 @@ public abstract class ProcessManager {
      * Stops the process with graceful shutdown.
      */
     public void stop() {
+        stopProcess();
+    }
+
+    /**
+     * Stops the process with graceful shutdown, without the cleanup subclasses add to
+     * {@link #stop()}.
+     */
+    protected final void stopProcess() {
         if (process == null || !process.isAlive()) {
             state = ProcessState.STOPPED;
             return;
@@ -205,6 +257,29 @@ public abstract class ProcessManager {
         }
     }
 
+    /**
+     * Kills the process immediately (SIGKILL), without a graceful shutdown, to simulate a crash.
+     * The process can be started again afterwards.
+     */
+    public void kill() {
+        if (process == null) {
+            state = ProcessState.STOPPED;
+            return;
+        }
+
+        LOG.debug("Killing {}", getProcessName());
+        try {
+            process.destroyForcibly();
+            process.waitFor(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("{} kill interrupted", getProcessName());
+        } finally {
+            state = ProcessState.STOPPED;
+            process = null;
+        }
+    }
+
     /**
      * Checks if the process is running.
      */
@@ -233,6 +308,21 @@ public abstract class ProcessManager {
         return logFile;
     }
 
+    /**
+     * Gets the OS process ID, or -1 if the process hasn't started.
+     */
+    public long getPid() {
+        return process != null ? process.pid() : -1;
+    }
+
+    /**
+     * Gets the time from launching the process until its health check passed, or null if the
+     * process has not started successfully yet.
+     */
+    public Duration getStartupTime() {
+        return startupTime;
+    }
+
     /**
      * Gets the process exit code, or -1 if the process is still running or hasn't started.
      */
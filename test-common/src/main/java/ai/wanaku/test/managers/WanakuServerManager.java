@@ -4,11 +4,13 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ai.wanaku.test.WanakuTestConstants;
+import ai.wanaku.test.config.PipelineFilter;
 import ai.wanaku.test.config.TestConfiguration;
 import ai.wanaku.test.utils.HealthCheckUtils;
 import ai.wanaku.test.utils.LogUtils;
@@ -24,6 +26,11 @@ public class WanakuServerManager extends ProcessManager {
     private Path pipelineConfigFile;
     private Path wanakuConfigFile;
     private Path persistDir;
+    private boolean persistDirOwned;
+    private String persistBackend =
+            System.getProperty(WanakuTestConstants.PROP_PERSIST_BACKEND, WanakuTestConstants.DEFAULT_PERSIST_BACKEND);
+    private Path persistPath;
+    private List<PipelineFilter> filterChain = PipelineFilter.defaultChain();
 
     private boolean external;
 
@@ -39,6 +46,49 @@ public class WanakuServerManager extends ProcessManager {
         return manager;
     }
 
+    /**
+     * Replaces the MCP listener's filter chain. Must be called before {@link #prepare()}.
+     *
+     * @param filterChain the filters in evaluation order
+     */
+    public void setFilterChain(List<PipelineFilter> filterChain) {
+        this.filterChain = new ArrayList<>(filterChain);
+    }
+
+    public List<PipelineFilter> getFilterChain() {
+        return List.copyOf(filterChain);
+    }
+
+    /**
+     * Selects the persistence backend ({@code WANAKU_PERSIST_BACKEND}). Must be called before
+     * {@link #prepare()}. Defaults to system property {@code wanaku.test.persist.backend}, or "file".
+     */
+    public void setPersistBackend(String persistBackend) {
+        this.persistBackend = persistBackend;
+    }
+
+    public String getPersistBackend() {
+        return persistBackend;
+    }
+
+    /**
+     * Uses the given directory as {@code WANAKU_PERSIST_PATH} instead of a fresh temp directory.
+     * Must be called before {@link #prepare()}. A caller-supplied directory is not deleted on
+     * {@link #stop()}. Only the shared server defaults to system property
+     * {@code wanaku.test.persist.path}; dedicated servers get their own temp directory unless a path
+     * is set here, so they never share persisted state.
+     */
+    public void setPersistPath(Path persistPath) {
+        this.persistPath = persistPath;
+    }
+
+    /**
+     * Returns the persistence directory in use, or null before {@link #prepare()}.
+     */
+    public Path getPersistDir() {
+        return persistDir;
+    }
+
     public void prepare() {
         this.mgmtPort = PortUtils.findAvailablePort();
         this.mcpPort = PortUtils.findAvailablePort();
@@ -46,10 +96,17 @@ public class WanakuServerManager extends ProcessManager {
         LOG.debug("Wanaku server prepared with management port {} and MCP port {}", mgmtPort, mcpPort);
 
         addEnvironmentVariable("WANAKU_MGMT_LISTEN", "0.0.0.0:" + mgmtPort);
-        addEnvironmentVariable("WANAKU_PERSIST_BACKEND", "file");
+        addEnvironmentVariable("WANAKU_PERSIST_BACKEND", persistBackend);
 
         try {
-            persistDir = Files.createTempDirectory("wanaku-server-data-");
+            if (persistPath != null) {
+                persistDir = Files.createDirectories(persistPath);
+                persistDirOwned = false;
+            } else {
+                persistDir = Files.createTempDirectory("wanaku-server-data-");
+                persistDirOwned = true;
+            }
+            LOG.debug("Wanaku server persistence: backend {} at {}", persistBackend, persistDir);
             addEnvironmentVariable(
                     "WANAKU_PERSIST_PATH", persistDir.toAbsolutePath().toString());
             pipelineConfigFile = generatePipelineConfig();
@@ -121,6 +178,31 @@ public class WanakuServerManager extends ProcessManager {
         cleanupTempFiles();
     }
 
+    /**
+     * Stops the server process but keeps its ports, generated config files and persisted state,
+     * so a following {@link #start(String)} resumes on the same data. {@link #stop()} still
+     * removes everything afterwards.
+     */
+    public void stopRetainingState() {
+        if (external) {
+            return;
+        }
+        stopProcess();
+    }
+
+    /**
+     * Restarts the server on the same ports and persist directory.
+     *
+     * @param testName the name used for the new log file
+     * @return the time from launching the process until its health check passed
+     * @throws IOException if the process cannot be started
+     */
+    public Duration restart(String testName) throws IOException {
+        stopRetainingState();
+        start(testName);
+        return getStartupTime();
+    }
+
     public int getHttpPort() {
         return mgmtPort;
     }
@@ -142,43 +224,23 @@ public class WanakuServerManager extends ProcessManager {
     }
 
     private Path generatePipelineConfig() throws IOException {
-        String yaml = String.join(
-                "\n",
-                "listeners:",
-                "  - name: mcp",
-                "    address: \"0.0.0.0:" + mcpPort + "\"",
-                "    filter_chains: [mcp_router]",
-                "",
-                "filter_chains:",
-                "  - name: mcp_router",
-                "    filters:",
-                "      - filter: cors",
-                "        allow_origins: [\"*\"]",
-                "        allow_methods: [\"GET\", \"POST\", \"OPTIONS\"]",
-                "        allow_headers: [\"Content-Type\", \"Accept\", \"Mcp-Session-Id\","
-                        + " \"Mcp-Protocol-Version\", \"Authorization\"]",
-                "      - filter: mcp",
-                "        on_invalid: continue",
-                "      - filter: wanaku_namespace",
-                "      - filter: wanaku_well_known",
-                "      - filter: wanaku_mcp_init",
-                "      - filter: wanaku_tool_list",
-                "      - filter: wanaku_tool_call",
-                "      - filter: wanaku_resource_list",
-                "      - filter: wanaku_resource_read",
-                "      - filter: wanaku_prompt_list",
-                "      - filter: wanaku_prompt_get",
-                "      - filter: static_response",
-                "        status: 200",
-                "        headers:",
-                "          - name: content-type",
-                "            value: application/json",
-                "        body: '{\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32601,"
-                        + "\"message\":\"method not supported\"},\"id\":null}'",
-                "",
-                "insecure_options:",
-                "  skip_pipeline_validation: true",
-                "");
+        List<String> lines = new ArrayList<>();
+        lines.add("listeners:");
+        lines.add("  - name: mcp");
+        lines.add("    address: \"0.0.0.0:" + mcpPort + "\"");
+        lines.add("    filter_chains: [mcp_router]");
+        lines.add("");
+        lines.add("filter_chains:");
+        lines.add("  - name: mcp_router");
+        lines.add("    filters:");
+        for (PipelineFilter filter : filterChain) {
+            lines.addAll(filter.toYamlLines("      "));
+        }
+        lines.add("");
+        lines.add("insecure_options:");
+        lines.add("  skip_pipeline_validation: true");
+        lines.add("");
+        String yaml = String.join("\n", lines);
 
         Path configFile = Files.createTempFile("pipeline-config-", ".yaml");
         Files.writeString(configFile, yaml);
@@ -196,7 +258,7 @@ public class WanakuServerManager extends ProcessManager {
     private void cleanupTempFiles() {
         deleteSilently(pipelineConfigFile);
         deleteSilently(wanakuConfigFile);
-        if (persistDir != null) {
+        if (persistDir != null && persistDirOwned) {
             try {
                 deleteRecursively(persistDir);
             } catch (IOException e) {
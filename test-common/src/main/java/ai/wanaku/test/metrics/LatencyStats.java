@@ -0,0 +1,114 @@
+package ai.wanaku.test.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Thread-safe collector of latency samples with percentile summaries.
+ *
+ * <p>Samples are kept in full (no histogram bucketing) so percentiles are exact for the
+ * sample sizes produced by integration benchmarks.
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long[] sorted;
+
+    /**
+     * Records a latency sample.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+        sorted = null;
+    }
+
+    /**
+     * Records a latency sample.
+     */
+    public void record(Duration latency) {
+        record(latency.toNanos());
+    }
+
+    /**
+     * Adds all samples from another collector.
+     */
+    public void merge(LatencyStats other) {
+        long[] copy;
+        synchronized (other) {
+            copy = Arrays.copyOf(other.samples, other.count);
+        }
+        for (long sample : copy) {
+            record(sample);
+        }
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the latency at the given percentile using the nearest-rank method.
+     *
+     * @param percentile the percentile (0–100)
+     * @return the latency in milliseconds, or 0 when no samples were recorded
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (sorted == null) {
+            sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        int index = Math.max(0, Math.min(count - 1, rank - 1));
+        return sorted[index] / 1_000_000.0;
+    }
+
+    public double p50Millis() {
+        return percentileMillis(50);
+    }
+
+    public double p95Millis() {
+        return percentileMillis(95);
+    }
+
+    public double p99Millis() {
+        return percentileMillis(99);
+    }
+
+    public double maxMillis() {
+        return percentileMillis(100);
+    }
+
+    public synchronized double meanMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return total / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * Returns a one-line summary suitable for logging.
+     */
+    public String summary() {
+        return String.format(
+                "n=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                count(), p50Millis(), p95Millis(), p99Millis(), maxMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyStats{" + summary() + "}";
+    }
+}
@@ -0,0 +1,105 @@
+package ai.wanaku.test.metrics;
+
+/**
+ * Least-squares linear fit of a series of samples.
+ * Used by soak runs to tell a steady upward drift (a leak) from noise.
+ */
+public final class LinearTrend {
+
+    private final int sampleCount;
+    private final double slope;
+    private final double intercept;
+    private final double rSquared;
+
+    private LinearTrend(int sampleCount, double slope, double intercept, double rSquared) {
+        this.sampleCount = sampleCount;
+        this.slope = slope;
+        this.intercept = intercept;
+        this.rSquared = rSquared;
+    }
+
+    /**
+     * Fits {@code y = slope * x + intercept} to the given samples.
+     *
+     * @param x the sample positions (e.g., elapsed seconds)
+     * @param y the sample values
+     * @return the fitted trend; a flat trend when fewer than two samples are given
+     */
+    public static LinearTrend fit(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        int n = x.length;
+        if (n < 2) {
+            return new LinearTrend(n, 0, n == 1 ? y[0] : 0, 0);
+        }
+
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i];
+            meanY += y[i];
+        }
+        meanX /= n;
+        meanY /= n;
+
+        double sxy = 0;
+        double sxx = 0;
+        double syy = 0;
+        for (int i = 0; i < n; i++) {
+            double dx = x[i] - meanX;
+            double dy = y[i] - meanY;
+            sxy += dx * dy;
+            sxx += dx * dx;
+            syy += dy * dy;
+        }
+
+        if (sxx == 0) {
+            return new LinearTrend(n, 0, meanY, 0);
+        }
+        double slope = sxy / sxx;
+        double intercept = meanY - slope * meanX;
+        double rSquared = syy == 0 ? 0 : (sxy * sxy) / (sxx * syy);
+        return new LinearTrend(n, slope, intercept, rSquared);
+    }
+
+    /**
+     * Returns the fitted value at position {@code x}.
+     */
+    public double valueAt(double x) {
+        return slope * x + intercept;
+    }
+
+    /**
+     * Returns the fitted growth over {@code span} as a percentage of the fitted value at {@code start}.
+     */
+    public double growthPercent(double start, double span) {
+        double base = valueAt(start);
+        if (base <= 0) {
+            return 0;
+        }
+        return slope * span * 100.0 / base;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public double getSlope() {
+        return slope;
+    }
+
+    public double getIntercept() {
+        return intercept;
+    }
+
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "LinearTrend{slope=%.6f, intercept=%.3f, r2=%.3f, n=%d}", slope, intercept, rSquared, sampleCount);
+    }
+}
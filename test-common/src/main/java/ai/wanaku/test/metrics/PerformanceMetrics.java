@@ -0,0 +1,123 @@
+package ai.wanaku.test.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Named performance metrics recorded by benchmark tests.
+ *
+ * <p>Instances are injected into test methods by
+ * {@link ai.wanaku.test.base.PerformanceRegressionExtension}, which compares the recorded
+ * values against a stored baseline once all tests in the module have run.
+ *
+ * <p>Metric names are module-wide; recording the same name twice keeps the last value.
+ */
+public class PerformanceMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceMetrics.class);
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Records a latency metric in milliseconds (lower is better).
+     */
+    public void recordLatency(String name, Duration latency) {
+        record(name, latency.toNanos() / 1_000_000.0, "ms", Direction.LOWER_IS_BETTER);
+    }
+
+    /**
+     * Records the p50, p95 and p99 of the given samples as {@code name.p50}, {@code name.p95}
+     * and {@code name.p99} (lower is better).
+     */
+    public void recordLatency(String name, LatencyStats stats) {
+        record(name + ".p50", stats.p50Millis(), "ms", Direction.LOWER_IS_BETTER);
+        record(name + ".p95", stats.p95Millis(), "ms", Direction.LOWER_IS_BETTER);
+        record(name + ".p99", stats.p99Millis(), "ms", Direction.LOWER_IS_BETTER);
+    }
+
+    /**
+     * Records a throughput metric in operations per second (higher is better).
+     */
+    public void recordThroughput(String name, double opsPerSecond) {
+        record(name, opsPerSecond, "ops/s", Direction.HIGHER_IS_BETTER);
+    }
+
+    /**
+     * Records an arbitrary metric.
+     *
+     * @param name      the module-wide metric name (e.g., "router.tools-list.p99")
+     * @param value     the measured value
+     * @param unit      the unit, used for reporting only
+     * @param direction whether lower or higher values are better
+     */
+    public void record(String name, double value, String unit, Direction direction) {
+        Metric previous = metrics.put(name, new Metric(name, value, unit, direction));
+        if (previous != null) {
+            LOG.debug("Metric '{}' recorded again, replacing {} with {}", name, previous.getValue(), value);
+        }
+        LOG.info("Metric {} = {} {}", name, String.format("%.3f", value), unit);
+    }
+
+    /**
+     * Returns the recorded metrics sorted by name.
+     */
+    public Map<String, Metric> snapshot() {
+        return new TreeMap<>(metrics);
+    }
+
+    public boolean isEmpty() {
+        return metrics.isEmpty();
+    }
+
+    public enum Direction {
+        LOWER_IS_BETTER,
+        HIGHER_IS_BETTER;
+
+        /**
+         * Returns by how many percent {@code current} is worse than {@code baseline}.
+         * Negative values are improvements. Returns 0 when the baseline is not positive.
+         */
+        public double regressionPercent(double baseline, double current) {
+            if (baseline <= 0) {
+                return 0;
+            }
+            double delta = this == LOWER_IS_BETTER ? current - baseline : baseline - current;
+            return delta * 100.0 / baseline;
+        }
+    }
+
+    public static final class Metric {
+
+        private final String name;
+        private final double value;
+        private final String unit;
+        private final Direction direction;
+
+        Metric(String name, double value, String unit, Direction direction) {
+            this.name = name;
+            this.value = value;
+            this.unit = unit;
+            this.direction = direction;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package ai.wanaku.test.mock;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process HTTP/1.1 backend with programmable status, delay, body size, chunked streaming and
+ * connection resets, standing in for an external service behind HTTP tools.
+ *
+ * <p>Behavior is chosen per request, in this order: a {@link Behavior} registered for the exact
+ * path with {@link #when(String, Behavior)}; the path {@code /status/{code}}; query parameters
+ * ({@code status}, {@code delayMs}, {@code bytes}, {@code chunks}, {@code chunkDelayMs},
+ * {@code reset=true}) on top of the default behavior. A malformed status or query value is answered
+ * with 400. Connections are kept alive and served on virtual threads, so the backend adds little
+ * latency of its own.
+ *
+ * <p>Usage example:
+ * <pre>
+ * try (EmbeddedHttpBackend backend = new EmbeddedHttpBackend().start()) {
+ *     backend.when("/slow", EmbeddedHttpBackend.Behavior.ok().delay(Duration.ofMillis(50)));
+ *     String notFound = backend.getBaseUrl() + "/status/404";
+ *     String large = backend.getBaseUrl() + "/data?bytes=1048576&amp;chunks=16";
+ * }
+ * </pre>
+ */
+public class EmbeddedHttpBackend implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddedHttpBackend.class);
+
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+
+    /**
+     * How the backend answers a request.
+     */
+    public static class Behavior {
+        private int status = 200;
+        private Duration delay = Duration.ZERO;
+        private int bodyBytes = -1;
+        private String body = "{\"ok\":true}";
+        private String contentType = "application/json";
+        private int chunks;
+        private Duration chunkDelay = Duration.ZERO;
+        private boolean reset;
+
+        private Behavior() {}
+
+        public static Behavior ok() {
+            return new Behavior();
+        }
+
+        public static Behavior status(int status) {
+            return new Behavior().withStatus(status);
+        }
+
+        /**
+         * Closes the connection with a TCP reset instead of answering.
+         */
+        public static Behavior connectionReset() {
+            Behavior behavior = new Behavior();
+            behavior.reset = true;
+            return behavior;
+        }
+
+        /**
+         * Sets the final status code. Interim 1xx statuses are not supported because the backend
+         * answers every request with exactly one response.
+         *
+         * @throws IllegalArgumentException if the status is not within {@code 200..599}
+         */
+        public Behavior withStatus(int status) {
+            if (status < 200 || status > 599) {
+                throw new IllegalArgumentException("Invalid status: " + status + " (expected 200..599)");
+            }
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Waits before sending the response headers.
+         */
+        public Behavior delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        public Behavior body(String body, String contentType) {
+            this.body = body;
+            this.contentType = contentType;
+            this.bodyBytes = -1;
+            return this;
+        }
+
+        /**
+         * Sends a generated body of exactly {@code bodyBytes} bytes.
+         */
+        public Behavior bodyBytes(int bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            this.contentType = "text/plain";
+            return this;
+        }
+
+        /**
+         * Streams the body with chunked transfer encoding in {@code chunks} pieces, pausing
+         * {@code chunkDelay} between them.
+         */
+        public Behavior chunked(int chunks, Duration chunkDelay) {
+            this.chunks = chunks;
+            this.chunkDelay = chunkDelay;
+            return this;
+        }
+
+        private Behavior copy() {
+            Behavior copy = new Behavior();
+            copy.status = status;
+            copy.delay = delay;
+            copy.bodyBytes = bodyBytes;
+            copy.body = body;
+            copy.contentType = contentType;
+            copy.chunks = chunks;
+            copy.chunkDelay = chunkDelay;
+            copy.reset = reset;
+            return copy;
+        }
+
+        private byte[] bodyContent() {
+            if (status == 204 || status == 304) {
+                return new byte[0];
+            }
+            if (bodyBytes >= 0) {
+                byte[] bytes = new byte[bodyBytes];
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = (byte) ('a' + i % 26);
+                }
+                return bytes;
+            }
+            return body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private final Map<String, Behavior> routes = new ConcurrentHashMap<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requestCount = new AtomicLong();
+    private volatile Behavior defaultBehavior = Behavior.ok();
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    /**
+     * Starts the backend on an ephemeral port.
+     *
+     * @return this backend
+     */
+    public EmbeddedHttpBackend start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        running = true;
+        acceptor = Thread.ofVirtual().name("http-backend-acceptor").start(this::acceptLoop);
+        LOG.debug("Embedded HTTP backend started on port {}", getPort());
+        return this;
+    }
+
+    /**
+     * Registers the behavior for an exact request path.
+     */
+    public EmbeddedHttpBackend when(String path, Behavior behavior) {
+        routes.put(path, behavior);
+        return this;
+    }
+
+    /**
+     * Sets the behavior for requests that match no registered path.
+     */
+    public EmbeddedHttpBackend defaultBehavior(Behavior behavior) {
+        this.defaultBehavior = behavior;
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    /**
+     * Returns the number of requests read so far.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to close backend socket: {}", e.getMessage());
+        }
+        connections.forEach(EmbeddedHttpBackend::closeQuietly);
+        connections.clear();
+        if (acceptor != null) {
+            acceptor.interrupt();
+        }
+        LOG.debug("Embedded HTTP backend stopped");
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread.ofVirtual().name("http-backend-conn").start(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    LOG.debug("Backend accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (running) {
+                Request request = readRequest(in);
+                if (request == null) {
+                    return;
+                }
+                requestCount.incrementAndGet();
+
+                Behavior behavior;
+                try {
+                    behavior = resolve(request);
+                } catch (IllegalArgumentException e) {
+                    behavior = Behavior.status(400).body(e.getMessage(), "text/plain");
+                }
+                if (behavior.reset) {
+                    socket.setSoLinger(true, 0);
+                    return;
+                }
+                sleep(behavior.delay);
+                respond(out, behavior, request.keepAlive);
+                if (!request.keepAlive) {
+                    return;
+                }
+            }
+        } catch (SocketException e) {
+            LOG.trace("Backend connection closed: {}", e.getMessage());
+        } catch (IOException e) {
+            LOG.debug("Backend connection failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private Behavior resolve(Request request) {
+        Behavior route = routes.get(request.path);
+        if (route != null) {
+            return route;
+        }
+
+        Behavior behavior = defaultBehavior.copy();
+        if (request.path.startsWith("/status/")) {
+            behavior.status = parse("status", request.path.substring("/status/".length()), 200, 599);
+            behavior.body = "";
+        }
+        Map<String, String> query = request.query;
+        if (query.containsKey("status")) {
+            behavior.status = parse("status", query.get("status"), 200, 599);
+        }
+        if (query.containsKey("delayMs")) {
+            behavior.delay = Duration.ofMillis(parse("delayMs", query.get("delayMs"), 0, Integer.MAX_VALUE));
+        }
+        if (query.containsKey("bytes")) {
+            behavior.bodyBytes(parse("bytes", query.get("bytes"), 0, Integer.MAX_VALUE));
+        }
+        if (query.containsKey("chunks")) {
+            behavior.chunks = parse("chunks", query.get("chunks"), 0, Integer.MAX_VALUE);
+            behavior.chunkDelay = Duration.ofMillis(
+                    parse("chunkDelayMs", query.getOrDefault("chunkDelayMs", "0"), 0, Integer.MAX_VALUE));
+        }
+        if (Boolean.parseBoolean(query.get("reset"))) {
+            behavior.reset = true;
+        }
+        return behavior;
+    }
+
+    /**
+     * Parses an integer request value.
+     *
+     * @throws IllegalArgumentException if the value is not an integer within {@code [min, max]}
+     */
+    private static int parse(String name, String value, int min, int max) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException(
+                    "Invalid " + name + ": " + value + " (expected " + min + ".." + max + ")");
+        }
+        return parsed;
+    }
+
+    private void respond(OutputStream out, Behavior behavior, boolean keepAlive)
+            throws IOException, InterruptedException {
+        // 204 and 304 responses end after the headers and must not announce a body
+        boolean bodyless = behavior.status == 204 || behavior.status == 304;
+        byte[] body = bodyless ? new byte[0] : behavior.bodyContent();
+        StringBuilder head = new StringBuilder();
+        head.append("HTTP/1.1 ")
+                .append(behavior.status)
+                .append(' ')
+                .append(reason(behavior.status))
+                .append("\r\n");
+        if (body.length > 0) {
+            head.append("Content-Type: ").append(behavior.contentType).append("\r\n");
+        }
+        boolean chunked = behavior.chunks > 0 && body.length > 0;
+        if (chunked) {
+            head.append("Transfer-Encoding: chunked\r\n");
+        } else if (!bodyless) {
+            head.append("Content-Length: ").append(body.length).append("\r\n");
+        }
+        head.append("Connection: ").append(keepAlive ? "keep-alive" : "close").append("\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+
+        if (!chunked) {
+            out.write(body);
+            out.flush();
+            return;
+        }
+
+        int chunkSize = Math.max(1, (body.length + behavior.chunks - 1) / behavior.chunks);
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            if (offset > 0) {
+                sleep(behavior.chunkDelay);
+            }
+            int length = Math.min(chunkSize, body.length - offset);
+            out.write((Integer.toHexString(length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(body, offset, length);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+        out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static Request readRequest(InputStream in) throws IOException {
+        String requestLine = readLine(in);
+        if (requestLine == null || requestLine.isEmpty()) {
+            return null;
+        }
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 3) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        int headerBytes = 0;
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            headerBytes += line.length();
+            if (headerBytes > MAX_HEADER_BYTES) {
+                throw new IOException("Request headers too large");
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(
+                        line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+                        line.substring(colon + 1).trim());
+            }
+        }
+
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            discardChunkedBody(in);
+        } else if (headers.containsKey("content-length")) {
+            in.skipNBytes(parseLength(headers.get("content-length"), 10));
+        }
+
+        String target = parts[1];
+        int q = target.indexOf('?');
+        String path = q >= 0 ? target.substring(0, q) : target;
+        Map<String, String> query = q >= 0 ? parseQuery(target.substring(q + 1)) : Map.of();
+        boolean keepAlive = "HTTP/1.1".equals(parts[2])
+                ? !"close".equalsIgnoreCase(headers.get("connection"))
+                : "keep-alive".equalsIgnoreCase(headers.get("connection"));
+        return new Request(path, query, keepAlive);
+    }
+
+    private static void discardChunkedBody(InputStream in) throws IOException {
+        while (true) {
+            String sizeLine = readLine(in);
+            if (sizeLine == null) {
+                return;
+            }
+            int semicolon = sizeLine.indexOf(';');
+            long size = parseLength(semicolon >= 0 ? sizeLine.substring(0, semicolon) : sizeLine, 16);
+            if (size == 0) {
+                while ((sizeLine = readLine(in)) != null && !sizeLine.isEmpty()) {
+                    // trailers
+                }
+                return;
+            }
+            in.skipNBytes(size);
+            readLine(in);
+        }
+    }
+
+    /**
+     * Parses a body or chunk length. A malformed one means the request framing is lost, so it
+     * fails the connection rather than the request.
+     */
+    private static long parseLength(String value, int radix) throws IOException {
+        try {
+            long length = Long.parseLong(value.trim(), radix);
+            if (length < 0) {
+                throw new NumberFormatException("negative");
+            }
+            return length;
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed body length: " + value);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+            if (line.size() > MAX_HEADER_BYTES) {
+                throw new IOException("Request line too long");
+            }
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(
+                        URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            } else if (!pair.isEmpty()) {
+                params.put(URLDecoder.decode(pair, StandardCharsets.UTF_8), "");
+            }
+        }
+        return params;
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 201 -> "Created";
+            case 204 -> "No Content";
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 429 -> "Too Many Requests";
+            case 500 -> "Internal Server Error";
+            case 502 -> "Bad Gateway";
+            case 503 -> "Service Unavailable";
+            case 504 -> "Gateway Timeout";
+            default -> "Status";
+        };
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        if (!duration.isZero() && !duration.isNegative()) {
+            Thread.sleep(duration);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+
+    private static class Request {
+        private final String path;
+        private final Map<String, String> query;
+        private final boolean keepAlive;
+
+        Request(String path, Map<String, String> query, boolean keepAlive) {
+            this.path = path;
+            this.query = query;
+            this.keepAlive = keepAlive;
+        }
+    }
+}
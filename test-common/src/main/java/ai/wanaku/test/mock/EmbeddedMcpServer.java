@@ -0,0 +1,563 @@
+package ai.wanaku.test.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process MCP server speaking the Streamable HTTP transport, for tests that only need a few
+ * tools, resources and prompts and should not fork a Quarkus JVM.
+ *
+ * <p>Requests are served on virtual threads and the most recent ones are recorded, up to
+ * {@link #recordLimit(int)}. The server binds an ephemeral port, so hundreds of instances can run
+ * side by side in one JVM.
+ *
+ * <p>Usage example:
+ * <pre>
+ * try (EmbeddedMcpServer server = new EmbeddedMcpServer("downstream")
+ *         .tool("echo", "Echoes the message", (args, request) -&gt; args.path("message").asText())
+ *         .resource("file:///notes.txt", "notes", "text/plain", () -&gt; "hello")
+ *         .prompt("greet", "Greets someone", args -&gt; "Hello " + args.get("name"))
+ *         .start()) {
+ *     forwardsClient.add("downstream", server.getMcpUrl(), "default");
+ *     ...
+ *     assertThat(server.getRequests("tools/call")).hasSize(1);
+ * }
+ * </pre>
+ */
+public class EmbeddedMcpServer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddedMcpServer.class);
+
+    public static final String MCP_PATH = "/mcp";
+    public static final String DEFAULT_PROTOCOL_VERSION = "2025-03-26";
+    public static final int DEFAULT_RECORD_LIMIT = 10_000;
+
+    /**
+     * Produces the text result of a tool call. Throw {@link ToolError} for an {@code isError} result.
+     */
+    @FunctionalInterface
+    public interface ToolHandler {
+        String call(JsonNode arguments, RecordedRequest request) throws Exception;
+    }
+
+    /**
+     * Produces the text contents of a resource.
+     */
+    @FunctionalInterface
+    public interface ResourceHandler {
+        String read() throws Exception;
+    }
+
+    /**
+     * Produces the user message of a prompt.
+     */
+    @FunctionalInterface
+    public interface PromptHandler {
+        String render(Map<String, String> arguments) throws Exception;
+    }
+
+    /**
+     * Thrown by a {@link ToolHandler} to return a tool result with {@code isError: true}.
+     */
+    public static class ToolError extends RuntimeException {
+        public ToolError(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    // Tool arguments may carry strings beyond Jackson's default 20 MB limit
+    private final ObjectMapper objectMapper = new ObjectMapper(JsonFactory.builder()
+            .streamReadConstraints(StreamReadConstraints.builder()
+                    .maxStringLength(Integer.MAX_VALUE)
+                    .build())
+            .build());
+    private final Map<String, ToolEntry> tools = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, ResourceEntry> resources = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, PromptEntry> prompts = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final ConcurrentLinkedQueue<RecordedRequest> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean sessionsEnabled = true;
+    private volatile int recordLimit = DEFAULT_RECORD_LIMIT;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public EmbeddedMcpServer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Registers a tool without parameters.
+     */
+    public EmbeddedMcpServer tool(String toolName, String description, ToolHandler handler) {
+        return tool(toolName, description, Map.of(), handler);
+    }
+
+    /**
+     * Registers a tool whose string parameters are listed in its input schema.
+     *
+     * @param properties parameter names mapped to their descriptions
+     */
+    public EmbeddedMcpServer tool(
+            String toolName, String description, Map<String, String> properties, ToolHandler handler) {
+        tools.put(toolName, new ToolEntry(toolName, description, properties, handler));
+        return this;
+    }
+
+    public EmbeddedMcpServer removeTool(String toolName) {
+        tools.remove(toolName);
+        return this;
+    }
+
+    public EmbeddedMcpServer resource(String uri, String resourceName, String mimeType, ResourceHandler handler) {
+        resources.put(uri, new ResourceEntry(uri, resourceName, mimeType, handler));
+        return this;
+    }
+
+    /**
+     * Registers a prompt.
+     *
+     * @param arguments argument names, all reported as required
+     */
+    public EmbeddedMcpServer prompt(String promptName, String description, PromptHandler handler, String... arguments) {
+        prompts.put(promptName, new PromptEntry(promptName, description, List.of(arguments), handler));
+        return this;
+    }
+
+    /**
+     * Controls whether {@code initialize} issues an {@code Mcp-Session-Id} (default true).
+     */
+    public EmbeddedMcpServer sessions(boolean enabled) {
+        this.sessionsEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Sets how many requests are kept for {@link #getRequests()} (default
+     * {@value #DEFAULT_RECORD_LIMIT}); older ones are dropped first. 0 records none, which keeps
+     * long load runs and large payloads from accumulating in memory.
+     */
+    public EmbeddedMcpServer recordLimit(int limit) {
+        this.recordLimit = Math.max(0, limit);
+        return this;
+    }
+
+    /**
+     * Starts the server on an ephemeral port.
+     *
+     * @return this server
+     */
+    public EmbeddedMcpServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        LOG.debug("Embedded MCP server '{}' started on port {}", name, getPort());
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public String getMcpUrl() {
+        return getBaseUrl() + MCP_PATH;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the recorded requests, in arrival order.
+     */
+    public List<RecordedRequest> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    /**
+     * Returns the requests carrying the given JSON-RPC method.
+     */
+    public List<RecordedRequest> getRequests(String rpcMethod) {
+        return requests.stream().filter(r -> rpcMethod.equals(r.getRpcMethod())).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of requests received since the last {@link #clearRequests()}, including
+     * those no longer recorded.
+     */
+    public int getRequestCount() {
+        return received.get();
+    }
+
+    public void clearRequests() {
+        requests.clear();
+        recorded.set(0);
+        received.set(0);
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            LOG.debug("Embedded MCP server '{}' stopped", name);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String method = exchange.getRequestMethod();
+
+            JsonNode message = null;
+            if (!body.isBlank()) {
+                try {
+                    message = objectMapper.readTree(body);
+                } catch (IOException e) {
+                    LOG.debug("Unparseable request to '{}': {}", name, e.getMessage());
+                }
+            }
+            JsonNode first = message != null && message.isArray() && !message.isEmpty() ? message.get(0) : message;
+            RecordedRequest request = new RecordedRequest(
+                    Instant.now(),
+                    method,
+                    exchange.getRequestURI().getPath(),
+                    exchange.getRequestHeaders(),
+                    body,
+                    first != null && first.hasNonNull("method")
+                            ? first.get("method").asText()
+                            : null);
+            record(request);
+
+            switch (method) {
+                case "POST" -> handlePost(exchange, message, request);
+                case "DELETE" -> handleDelete(exchange, request);
+                default -> send(exchange, 405, null);
+            }
+        }
+    }
+
+    private void record(RecordedRequest request) {
+        received.incrementAndGet();
+        if (recordLimit == 0) {
+            return;
+        }
+        requests.add(request);
+        // Approximate under concurrency, which is enough to bound memory
+        if (recorded.incrementAndGet() > recordLimit && requests.poll() != null) {
+            recorded.decrementAndGet();
+        }
+    }
+
+    private void handleDelete(HttpExchange exchange, RecordedRequest request) throws IOException {
+        if (!sessionsEnabled) {
+            send(exchange, 405, null);
+            return;
+        }
+        String sessionId = request.getHeader("Mcp-Session-Id");
+        if (sessionId == null) {
+            send(exchange, 400, null);
+        } else {
+            send(exchange, sessions.remove(sessionId) ? 200 : 404, null);
+        }
+    }
+
+    private void handlePost(HttpExchange exchange, JsonNode message, RecordedRequest request) throws IOException {
+        if (message == null) {
+            send(exchange, 400, error(null, -32700, "Parse error"));
+            return;
+        }
+
+        String sessionId = request.getHeader("Mcp-Session-Id");
+        if (sessionsEnabled && !"initialize".equals(request.getRpcMethod())) {
+            if (sessionId == null) {
+                send(exchange, 400, error(null, -32000, "Missing Mcp-Session-Id header"));
+                return;
+            }
+            if (!sessions.contains(sessionId)) {
+                send(exchange, 404, error(null, -32001, "Session not found"));
+                return;
+            }
+        }
+
+        List<JsonNode> responses = new ArrayList<>();
+        if (message.isArray()) {
+            for (JsonNode entry : message) {
+                JsonNode response = dispatch(entry, request, exchange);
+                if (response != null) {
+                    responses.add(response);
+                }
+            }
+        } else {
+            JsonNode response = dispatch(message, request, exchange);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+
+        if (responses.isEmpty()) {
+            send(exchange, 202, null);
+        } else if (message.isArray()) {
+            ArrayNode batch = objectMapper.createArrayNode();
+            responses.forEach(batch::add);
+            send(exchange, 200, batch);
+        } else {
+            send(exchange, 200, responses.get(0));
+        }
+    }
+
+    private JsonNode dispatch(JsonNode message, RecordedRequest request, HttpExchange exchange) {
+        if (!message.has("id") || message.get("id").isNull()) {
+            return null;
+        }
+        JsonNode id = message.get("id");
+        String method = message.path("method").asText();
+        JsonNode params = message.path("params");
+
+        try {
+            return switch (method) {
+                case "initialize" -> result(id, initialize(params, exchange));
+                case "ping" -> result(id, objectMapper.createObjectNode());
+                case "tools/list" -> result(id, listTools());
+                case "tools/call" -> callTool(id, params, request);
+                case "resources/list" -> result(id, listResources());
+                case "resources/templates/list" ->
+                    result(
+                            id,
+                            objectMapper.createObjectNode().set("resourceTemplates", objectMapper.createArrayNode()));
+                case "resources/read" -> readResource(id, params);
+                case "prompts/list" -> result(id, listPrompts());
+                case "prompts/get" -> getPrompt(id, params);
+                default -> error(id, -32601, "Method not found: " + method);
+            };
+        } catch (Exception e) {
+            LOG.debug("Embedded MCP server '{}' failed on {}: {}", name, method, e.getMessage());
+            return error(id, -32603, "Internal error: " + e.getMessage());
+        }
+    }
+
+    private ObjectNode initialize(JsonNode params, HttpExchange exchange) {
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("protocolVersion", params.path("protocolVersion").asText(DEFAULT_PROTOCOL_VERSION));
+        ObjectNode capabilities = result.putObject("capabilities");
+        capabilities.putObject("tools");
+        capabilities.putObject("resources");
+        capabilities.putObject("prompts");
+        ObjectNode serverInfo = result.putObject("serverInfo");
+        serverInfo.put("name", name);
+        serverInfo.put("version", "1.0.0");
+
+        if (sessionsEnabled) {
+            String sessionId = UUID.randomUUID().toString();
+            sessions.add(sessionId);
+            exchange.getResponseHeaders().add("Mcp-Session-Id", sessionId);
+        }
+        return result;
+    }
+
+    private ObjectNode listTools() {
+        ObjectNode result = objectMapper.createObjectNode();
+        ArrayNode list = result.putArray("tools");
+        for (ToolEntry tool : snapshot(tools)) {
+            ObjectNode node = list.addObject();
+            node.put("name", tool.name);
+            node.put("description", tool.description);
+            ObjectNode schema = node.putObject("inputSchema");
+            schema.put("type", "object");
+            ObjectNode properties = schema.putObject("properties");
+            tool.properties.forEach((property, description) ->
+                    properties.putObject(property).put("type", "string").put("description", description));
+        }
+        return result;
+    }
+
+    private JsonNode callTool(JsonNode id, JsonNode params, RecordedRequest request) throws Exception {
+        String toolName = params.path("name").asText();
+        ToolEntry tool = tools.get(toolName);
+        if (tool == null) {
+            return error(id, -32602, "Unknown tool: " + toolName);
+        }
+
+        ObjectNode result = objectMapper.createObjectNode();
+        String text;
+        boolean isError = false;
+        try {
+            text = tool.handler.call(params.path("arguments"), request);
+        } catch (ToolError e) {
+            text = e.getMessage();
+            isError = true;
+        }
+        result.putArray("content").addObject().put("type", "text").put("text", text);
+        result.put("isError", isError);
+        return result(id, result);
+    }
+
+    private ObjectNode listResources() {
+        ObjectNode result = objectMapper.createObjectNode();
+        ArrayNode list = result.putArray("resources");
+        for (ResourceEntry resource : snapshot(resources)) {
+            list.addObject().put("uri", resource.uri).put("name", resource.name).put("mimeType", resource.mimeType);
+        }
+        return result;
+    }
+
+    private JsonNode readResource(JsonNode id, JsonNode params) throws Exception {
+        String uri = params.path("uri").asText();
+        ResourceEntry resource = resources.get(uri);
+        if (resource == null) {
+            return error(id, -32002, "Resource not found: " + uri);
+        }
+        ObjectNode result = objectMapper.createObjectNode();
+        result.putArray("contents")
+                .addObject()
+                .put("uri", uri)
+                .put("mimeType", resource.mimeType)
+                .put("text", resource.handler.read());
+        return result(id, result);
+    }
+
+    private ObjectNode listPrompts() {
+        ObjectNode result = objectMapper.createObjectNode();
+        ArrayNode list = result.putArray("prompts");
+        for (PromptEntry prompt : snapshot(prompts)) {
+            ObjectNode node = list.addObject();
+            node.put("name", prompt.name);
+            node.put("description", prompt.description);
+            ArrayNode arguments = node.putArray("arguments");
+            prompt.arguments.forEach(
+                    argument -> arguments.addObject().put("name", argument).put("required", true));
+        }
+        return result;
+    }
+
+    private JsonNode getPrompt(JsonNode id, JsonNode params) throws Exception {
+        String promptName = params.path("name").asText();
+        PromptEntry prompt = prompts.get(promptName);
+        if (prompt == null) {
+            return error(id, -32602, "Unknown prompt: " + promptName);
+        }
+        Map<String, String> arguments = new LinkedHashMap<>();
+        params.path("arguments")
+                .properties()
+                .forEach(e -> arguments.put(e.getKey(), e.getValue().asText()));
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("description", prompt.description);
+        ObjectNode message = result.putArray("messages").addObject();
+        message.put("role", "user");
+        message.putObject("content").put("type", "text").put("text", prompt.handler.render(arguments));
+        return result(id, result);
+    }
+
+    private ObjectNode result(JsonNode id, JsonNode result) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id);
+        response.set("result", result);
+        return response;
+    }
+
+    private ObjectNode error(JsonNode id, int code, String message) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id);
+        response.putObject("error").put("code", code).put("message", message);
+        return response;
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static <T> List<T> snapshot(Map<String, T> map) {
+        synchronized (map) {
+            return new ArrayList<>(map.values());
+        }
+    }
+
+    private static class ToolEntry {
+        private final String name;
+        private final String description;
+        private final Map<String, String> properties;
+        private final ToolHandler handler;
+
+        ToolEntry(String name, String description, Map<String, String> properties, ToolHandler handler) {
+            this.name = name;
+            this.description = description;
+            this.properties = properties;
+            this.handler = handler;
+        }
+    }
+
+    private static class ResourceEntry {
+        private final String uri;
+        private final String name;
+        private final String mimeType;
+        private final ResourceHandler handler;
+
+        ResourceEntry(String uri, String name, String mimeType, ResourceHandler handler) {
+            this.uri = uri;
+            this.name = name;
+            this.mimeType = mimeType;
+            this.handler = handler;
+        }
+    }
+
+    private static class PromptEntry {
+        private final String name;
+        private final String description;
+        private final List<String> arguments;
+        private final PromptHandler handler;
+
+        PromptEntry(String name, String description, List<String> arguments, PromptHandler handler) {
+            this.name = name;
+            this.description = description;
+            this.arguments = arguments;
+            this.handler = handler;
+        }
+    }
+}
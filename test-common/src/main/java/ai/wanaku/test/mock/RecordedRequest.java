@@ -0,0 +1,80 @@
+package ai.wanaku.test.mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An HTTP request received by an {@link EmbeddedMcpServer}, as seen on the wire.
+ */
+public class RecordedRequest {
+
+    private final Instant timestamp;
+    private final String httpMethod;
+    private final String path;
+    private final Map<String, List<String>> headers;
+    private final String body;
+    private final String rpcMethod;
+
+    RecordedRequest(
+            Instant timestamp,
+            String httpMethod,
+            String path,
+            Map<String, List<String>> headers,
+            String body,
+            String rpcMethod) {
+        this.timestamp = timestamp;
+        this.httpMethod = httpMethod;
+        this.path = path;
+        Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> copy.put(name, List.copyOf(values)));
+        this.headers = copy;
+        this.body = body;
+        this.rpcMethod = rpcMethod;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns all request headers; lookups are case-insensitive.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the first value of a header, or null.
+     */
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the JSON-RPC method of the request body, or null for non-JSON-RPC requests.
+     * Batches report the method of their first message.
+     */
+    public String getRpcMethod() {
+        return rpcMethod;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordedRequest{" + httpMethod + " " + path + ", rpcMethod=" + rpcMethod + "}";
+    }
+}
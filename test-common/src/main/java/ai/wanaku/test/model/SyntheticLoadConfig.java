@@ -0,0 +1,131 @@
+package ai.wanaku.test.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import ai.wanaku.test.load.LatencyDistribution;
+
+/**
+ * Behavior of the test MCP server's {@code syntheticLoad} tool.
+ *
+ * <p>The same settings can be sent per call as tool arguments ({@link #toToolArguments()}) or
+ * applied as server-wide defaults at launch ({@link #toSystemProperties()}, see
+ * {@link ai.wanaku.test.managers.MockMcpServerManager#setSyntheticLoadDefaults}). Unset values
+ * keep the server's defaults.
+ */
+public class SyntheticLoadConfig {
+
+    public static final String SYNTHETIC_LOAD_TOOL = "syntheticLoad";
+    public static final String SYNTHETIC_NOOP_TOOL = "syntheticNoop";
+    public static final String SYNTHETIC_STREAM_TOOL = "syntheticStream";
+
+    private Long latencyMs;
+    private LatencyDistribution distribution;
+    private Integer responseBytes;
+    private Long cpuBurnMs;
+    private Double failureRate;
+
+    private SyntheticLoadConfig() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the settings as {@code syntheticLoad} tool arguments.
+     */
+    public Map<String, Object> toToolArguments() {
+        Map<String, Object> args = new HashMap<>();
+        if (latencyMs != null) {
+            args.put("latencyMs", latencyMs);
+        }
+        if (distribution != null) {
+            args.put("distribution", distribution.wireName());
+        }
+        if (responseBytes != null) {
+            args.put("responseBytes", responseBytes);
+        }
+        if (cpuBurnMs != null) {
+            args.put("cpuBurnMs", cpuBurnMs);
+        }
+        if (failureRate != null) {
+            args.put("failureRate", failureRate);
+        }
+        return args;
+    }
+
+    /**
+     * Returns the settings as {@code synthetic.*} configuration properties of the test MCP server.
+     */
+    public Map<String, String> toSystemProperties() {
+        Map<String, String> props = new HashMap<>();
+        if (latencyMs != null) {
+            props.put("synthetic.latency-ms", String.valueOf(latencyMs));
+        }
+        if (distribution != null) {
+            props.put("synthetic.latency-distribution", distribution.wireName());
+        }
+        if (responseBytes != null) {
+            props.put("synthetic.response-bytes", String.valueOf(responseBytes));
+        }
+        if (cpuBurnMs != null) {
+            props.put("synthetic.cpu-burn-ms", String.valueOf(cpuBurnMs));
+        }
+        if (failureRate != null) {
+            props.put("synthetic.failure-rate", String.valueOf(failureRate));
+        }
+        return props;
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticLoadConfig" + toToolArguments();
+    }
+
+    public static class Builder {
+        private final SyntheticLoadConfig config = new SyntheticLoadConfig();
+
+        /**
+         * Sets the mean latency of a call.
+         */
+        public Builder latencyMs(long latencyMs) {
+            config.latencyMs = latencyMs;
+            return this;
+        }
+
+        /**
+         * Sets how the per-call latency is sampled around the mean.
+         */
+        public Builder distribution(LatencyDistribution distribution) {
+            config.distribution = distribution;
+            return this;
+        }
+
+        public Builder responseBytes(int responseBytes) {
+            config.responseBytes = responseBytes;
+            return this;
+        }
+
+        /**
+         * Sets the CPU time the server spins for on every call.
+         */
+        public Builder cpuBurnMs(long cpuBurnMs) {
+            config.cpuBurnMs = cpuBurnMs;
+            return this;
+        }
+
+        /**
+         * Sets the probability (0–1) that a call returns a tool error.
+         */
+        public Builder failureRate(double failureRate) {
+            config.failureRate = failureRate;
+            return this;
+        }
+
+        public SyntheticLoadConfig build() {
+            if (config.failureRate != null && (config.failureRate < 0 || config.failureRate > 1)) {
+                throw new IllegalStateException("Failure rate must be between 0 and 1");
+            }
+            return config;
+        }
+    }
+}
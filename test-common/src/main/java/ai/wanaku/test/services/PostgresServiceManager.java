@@ -1,19 +1,41 @@
 package ai.wanaku.test.services;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.postgresql.PostgreSQLContainer;
+import ai.wanaku.test.WanakuTestConstants;
 
 /**
  * Manages a PostgreSQL container lifecycle using Testcontainers.
  * Provides JDBC access and SQL execution for schema/data seeding.
+ *
+ * <p>Large datasets can be seeded once into a template database with
+ * {@link #createTemplate(String, Path)} and handed to each test as a cheap
+ * {@code CREATE DATABASE ... TEMPLATE} copy with {@link #cloneTemplate(String)}. A template
+ * remembers a hash of its seed SQL, so an unchanged template is not seeded again. With
+ * {@link #setReuse(boolean)} (or {@code -Dwanaku.test.postgres.reuse=true} plus
+ * {@code testcontainers.reuse.enable=true} in {@code ~/.testcontainers.properties}) the container
+ * and its templates outlive the JVM and are shared across modules. Template creation is serialized
+ * across JVMs with an advisory lock, and clones not dropped by the caller are dropped on
+ * {@link #stop()} so they do not pile up in a reused container.
  */
 public class PostgresServiceManager {
 
@@ -23,9 +45,13 @@ public class PostgresServiceManager {
     private static final String DEFAULT_USERNAME = "test";
     private static final String DEFAULT_PASSWORD = "test";
     private static final String DEFAULT_DATABASE = "testdb";
+    private static final String SEED_HASH_PREFIX = "seed-sha256:";
+    private static final Pattern DATABASE_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
 
+    private final Set<String> clones = ConcurrentHashMap.newKeySet();
     private PostgreSQLContainer container;
     private ManagerState state = ManagerState.STOPPED;
+    private boolean reuse = Boolean.getBoolean(WanakuTestConstants.PROP_POSTGRES_REUSE);
 
     public enum ManagerState {
         STOPPED,
@@ -48,11 +74,24 @@ public class PostgresServiceManager {
         container = new PostgreSQLContainer(DEFAULT_IMAGE)
                 .withDatabaseName(DEFAULT_DATABASE)
                 .withUsername(DEFAULT_USERNAME)
-                .withPassword(DEFAULT_PASSWORD);
+                .withPassword(DEFAULT_PASSWORD)
+                .withReuse(reuse);
         container.start();
 
         state = ManagerState.RUNNING;
-        LOG.debug("PostgreSQL started at {}:{}", getHost(), getPort());
+        LOG.debug("PostgreSQL started at {}:{} (reuse: {})", getHost(), getPort(), reuse);
+    }
+
+    /**
+     * Keeps the container running after {@link #stop()} so later runs and other modules attach
+     * to it, templates included. Must be set before {@link #start()}.
+     */
+    public void setReuse(boolean reuse) {
+        this.reuse = reuse;
+    }
+
+    public boolean isReuse() {
+        return reuse;
     }
 
     /**
@@ -64,12 +103,19 @@ public class PostgresServiceManager {
             return;
         }
 
+        if (reuse && isRunning()) {
+            // A reused container outlives this manager, its clones must not
+            dropClones();
+        }
         state = ManagerState.STOPPING;
         LOG.debug("Stopping PostgreSQL container");
 
         try {
-            container.stop();
+            if (!reuse) {
+                container.stop();
+            }
         } finally {
+            clones.clear();
             container = null;
             state = ManagerState.STOPPED;
             LOG.debug("PostgreSQL stopped");
@@ -84,6 +130,13 @@ public class PostgresServiceManager {
         return container.getJdbcUrl();
     }
 
+    /**
+     * Returns the JDBC URL of another database on the running container.
+     */
+    public String getJdbcUrl(String database) {
+        return "jdbc:postgresql://" + getHost() + ":" + getPort() + "/" + database;
+    }
+
     /**
      * Returns the database username.
      */
@@ -155,6 +208,192 @@ public class PostgresServiceManager {
         }
     }
 
+    /**
+     * Executes a SQL statement against another database on the running container.
+     *
+     * @param database the database name
+     * @param sql      the SQL to execute
+     */
+    public void executeSql(String database, String sql) {
+        ensureRunning();
+        LOG.debug("Executing SQL on {}: {}", database, sql);
+
+        try (Connection conn = DriverManager.getConnection(getJdbcUrl(database), getUsername(), getPassword());
+                Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute SQL on " + database + ": " + sql, e);
+        }
+    }
+
+    /**
+     * Seeds a template database from a SQL file, unless a template with the same name was already
+     * seeded from identical SQL.
+     *
+     * @param template the template database name
+     * @param seedSql  the path to the seed SQL file
+     * @return true if the template was (re)seeded, false if the existing one was kept
+     */
+    public boolean createTemplate(String template, Path seedSql) {
+        try {
+            return createTemplate(template, Files.readString(seedSql));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read SQL file: " + seedSql, e);
+        }
+    }
+
+    /**
+     * Seeds a template database from SQL, unless a template with the same name was already
+     * seeded from identical SQL. Datasets can be generated server-side, e.g. with
+     * {@code INSERT ... SELECT ... FROM generate_series(1, 5000000)}.
+     *
+     * @param template the template database name
+     * @param seedSql  the seed SQL
+     * @return true if the template was (re)seeded, false if the existing one was kept
+     */
+    public boolean createTemplate(String template, String seedSql) {
+        ensureRunning();
+        checkDatabaseName(template);
+        String seedHash = SEED_HASH_PREFIX + sha256(seedSql);
+
+        try (Connection admin = DriverManager.getConnection(getJdbcUrl(), getUsername(), getPassword());
+                Statement stmt = admin.createStatement()) {
+            // Modules sharing a reused container may seed the same template concurrently
+            lockTemplate(admin, template, true);
+            try {
+                return createTemplateLocked(admin, stmt, template, seedSql, seedHash);
+            } finally {
+                lockTemplate(admin, template, false);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create template database " + template, e);
+        }
+    }
+
+    private boolean createTemplateLocked(
+            Connection admin, Statement stmt, String template, String seedSql, String seedHash) throws SQLException {
+        String existing = templateSeedHash(admin, template);
+        if (seedHash.equals(existing)) {
+            LOG.info("Reusing template database {} (seed unchanged)", template);
+            return false;
+        }
+        if (existing != null) {
+            LOG.info("Seed for template database {} changed, reseeding", template);
+            stmt.execute("ALTER DATABASE " + template + " WITH IS_TEMPLATE false");
+        }
+        // Also removes a database of that name left behind by an interrupted seed
+        stmt.execute("DROP DATABASE IF EXISTS " + template + " WITH (FORCE)");
+
+        long start = System.nanoTime();
+        stmt.execute("CREATE DATABASE " + template);
+        try {
+            executeSql(template, seedSql);
+            stmt.execute("COMMENT ON DATABASE " + template + " IS '" + seedHash + "'");
+            // Last, so only a fully seeded database is ever marked as a template
+            stmt.execute("ALTER DATABASE " + template + " WITH IS_TEMPLATE true ALLOW_CONNECTIONS false");
+        } catch (SQLException | RuntimeException e) {
+            try {
+                stmt.execute("DROP DATABASE IF EXISTS " + template + " WITH (FORCE)");
+            } catch (SQLException dropFailure) {
+                e.addSuppressed(dropFailure);
+            }
+            throw e;
+        }
+        LOG.info("Seeded template database {} in {} ms", template, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Creates a fresh database as a copy of a template. Dropped on {@link #stop()} unless the caller
+     * drops it first.
+     *
+     * @param template the template database name
+     * @return the name of the new database
+     */
+    public String cloneTemplate(String template) {
+        checkDatabaseName(template);
+        String database =
+                template + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        cloneTemplate(template, database);
+        return database;
+    }
+
+    /**
+     * Creates (or recreates) a database as a copy of a template.
+     *
+     * @param template the template database name
+     * @param database the name of the database to create
+     */
+    public void cloneTemplate(String template, String database) {
+        checkDatabaseName(template);
+        checkDatabaseName(database);
+        dropDatabase(database);
+        long start = System.nanoTime();
+        executeSql("CREATE DATABASE " + database + " TEMPLATE " + template);
+        clones.add(database);
+        LOG.debug("Cloned template {} into {} in {} ms", template, database, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Drops a database if it exists, terminating open connections.
+     */
+    public void dropDatabase(String database) {
+        checkDatabaseName(database);
+        executeSql("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+        clones.remove(database);
+    }
+
+    private void dropClones() {
+        for (String database : List.copyOf(clones)) {
+            try {
+                dropDatabase(database);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to drop clone {}: {}", database, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Takes or releases the session-level advisory lock guarding a template. The lock is also
+     * released when the connection closes.
+     */
+    private static void lockTemplate(Connection admin, String template, boolean lock) throws SQLException {
+        String function = lock ? "pg_advisory_lock" : "pg_advisory_unlock";
+        try (PreparedStatement query = admin.prepareStatement("SELECT " + function + "(hashtext(?))")) {
+            query.setString(1, "wanaku-template:" + template);
+            query.execute();
+        }
+    }
+
+    private static String templateSeedHash(Connection admin, String template) throws SQLException {
+        try (PreparedStatement query = admin.prepareStatement(
+                "SELECT shobj_description(oid, 'pg_database') FROM pg_database WHERE datname = ? AND datistemplate")) {
+            query.setString(1, template);
+            try (ResultSet rs = query.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                String comment = rs.getString(1);
+                return comment != null ? comment : "";
+            }
+        }
+    }
+
+    private static void checkDatabaseName(String name) {
+        if (name == null || !DATABASE_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid database name: " + name);
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private void ensureRunning() {
         if (!isRunning()) {
             throw new IllegalStateException("PostgreSQL is not running");
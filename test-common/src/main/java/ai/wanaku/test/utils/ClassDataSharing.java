@@ -0,0 +1,181 @@
+package ai.wanaku.test.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ai.wanaku.test.WanakuTestConstants;
+
+/**
+ * Utility class for launching managed Java processes with an application class-data-sharing
+ * (AppCDS) archive.
+ *
+ * <p>Archives live under {@code target/cds/} and are named after the jar and a hash of its
+ * content, so a rebuilt artifact gets a fresh archive. A launch without an archive dumps one to a
+ * file of its own when the JVM exits ({@code -XX:ArchiveClassesAtExit}), which is then renamed into
+ * place, so parallel launches of the same jar never write or map a half-written archive; later
+ * launches map it and skip most class loading and verification. Enable with
+ * {@code -Dwanaku.test.cds=true}.
+ */
+public final class ClassDataSharing {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassDataSharing.class);
+
+    private static final Map<String, String> HASHES = new ConcurrentHashMap<>();
+
+    private ClassDataSharing() {
+        // Utility class
+    }
+
+    /**
+     * Returns true if CDS archives were requested for this run.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(WanakuTestConstants.PROP_CDS);
+    }
+
+    /**
+     * Returns the archive path for a jar.
+     *
+     * @param jar the application jar
+     * @return {@code target/cds/<jar name>-<content hash>.jsa}
+     */
+    public static Path archiveFor(Path jar) {
+        String fileName = jar.getFileName().toString();
+        String baseName = fileName.endsWith(".jar") ? fileName.substring(0, fileName.length() - 4) : fileName;
+        return Path.of(WanakuTestConstants.CDS_ARCHIVE_DIR, baseName + "-" + contentHash(jar) + ".jsa")
+                .toAbsolutePath();
+    }
+
+    /**
+     * Prepares a launch of the jar with its shared archive.
+     *
+     * @param jar the application jar
+     * @return the launch, whose options create the archive or use it
+     */
+    public static Launch launch(Path jar) {
+        return launch(jar, archiveFor(jar));
+    }
+
+    /**
+     * Prepares a launch of the jar with the given archive, e.g. a private one for a benchmark.
+     *
+     * @param jar     the application jar
+     * @param archive the archive to use, created by this launch if missing
+     * @return the launch, without options if the archive directory cannot be created
+     */
+    public static Launch launch(Path jar, Path archive) {
+        try {
+            Files.createDirectories(archive.getParent());
+        } catch (IOException e) {
+            LOG.warn("Cannot create CDS archive directory {}: {}", archive.getParent(), e.getMessage());
+            return new Launch(List.of(), archive, null);
+        }
+        // Older JVMs skip the unknown flags and start without CDS instead of failing
+        if (Files.exists(archive)) {
+            LOG.debug("Using CDS archive {} for {}", archive.getFileName(), jar.getFileName());
+            return new Launch(
+                    List.of("-XX:+IgnoreUnrecognizedVMOptions", "-XX:SharedArchiveFile=" + archive), archive, null);
+        }
+        Path pending = archive.resolveSibling(archive.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        LOG.debug("Creating CDS archive {} for {}", archive.getFileName(), jar.getFileName());
+        return new Launch(
+                List.of("-XX:+IgnoreUnrecognizedVMOptions", "-XX:ArchiveClassesAtExit=" + pending), archive, pending);
+    }
+
+    /**
+     * Returns true if the jar already has an archive.
+     */
+    public static boolean hasArchive(Path jar) {
+        return Files.exists(archiveFor(jar));
+    }
+
+    /**
+     * JVM options for one launch, and the archive it dumps at exit if there was none yet.
+     */
+    public static final class Launch {
+
+        private final List<String> options;
+        private final Path archive;
+        private final Path pending;
+
+        private Launch(List<String> options, Path archive, Path pending) {
+            this.options = options;
+            this.archive = archive;
+            this.pending = pending;
+        }
+
+        /**
+         * Returns the JVM options to add before {@code -jar}.
+         */
+        public List<String> options() {
+            return options;
+        }
+
+        /**
+         * Moves the archive the process dumps into place once it exits. A launch that found an
+         * archive has nothing to publish.
+         */
+        public void publishOnExit(Process process) {
+            if (pending != null) {
+                process.onExit().thenRun(this::publish);
+            }
+        }
+
+        private void publish() {
+            try {
+                if (Files.exists(pending) && Files.size(pending) > 0) {
+                    // Equivalent archives may race here; the last rename wins and readers never see a partial file
+                    Files.move(pending, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    LOG.debug("Created CDS archive {}", archive.getFileName());
+                } else {
+                    LOG.debug("No CDS archive dumped for {}", archive.getFileName());
+                }
+            } catch (IOException e) {
+                LOG.warn("Cannot publish CDS archive {}: {}", archive, e.getMessage());
+            } finally {
+                try {
+                    Files.deleteIfExists(pending);
+                } catch (IOException e) {
+                    LOG.debug("Cannot delete {}: {}", pending, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static String contentHash(Path jar) {
+        Path absolute = jar.toAbsolutePath().normalize();
+        String key;
+        try {
+            key = absolute + ":" + Files.size(absolute) + ":"
+                    + Files.getLastModifiedTime(absolute).toMillis();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read jar " + absolute, e);
+        }
+        return HASHES.computeIfAbsent(key, k -> sha256(absolute));
+    }
+
+    private static String sha256(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash " + file, e);
+        }
+    }
+}
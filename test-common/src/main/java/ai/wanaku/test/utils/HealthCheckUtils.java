@@ -96,10 +96,28 @@ public final class HealthCheckUtils {
      * @return true if the port became available within the timeout
      */
     public static boolean waitForPort(String host, int port, Duration timeout) {
+        return waitForPort(host, port, timeout, Duration.ofMillis(100));
+    }
+
+    /**
+     * Waits for a port to become available (listening).
+     *
+     * @param host     the host to check
+     * @param port     the port to check
+     * @param timeout  maximum time to wait
+     * @param interval time between connection attempts, which bounds how precisely a startup time
+     *                 measured with this method can be
+     * @return true if the port became available within the timeout
+     */
+    public static boolean waitForPort(String host, int port, Duration timeout, Duration interval) {
         LOG.debug("Waiting for port {}:{} (timeout: {}s)", host, port, timeout.toSeconds());
 
         try {
-            Awaitility.await().atMost(timeout).until(() -> isPortOpen(host, port));
+            Awaitility.await()
+                    .atMost(timeout)
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(interval)
+                    .until(() -> isPortOpen(host, port));
             LOG.debug("Port {}:{} is available", host, port);
             return true;
         } catch (ConditionTimeoutException e) {
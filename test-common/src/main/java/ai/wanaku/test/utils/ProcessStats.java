@@ -0,0 +1,83 @@
+package ai.wanaku.test.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility class for sampling resource usage of a managed process.
+ * Reads from {@code /proc} and therefore only reports memory and file descriptors on Linux;
+ * other platforms get {@code -1}.
+ */
+public final class ProcessStats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessStats.class);
+    private static final Path PROC = Path.of("/proc");
+
+    private ProcessStats() {
+        // Utility class
+    }
+
+    /**
+     * Returns the resident set size of a process.
+     *
+     * @param pid the process ID
+     * @return the RSS in bytes, or -1 if unavailable
+     */
+    public static long residentSetBytes(long pid) {
+        if (pid <= 0) {
+            return -1;
+        }
+        try {
+            List<String> lines =
+                    Files.readAllLines(PROC.resolve(String.valueOf(pid)).resolve("status"));
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    String[] parts = line.substring("VmRSS:".length()).trim().split("\\s+");
+                    return Long.parseLong(parts[0]) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.trace("Cannot read RSS for pid {}: {}", pid, e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of open file descriptors of a process.
+     *
+     * @param pid the process ID
+     * @return the descriptor count, or -1 if unavailable
+     */
+    public static int openFileDescriptors(long pid) {
+        if (pid <= 0) {
+            return -1;
+        }
+        try (Stream<Path> fds = Files.list(PROC.resolve(String.valueOf(pid)).resolve("fd"))) {
+            return (int) fds.count();
+        } catch (IOException e) {
+            LOG.trace("Cannot list file descriptors for pid {}: {}", pid, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the total CPU time consumed by a process.
+     *
+     * @param pid the process ID
+     * @return the CPU time, or {@link Duration#ZERO} if unavailable
+     */
+    public static Duration cpuTime(long pid) {
+        if (pid <= 0) {
+            return Duration.ZERO;
+        }
+        return ProcessHandle.of(pid)
+                .flatMap(handle -> handle.info().totalCpuDuration())
+                .orElse(Duration.ZERO);
+    }
+}
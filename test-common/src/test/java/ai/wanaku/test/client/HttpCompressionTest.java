@@ -0,0 +1,96 @@
+package ai.wanaku.test.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpCompressionTest {
+
+    private static final byte[] PAYLOAD =
+            "{\"jsonrpc\":\"2.0\",\"result\":{\"tools\":[]}}".repeat(50).getBytes(StandardCharsets.UTF_8);
+
+    @DisplayName("Decode gzip and deflate bodies, raw deflate included")
+    @Test
+    void shouldRoundTripBodies() throws Exception {
+        assertThat(HttpCompression.decode(gzip(PAYLOAD), "gzip")).isEqualTo(PAYLOAD);
+        assertThat(HttpCompression.decode(gzip(PAYLOAD), "x-gzip")).isEqualTo(PAYLOAD);
+        assertThat(HttpCompression.decode(deflate(PAYLOAD, false), "deflate")).isEqualTo(PAYLOAD);
+        assertThat(HttpCompression.decode(deflate(PAYLOAD, true), "deflate")).isEqualTo(PAYLOAD);
+        assertThat(HttpCompression.decode(PAYLOAD, (String) null)).isSameAs(PAYLOAD);
+    }
+
+    @DisplayName("Decode gzip and deflate streams by Content-Encoding")
+    @Test
+    void shouldRoundTripStreams() throws Exception {
+        assertThat(readStream(gzip(PAYLOAD), "gzip")).isEqualTo(PAYLOAD);
+        assertThat(readStream(deflate(PAYLOAD, false), "deflate")).isEqualTo(PAYLOAD);
+        assertThat(readStream(deflate(PAYLOAD, true), "deflate")).isEqualTo(PAYLOAD);
+        assertThat(readStream(PAYLOAD, "identity")).isEqualTo(PAYLOAD);
+    }
+
+    @DisplayName("Fail on a truncated body")
+    @Test
+    void shouldRejectTruncatedBody() throws Exception {
+        byte[] compressed = gzip(PAYLOAD);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThatThrownBy(() -> HttpCompression.decode(truncated, "gzip")).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @DisplayName("Honour weights and wildcards in Accept-Encoding")
+    @Test
+    void shouldHonourAcceptEncoding() {
+        assertThat(HttpCompression.accepts("gzip, deflate", "gzip")).isTrue();
+        assertThat(HttpCompression.accepts("GZIP;q=0.5", "gzip")).isTrue();
+        assertThat(HttpCompression.accepts("gzip;q=0", "gzip")).isFalse();
+        assertThat(HttpCompression.accepts("gzip; q=0.000", "gzip")).isFalse();
+        assertThat(HttpCompression.accepts("gzip;q=abc", "gzip")).isFalse();
+        assertThat(HttpCompression.accepts("*", "deflate")).isTrue();
+        assertThat(HttpCompression.accepts("*, gzip;q=0", "gzip")).isFalse();
+        assertThat(HttpCompression.accepts("*;q=0, gzip", "gzip")).isTrue();
+        assertThat(HttpCompression.accepts("br", "gzip")).isFalse();
+        assertThat(HttpCompression.accepts(null, "gzip")).isFalse();
+    }
+
+    private static byte[] readStream(byte[] body, String encoding) throws Exception {
+        HttpHeaders headers =
+                HttpHeaders.of(Map.of(HttpCompression.CONTENT_ENCODING, List.of(encoding)), (name, value) -> true);
+        try (InputStream in = HttpCompression.decode(new ByteArrayInputStream(body), headers)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data, boolean raw) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (OutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
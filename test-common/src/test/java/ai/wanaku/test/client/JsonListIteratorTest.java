@@ -0,0 +1,110 @@
+package ai.wanaku.test.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonListIteratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Read the data array of a wrapped response, skipping nulls")
+    @Test
+    void shouldReadWrappedArray() throws Exception {
+        TrackingStream body = body("{\"status\":\"ok\",\"data\":[{\"name\":\"a\"},null,{\"name\":\"b\"}]}");
+
+        try (JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body, Map.class, false)) {
+            assertThat(names(iterator)).containsExactly("a", "b");
+        }
+        assertThat(body.closed).isTrue();
+    }
+
+    @DisplayName("Read a bare array")
+    @Test
+    void shouldReadBareArray() throws Exception {
+        try (JsonListIterator<Map> iterator =
+                JsonListIterator.open(objectMapper, body("[{\"name\":\"a\"}]"), Map.class, false)) {
+            assertThat(names(iterator)).containsExactly("a");
+        }
+    }
+
+    @DisplayName("Return a data object as a single element only when asked to")
+    @Test
+    void shouldReadObjectAsElement() throws Exception {
+        String json = "{\"data\":{\"name\":\"a\"}}";
+        try (JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body(json), Map.class, true)) {
+            assertThat(names(iterator)).containsExactly("a");
+        }
+        try (JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body(json), Map.class, false)) {
+            assertThat(iterator.hasNext()).isFalse();
+        }
+    }
+
+    @DisplayName("Closing before the end closes the body")
+    @Test
+    void shouldCloseBodyOnEarlyClose() throws Exception {
+        TrackingStream body = body("{\"data\":[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]}");
+
+        JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body, Map.class, false);
+        assertThat(iterator.next()).containsEntry("name", "a");
+        assertThat(body.closed).isFalse();
+
+        iterator.close();
+        assertThat(body.closed).isTrue();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @DisplayName("Malformed input fails with UncheckedIOException and closes the body")
+    @Test
+    void shouldFailOnMalformedElement() throws Exception {
+        TrackingStream body = body("[{\"name\":\"a\"},{\"name\":");
+
+        JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body, Map.class, false);
+        assertThat(iterator.next()).containsEntry("name", "a");
+        assertThatThrownBy(iterator::hasNext).isInstanceOf(UncheckedIOException.class);
+        assertThat(body.closed).isTrue();
+    }
+
+    @DisplayName("A body that is neither an array nor an object is an empty list")
+    @Test
+    void shouldTreatScalarAsEmpty() throws Exception {
+        TrackingStream body = body("\"unexpected\"");
+
+        try (JsonListIterator<Map> iterator = JsonListIterator.open(objectMapper, body, Map.class, true)) {
+            assertThat(iterator.hasNext()).isFalse();
+        }
+        assertThat(body.closed).isTrue();
+    }
+
+    private static List<Object> names(JsonListIterator<Map> iterator) {
+        List<Object> names = new ArrayList<>();
+        iterator.forEachRemaining(element -> names.add(element.get("name")));
+        return names;
+    }
+
+    private static TrackingStream body(String json) {
+        return new TrackingStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class TrackingStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        TrackingStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
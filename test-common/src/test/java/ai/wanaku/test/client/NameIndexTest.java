@@ -0,0 +1,55 @@
+package ai.wanaku.test.client;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameIndexTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @DisplayName("A TTL of zero lists on every lookup")
+    @Test
+    void shouldListEveryTimeWithoutTtl() {
+        NameIndex index = new NameIndex(this::load, Duration.ZERO);
+
+        assertThat(index.contains("a")).isTrue();
+        assertThat(index.contains("z")).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("Reuse the names until the TTL expires")
+    @Test
+    void shouldReloadAfterTtl() throws InterruptedException {
+        Duration ttl = Duration.ofMillis(100);
+        NameIndex index = new NameIndex(this::load, ttl);
+
+        assertThat(index.contains("a")).isTrue();
+        assertThat(index.contains("b")).isTrue();
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(ttl.toMillis() * 2);
+        assertThat(index.contains("a")).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("Invalidating forces the next lookup to list again")
+    @Test
+    void shouldReloadAfterInvalidate() {
+        NameIndex index = new NameIndex(this::load, Duration.ofHours(1));
+
+        index.contains("a");
+        index.invalidate();
+        index.contains("a");
+        assertThat(loads).hasValue(2);
+    }
+
+    private Set<String> load() {
+        loads.incrementAndGet();
+        return Set.of("a", "b");
+    }
+}
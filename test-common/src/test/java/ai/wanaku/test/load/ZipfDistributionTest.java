@@ -0,0 +1,89 @@
+package ai.wanaku.test.load;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfDistributionTest {
+
+    private static final int DRAWS = 200_000;
+
+    @DisplayName("Rank frequencies follow 1 / (k + 1)^s")
+    @Test
+    void shouldDrawRanksInProportionToTheirProbability() {
+        ZipfDistribution zipf = new ZipfDistribution(10, 1.0);
+        int[] counts = draw(zipf, new Random(7));
+
+        double harmonic = 0;
+        for (int k = 1; k <= 10; k++) {
+            harmonic += 1.0 / k;
+        }
+        for (int rank = 0; rank < 10; rank++) {
+            double expected = 1.0 / (rank + 1) / harmonic;
+            assertThat(zipf.probability(rank)).isCloseTo(expected, within(1e-12));
+            assertThat(counts[rank] / (double) DRAWS)
+                    .as("Frequency of rank %d", rank)
+                    .isCloseTo(expected, within(0.01));
+        }
+        assertThat(zipf.headShare(2)).isCloseTo(1.5 / harmonic, within(1e-12));
+        assertThat(zipf.headShare(20)).isCloseTo(1.0, within(1e-12));
+    }
+
+    @DisplayName("An exponent of 0 is uniform")
+    @Test
+    void shouldBeUniformWithoutExponent() {
+        ZipfDistribution zipf = new ZipfDistribution(4, 0);
+        int[] counts = draw(zipf, new Random(7));
+
+        for (int rank = 0; rank < 4; rank++) {
+            assertThat(zipf.probability(rank)).isCloseTo(0.25, within(1e-12));
+            assertThat(counts[rank] / (double) DRAWS).isCloseTo(0.25, within(0.01));
+        }
+    }
+
+    @DisplayName("Reject an empty distribution or a negative exponent")
+    @Test
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfDistribution(5, -0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("Mixed workload ranks its catalog by seed and applies the configured exponent")
+    @Test
+    void shouldRankWorkloadCatalogBySeed() {
+        List<String> tools = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+        MixedWorkload first = workload(tools, 11);
+        MixedWorkload second = workload(tools, 11);
+
+        assertThat(first.getToolsByPopularity())
+                .containsExactlyInAnyOrderElementsOf(tools)
+                .isEqualTo(second.getToolsByPopularity());
+        assertThat(first.getToolPopularity().size()).isEqualTo(tools.size());
+        assertThat(first.getToolPopularity().getExponent()).isEqualTo(1.2);
+        assertThat(first.getToolPopularity().probability(0))
+                .isGreaterThan(first.getToolPopularity().probability(tools.size() - 1));
+    }
+
+    private static int[] draw(ZipfDistribution zipf, Random random) {
+        int[] counts = new int[zipf.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[zipf.sample(random)]++;
+        }
+        return counts;
+    }
+
+    private static MixedWorkload workload(List<String> tools, long seed) {
+        return MixedWorkload.builder()
+                .target("http://localhost:1/mcp")
+                .tools(tools)
+                .weight(MixedWorkload.Operation.TOOLS_CALL, 1)
+                .zipfExponent(1.2)
+                .seed(seed)
+                .build();
+    }
+}
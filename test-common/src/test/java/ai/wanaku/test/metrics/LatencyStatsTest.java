@@ -0,0 +1,63 @@
+package ai.wanaku.test.metrics;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyStatsTest {
+
+    @DisplayName("Percentiles use the nearest rank")
+    @Test
+    void shouldComputeNearestRankPercentiles() {
+        LatencyStats stats = new LatencyStats();
+        // Out of order, so the percentiles depend on sorting
+        for (int ms = 100; ms >= 1; ms--) {
+            stats.record(Duration.ofMillis(ms));
+        }
+
+        assertThat(stats.count()).isEqualTo(100);
+        assertThat(stats.p50Millis()).isEqualTo(50.0);
+        assertThat(stats.p95Millis()).isEqualTo(95.0);
+        assertThat(stats.p99Millis()).isEqualTo(99.0);
+        assertThat(stats.maxMillis()).isEqualTo(100.0);
+        assertThat(stats.percentileMillis(0)).isEqualTo(1.0);
+        assertThat(stats.meanMillis()).isCloseTo(50.5, within(1e-9));
+    }
+
+    @DisplayName("Recording after a percentile query is reflected in the next query")
+    @Test
+    void shouldResortAfterRecording() {
+        LatencyStats stats = new LatencyStats();
+        stats.record(Duration.ofMillis(10));
+        assertThat(stats.maxMillis()).isEqualTo(10.0);
+
+        stats.record(Duration.ofMillis(30));
+        assertThat(stats.maxMillis()).isEqualTo(30.0);
+    }
+
+    @DisplayName("Merging adds the other collector's samples")
+    @Test
+    void shouldMerge() {
+        LatencyStats first = new LatencyStats();
+        LatencyStats second = new LatencyStats();
+        first.record(Duration.ofMillis(1));
+        second.record(Duration.ofMillis(3));
+        second.record(Duration.ofMillis(2));
+
+        first.merge(second);
+        assertThat(first.count()).isEqualTo(3);
+        assertThat(first.p50Millis()).isEqualTo(2.0);
+    }
+
+    @DisplayName("An empty collector reports zero")
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        LatencyStats stats = new LatencyStats();
+
+        assertThat(stats.p99Millis()).isZero();
+        assertThat(stats.meanMillis()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package ai.wanaku.test.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LinearTrendTest {
+
+    @DisplayName("Fit the slope and intercept of a straight line")
+    @Test
+    void shouldFitExactLine() {
+        LinearTrend trend = LinearTrend.fit(new double[] {0, 1, 2, 3, 4}, new double[] {3, 5, 7, 9, 11});
+
+        assertThat(trend.getSampleCount()).isEqualTo(5);
+        assertThat(trend.getSlope()).isCloseTo(2.0, within(1e-9));
+        assertThat(trend.getIntercept()).isCloseTo(3.0, within(1e-9));
+        assertThat(trend.getRSquared()).isCloseTo(1.0, within(1e-9));
+        assertThat(trend.valueAt(10)).isCloseTo(23.0, within(1e-9));
+        // 2 per unit over 10 units, from a fitted value of 3 at 0
+        assertThat(trend.growthPercent(0, 10)).isCloseTo(2.0 * 10 * 100 / 3, within(1e-9));
+    }
+
+    @DisplayName("Noise around a flat line gives a small slope and a low R²")
+    @Test
+    void shouldFitNoisyFlatLine() {
+        LinearTrend trend = LinearTrend.fit(new double[] {0, 1, 2, 3, 4, 5}, new double[] {10, 12, 10, 12, 10, 12});
+
+        assertThat(trend.getSlope()).isCloseTo(3 / 17.5, within(1e-9));
+        assertThat(trend.getRSquared()).isLessThan(0.2);
+    }
+
+    @DisplayName("Fewer than two samples or constant positions give a flat trend")
+    @Test
+    void shouldBeFlatWithoutSpread() {
+        assertThat(LinearTrend.fit(new double[0], new double[0]).getSlope()).isZero();
+
+        LinearTrend single = LinearTrend.fit(new double[] {5}, new double[] {42});
+        assertThat(single.getSlope()).isZero();
+        assertThat(single.getIntercept()).isEqualTo(42.0);
+
+        LinearTrend sameX = LinearTrend.fit(new double[] {1, 1, 1}, new double[] {1, 2, 3});
+        assertThat(sameX.getSlope()).isZero();
+        assertThat(sameX.getIntercept()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @DisplayName("Reject series of different lengths")
+    @Test
+    void shouldRejectMismatchedSeries() {
+        assertThatThrownBy(() -> LinearTrend.fit(new double[] {1, 2}, new double[] {1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}